@@ -0,0 +1,140 @@
+package com.hongikgrad.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/*
+ * 크기/TTL 제한이 있는 LRU 캐시.
+ * 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap 을 두고 세그먼트 단위로만 잠근다.
+ */
+public class BoundedCache<K, V> {
+
+	private static final int SEGMENTS = 16;
+
+	private final Segment<K, V>[] segments;
+	private final long ttlNanos;
+	private final LongSupplier clock;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	public BoundedCache(int maxSize, long ttlMillis) {
+		this(maxSize, ttlMillis, System::nanoTime);
+	}
+
+	@SuppressWarnings("unchecked")
+	BoundedCache(int maxSize, long ttlMillis, LongSupplier clock) {
+		int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+		this.segments = new Segment[SEGMENTS];
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment<>(segmentSize, evictions);
+		}
+		this.ttlNanos = ttlMillis * 1_000_000L;
+		this.clock = clock;
+	}
+
+	/* 없거나 만료됐으면 null */
+	public V get(K key) {
+		Segment<K, V> segment = segmentOf(key);
+		long now = clock.getAsLong();
+		synchronized (segment) {
+			Timestamped<V> entry = segment.map.get(key);
+			if (entry == null) {
+				misses.increment();
+				return null;
+			}
+			if (now - entry.createdAt > ttlNanos) {
+				segment.map.remove(key);
+				expirations.increment();
+				misses.increment();
+				return null;
+			}
+			hits.increment();
+			return entry.value;
+		}
+	}
+
+	public void put(K key, V value) {
+		Segment<K, V> segment = segmentOf(key);
+		long now = clock.getAsLong();
+		synchronized (segment) {
+			segment.map.put(key, new Timestamped<>(value, now));
+		}
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.map.clear();
+			}
+		}
+	}
+
+	/* 만료된 항목 정리 */
+	public void purgeExpired() {
+		long now = clock.getAsLong();
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				Iterator<Timestamped<V>> iterator = segment.map.values().iterator();
+				while (iterator.hasNext()) {
+					if (now - iterator.next().createdAt > ttlNanos) {
+						iterator.remove();
+						expirations.increment();
+					}
+				}
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.map.size();
+			}
+		}
+		return size;
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(size(), hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+	}
+
+	private Segment<K, V> segmentOf(K key) {
+		int hash = key.hashCode();
+		hash ^= hash >>> 16;
+		return segments[hash & (SEGMENTS - 1)];
+	}
+
+	private static final class Timestamped<V> {
+		private final V value;
+		private final long createdAt;
+
+		private Timestamped(V value, long createdAt) {
+			this.value = value;
+			this.createdAt = createdAt;
+		}
+	}
+
+	private static final class Segment<K, V> {
+		private final LinkedHashMap<K, Timestamped<V>> map;
+
+		private Segment(int maxSize, LongAdder evictions) {
+			this.map = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<K, Timestamped<V>> eldest) {
+					if (size() > maxSize) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+	}
+}
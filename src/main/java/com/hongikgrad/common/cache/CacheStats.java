@@ -0,0 +1,19 @@
+package com.hongikgrad.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+	private int size;
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long expirations;
+
+	public double getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+}
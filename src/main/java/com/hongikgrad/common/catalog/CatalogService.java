@@ -0,0 +1,64 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.course.repository.CourseRepository;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import com.hongikgrad.major.entity.MajorHierarchy;
+import com.hongikgrad.major.repository.MajorCourseRepository;
+import com.hongikgrad.major.repository.MajorHierarchyRepository;
+import com.hongikgrad.major.repository.MajorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogService {
+
+	private final CourseRepository courseRepository;
+	private final MajorRepository majorRepository;
+	private final MajorCourseRepository majorCourseRepository;
+	private final MajorHierarchyRepository majorHierarchyRepository;
+
+	private volatile CatalogSnapshot snapshot;
+
+	@PostConstruct
+	public void init() {
+		refresh();
+	}
+
+	/* 요청 하나를 처리하는 동안에는 같은 스냅샷을 계속 사용해야 함 */
+	public CatalogSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/* 관리자 수정, 크롤링 이후 호출. 새 스냅샷을 다 만든 뒤에 한 번에 교체 */
+	@Transactional(readOnly = true)
+	public synchronized CatalogSnapshot refresh() {
+		long version = snapshot == null ? 1 : snapshot.getVersion() + 1;
+
+		List<CourseDto> courses = courseRepository.findAllCourseDtoWithId();
+		List<Major> majors = majorRepository.findAll();
+		List<MajorCourseIdDto> majorCourses = majorCourseRepository.findAllMajorCourseIds();
+		Map<Long, List<Long>> hierarchy = new HashMap<>();
+		for (MajorHierarchy majorHierarchy : majorHierarchyRepository.findAll()) {
+			if (majorHierarchy.getMaster() == null || majorHierarchy.getSlave() == null) continue;
+			hierarchy.computeIfAbsent(majorHierarchy.getMaster().getId(), id -> new ArrayList<>())
+					.add(majorHierarchy.getSlave().getId());
+		}
+
+		CatalogSnapshot built = new CatalogSnapshot(version, courses, majors, majorCourses, hierarchy);
+		// 검색 색인까지 만든 뒤에 교체해서, 교체 직후 요청이 색인을 만드느라 기다리지 않게 함
+		built.getSearchIndex();
+		built.getFacetIndex();
+		snapshot = built;
+		log.info("catalog snapshot v{} published: {} courses, {} majors", version, courses.size(), majors.size());
+		return built;
+	}
+}
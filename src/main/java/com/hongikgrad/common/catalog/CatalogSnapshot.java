@@ -0,0 +1,292 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.common.collection.IntIntHashMap;
+import com.hongikgrad.common.collection.IntObjectHashMap;
+import com.hongikgrad.common.search.CourseSearchIndex;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import com.hongikgrad.major.repository.MajorCourseFilter;
+
+import java.util.*;
+
+/*
+ * 과목/학과/전공과목/학과 계층을 한 번에 읽어 만든 불변 카탈로그.
+ * 생성 이후에는 수정되지 않으므로 여러 요청 스레드가 락 없이 공유한다.
+ * 밖으로 나가는 IntHashSet 들도 읽기 전용으로만 사용해야 한다.
+ * 과목마다 courses 목록의 위치를 순번(ordinal)으로 부여해서 비트셋 인덱스로 쓴다.
+ */
+public final class CatalogSnapshot {
+
+	private static final IntHashSet EMPTY_KEYS = new IntHashSet(0);
+
+	private final long version;
+
+	private final List<CourseDto> courses;
+	private final Map<Long, CourseDto> coursesById;
+	private final IntObjectHashMap<CourseDto> coursesByKey;
+	private final IntIntHashMap ordinalsByKey;
+
+	private final Map<Long, Major> majorsById;
+	private final Map<String, Major> majorsByCode;
+	private final List<Major> enableMajors;
+
+	// 학과 -> 전공과목 (id, 전필 여부 포함)
+	private final Map<Long, List<CourseDto>> majorCourses;
+	// 학과 -> 전공과목 (학과 정보 없는 기본 형태)
+	private final Map<Long, List<CourseDto>> plainMajorCourses;
+	// 학과 -> 전공필수 과목
+	private final Map<Long, List<CourseDto>> requiredCourses;
+	// 학과 -> 하위 학과
+	private final Map<Long, List<Long>> slaves;
+	// 학과 -> 하위 학과까지 합친 전공과목 (중복 제거)
+	private final Map<Long, List<CourseDto>> hierarchyMajorCourses;
+
+	// 위 목록들의 과목 키 집합
+	private final Map<Long, IntHashSet> majorCourseKeys;
+	private final Map<Long, IntHashSet> requiredCourseKeys;
+	private final Map<Long, IntHashSet> hierarchyMajorCourseKeys;
+
+	// 처음 검색할 때 생성
+	private volatile CourseSearchIndex searchIndex;
+	private volatile CourseFacetIndex facetIndex;
+
+	public CatalogSnapshot(long version,
+	                List<CourseDto> courseList,
+	                List<Major> majorList,
+	                List<MajorCourseIdDto> majorCourseList,
+	                Map<Long, List<Long>> hierarchy) {
+		this.version = version;
+		this.courses = List.copyOf(courseList);
+
+		Map<Long, CourseDto> coursesById = new HashMap<>();
+		IntObjectHashMap<CourseDto> coursesByKey = new IntObjectHashMap<>(courseList.size());
+		IntIntHashMap ordinalsByKey = new IntIntHashMap(courseList.size(), -1);
+		for (int ordinal = 0; ordinal < courses.size(); ordinal++) {
+			CourseDto course = courses.get(ordinal);
+			coursesById.put(course.getId(), course);
+			if (coursesByKey.putIfAbsent(course.getKey(), course) == null && course.getKey() != CourseKey.NONE) {
+				ordinalsByKey.put(course.getKey(), ordinal);
+			}
+		}
+		this.coursesById = coursesById;
+		this.coursesByKey = coursesByKey;
+		this.ordinalsByKey = ordinalsByKey;
+
+		Map<Long, Major> majorsById = new HashMap<>();
+		Map<String, Major> majorsByCode = new HashMap<>();
+		List<Major> enableMajors = new ArrayList<>();
+		for (Major major : majorList) {
+			// 영속성 컨텍스트와 분리된 사본만 보관
+			Major copy = new Major(major.getId(), major.getName(), major.getCode(), major.getCollege(), major.isEnable());
+			majorsById.put(copy.getId(), copy);
+			if (copy.getCode() != null) {
+				majorsByCode.putIfAbsent(copy.getCode(), copy);
+			}
+			if (copy.isEnable()) {
+				enableMajors.add(copy);
+			}
+		}
+		this.majorsById = majorsById;
+		this.majorsByCode = majorsByCode;
+		this.enableMajors = List.copyOf(enableMajors);
+
+		Map<Long, List<CourseDto>> majorCourses = new HashMap<>();
+		Map<Long, List<CourseDto>> plainMajorCourses = new HashMap<>();
+		Map<Long, List<CourseDto>> requiredCourses = new HashMap<>();
+		for (MajorCourseIdDto row : majorCourseList) {
+			CourseDto course = coursesById.get(row.getCourseId());
+			if (course == null) continue;
+			majorCourses.computeIfAbsent(row.getMajorId(), id -> new ArrayList<>())
+					.add(new CourseDto(course.getId(), course.getName(), course.getNumber(), course.getAbeek(), course.getCredit(), row.isRequired(), course.getSemester()));
+			CourseDto plain = toPlain(course);
+			plainMajorCourses.computeIfAbsent(row.getMajorId(), id -> new ArrayList<>()).add(plain);
+			if (row.isRequired()) {
+				requiredCourses.computeIfAbsent(row.getMajorId(), id -> new ArrayList<>()).add(plain);
+			}
+		}
+		this.majorCourses = freeze(majorCourses);
+		this.plainMajorCourses = freeze(plainMajorCourses);
+		this.requiredCourses = freeze(requiredCourses);
+
+		Map<Long, List<Long>> slaves = new HashMap<>();
+		hierarchy.forEach((masterId, slaveIds) -> slaves.put(masterId, List.copyOf(slaveIds)));
+		this.slaves = slaves;
+
+		Map<Long, List<CourseDto>> hierarchyMajorCourses = new HashMap<>();
+		for (Long majorId : majorsById.keySet()) {
+			List<CourseDto> union = new ArrayList<>(plainMajorCourses.getOrDefault(majorId, List.of()));
+			for (Long slaveId : slaves.getOrDefault(majorId, List.of())) {
+				union.addAll(plainMajorCourses.getOrDefault(slaveId, List.of()));
+			}
+			hierarchyMajorCourses.put(majorId, List.copyOf(CourseKey.distinct(union)));
+		}
+		this.hierarchyMajorCourses = hierarchyMajorCourses;
+
+		this.majorCourseKeys = toKeySets(this.plainMajorCourses);
+		this.requiredCourseKeys = toKeySets(this.requiredCourses);
+		this.hierarchyMajorCourseKeys = toKeySets(this.hierarchyMajorCourses);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<CourseDto> getCourses() {
+		return courses;
+	}
+
+	public int getCourseCount() {
+		return courses.size();
+	}
+
+	/* 카탈로그에 없는 과목이면 -1 */
+	public int ordinalOf(int courseKey) {
+		if (courseKey == CourseKey.NONE) return -1;
+		return ordinalsByKey.get(courseKey);
+	}
+
+	/* 과목 검색 색인, 스냅샷과 수명이 같음 */
+	public CourseSearchIndex getSearchIndex() {
+		CourseSearchIndex index = searchIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = searchIndex;
+				if (index == null) {
+					index = new CourseSearchIndex(courses, offeringCounts());
+					searchIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/* 조건 조회 색인, 스냅샷과 수명이 같음 */
+	public CourseFacetIndex getFacetIndex() {
+		CourseFacetIndex index = facetIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = facetIndex;
+				if (index == null) {
+					index = new CourseFacetIndex(this, hierarchyMajorCourses, requiredCourses);
+					facetIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/* 과목별 개설 학과 수, 자동완성 인기도로 사용 */
+	private int[] offeringCounts() {
+		int[] counts = new int[courses.size()];
+		for (List<CourseDto> majorCourseList : plainMajorCourses.values()) {
+			for (CourseDto course : majorCourseList) {
+				int ordinal = ordinalOf(course.getKey());
+				if (ordinal >= 0) counts[ordinal]++;
+			}
+		}
+		return counts;
+	}
+
+	public CourseDto courseAt(int ordinal) {
+		return courses.get(ordinal);
+	}
+
+	public CourseDto findCourseById(Long courseId) {
+		return coursesById.get(courseId);
+	}
+
+	public CourseDto findCourse(String number, int credit) {
+		return findCourseByKey(CourseKey.of(number, credit));
+	}
+
+	public CourseDto findCourseByKey(int courseKey) {
+		if (courseKey == CourseKey.NONE) return null;
+		return coursesByKey.get(courseKey);
+	}
+
+	public Major findMajorById(Long majorId) {
+		return majorsById.get(majorId);
+	}
+
+	public Major findMajorByCode(String majorCode) {
+		return majorsByCode.get(majorCode);
+	}
+
+	public List<Major> getEnableMajors() {
+		return enableMajors;
+	}
+
+	public List<Long> findSlaveIdsByMasterId(Long masterId) {
+		return slaves.getOrDefault(masterId, List.of());
+	}
+
+	/* 관리자 화면용, 과목 id와 전필 여부 포함 */
+	public List<CourseDto> findCourseDtosByMajorId(Long majorId) {
+		return majorCourses.getOrDefault(majorId, List.of());
+	}
+
+	public List<CourseDto> findCourseDtosByMajor(Major major) {
+		if (major == null) return List.of();
+		return plainMajorCourses.getOrDefault(major.getId(), List.of());
+	}
+
+	public List<CourseDto> findRequiredCoursesByMajor(Major major) {
+		if (major == null) return List.of();
+		return requiredCourses.getOrDefault(major.getId(), List.of());
+	}
+
+	/* 최근 두 학기에 개설된 전공필수 과목 */
+	public List<CourseDto> findRequiredMajorCoursesByMajorId(Long majorId, String... semesters) {
+		List<String> semesterList = List.of(semesters);
+		List<CourseDto> result = new ArrayList<>();
+		for (CourseDto course : majorCourses.getOrDefault(majorId, List.of())) {
+			if (course.isRequired() && semesterList.contains(course.getSemester())) {
+				result.add(new CourseDto(course.getId(), course.getName(), course.getNumber(), course.getAbeek(), course.getCredit(), course.getSemester()));
+			}
+		}
+		return result;
+	}
+
+	/* 하위 학과까지 포함한 전공과목, 학번별로 빠지는 과목 제외 */
+	public List<CourseDto> findAllMajorCoursesByMaster(Major master, int enterYear) {
+		if (master == null) return new ArrayList<>();
+		List<CourseDto> majorCourseList = new ArrayList<>(hierarchyMajorCourses.getOrDefault(master.getId(), List.of()));
+		MajorCourseFilter.filterMajorCourse(master, enterYear, majorCourseList);
+		return majorCourseList;
+	}
+
+	/* 학과에 직접 등록된 전공과목 키 */
+	public IntHashSet getMajorCourseKeys(Long majorId) {
+		return majorCourseKeys.getOrDefault(majorId, EMPTY_KEYS);
+	}
+
+	public IntHashSet getRequiredCourseKeys(Major major) {
+		if (major == null) return EMPTY_KEYS;
+		return requiredCourseKeys.getOrDefault(major.getId(), EMPTY_KEYS);
+	}
+
+	/* findAllMajorCoursesByMaster 와 같은 기준의 전공과목 여부, 목록을 만들지 않음 */
+	public boolean isMajorCourse(Major master, int enterYear, int courseKey) {
+		if (master == null) return false;
+		return hierarchyMajorCourseKeys.getOrDefault(master.getId(), EMPTY_KEYS).contains(courseKey)
+				&& !MajorCourseFilter.isFiltered(master, enterYear, courseKey);
+	}
+
+	private static Map<Long, IntHashSet> toKeySets(Map<Long, List<CourseDto>> map) {
+		Map<Long, IntHashSet> keySets = new HashMap<>();
+		map.forEach((key, value) -> keySets.put(key, CourseKey.keySet(value)));
+		return keySets;
+	}
+
+	private static CourseDto toPlain(CourseDto course) {
+		return new CourseDto(course.getName(), course.getNumber(), course.getAbeek(), course.getCredit(), course.getSemester());
+	}
+
+	private static Map<Long, List<CourseDto>> freeze(Map<Long, List<CourseDto>> map) {
+		Map<Long, List<CourseDto>> frozen = new HashMap<>();
+		map.forEach((key, value) -> frozen.put(key, List.copyOf(value)));
+		return frozen;
+	}
+}
@@ -0,0 +1,188 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.course.dto.CourseQueryDto;
+import com.hongikgrad.course.dto.CourseQueryResultDto;
+import com.hongikgrad.major.entity.Major;
+import com.hongikgrad.major.repository.MajorCourseFilter;
+
+import java.util.*;
+
+/*
+ * 과목 순번 비트셋으로 만든 조건별 색인 (영역, 학점, 개설 학기, 학과 전공과목, 전공필수).
+ * 조회는 조건마다 값들의 비트셋을 OR 하고 조건끼리 AND 하며, DB 를 읽지 않는다.
+ * 조건별 개수는 그 조건만 뺀 교집합에 값 비트셋을 AND 해서 센다.
+ */
+public final class CourseFacetIndex {
+
+	public static final String ABEEK = "abeek";
+	public static final String CREDIT = "credit";
+	public static final String SEMESTER = "semester";
+	public static final String REQUIRED = "required";
+
+	private static final int DEFAULT_SIZE = 100;
+	private static final int MAX_SIZE = 500;
+
+	private final CatalogSnapshot catalog;
+	private final int courseCount;
+	private final Map<String, OrdinalBitSet> abeeks;
+	private final Map<String, OrdinalBitSet> credits;
+	private final Map<String, OrdinalBitSet> semesters;
+	// 학과 -> 하위 학과까지 합친 전공과목 / 학과 전공필수
+	private final Map<Long, OrdinalBitSet> majorCourses;
+	private final Map<Long, OrdinalBitSet> requiredCourses;
+
+	CourseFacetIndex(CatalogSnapshot catalog, Map<Long, List<CourseDto>> hierarchyMajorCourses, Map<Long, List<CourseDto>> requiredCourses) {
+		this.catalog = catalog;
+		this.courseCount = catalog.getCourseCount();
+		Map<String, OrdinalBitSet> abeeks = new TreeMap<>();
+		Map<String, OrdinalBitSet> credits = new TreeMap<>(Comparator.comparingInt((String credit) -> Integer.parseInt(credit)));
+		Map<String, OrdinalBitSet> semesters = new TreeMap<>(Comparator.reverseOrder());
+		for (int ordinal = 0; ordinal < courseCount; ordinal++) {
+			CourseDto course = catalog.courseAt(ordinal);
+			if (course.getAbeek() != null) bitSet(abeeks, course.getAbeek()).set(ordinal);
+			bitSet(credits, String.valueOf(course.getCredit())).set(ordinal);
+			if (course.getSemester() != null) bitSet(semesters, course.getSemester()).set(ordinal);
+		}
+		this.abeeks = abeeks;
+		this.credits = credits;
+		this.semesters = semesters;
+		this.majorCourses = toBitSets(hierarchyMajorCourses);
+		this.requiredCourses = toBitSets(requiredCourses);
+	}
+
+	/* nameMatches: 과목명 조건 결과, 조건이 없으면 null */
+	public CourseQueryResultDto query(CourseQueryDto query, OrdinalBitSet nameMatches) {
+		// 조건 이름 -> 조건 비트셋 (걸린 조건만)
+		Map<String, OrdinalBitSet> filters = new LinkedHashMap<>();
+		putIfPresent(filters, ABEEK, union(abeeks, query.getAbeek()));
+		putIfPresent(filters, CREDIT, union(credits, query.getCredit() == null ? null : toStrings(query.getCredit())));
+		putIfPresent(filters, SEMESTER, union(semesters, query.getSemester()));
+		OrdinalBitSet major = null;
+		if (query.getMajorId() != null) {
+			major = majorFilter(query.getMajorId(), query.getEnterYear());
+			filters.put("major", major);
+		}
+		if (query.getRequired() != null) {
+			if (major == null) throw new IllegalArgumentException("required filter needs majorId");
+			filters.put(REQUIRED, requiredFilter(query.getMajorId(), major, query.getRequired()));
+		}
+		putIfPresent(filters, "name", nameMatches);
+
+		OrdinalBitSet result = intersect(filters, null);
+		Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+		facets.put(ABEEK, counts(abeeks, intersect(filters, ABEEK)));
+		facets.put(CREDIT, counts(credits, intersect(filters, CREDIT)));
+		facets.put(SEMESTER, counts(semesters, intersect(filters, SEMESTER)));
+		if (major != null) {
+			OrdinalBitSet withoutRequired = intersect(filters, REQUIRED);
+			OrdinalBitSet required = requiredFilter(query.getMajorId(), major, true);
+			Map<String, Integer> requiredCounts = new LinkedHashMap<>();
+			int requiredCount = withoutRequired.andCardinality(required);
+			requiredCounts.put("true", requiredCount);
+			requiredCounts.put("false", withoutRequired.cardinality() - requiredCount);
+			facets.put(REQUIRED, requiredCounts);
+		}
+
+		int size = Math.min(query.getSize() == null ? DEFAULT_SIZE : query.getSize(), MAX_SIZE);
+		List<CourseDto> courses = new ArrayList<>();
+		int skipped = 0;
+		for (int ordinal = result.nextSetBit(0); ordinal >= 0 && courses.size() < size; ordinal = result.nextSetBit(ordinal + 1)) {
+			if (skipped++ < query.getOffset()) continue;
+			courses.add(catalog.courseAt(ordinal));
+		}
+		return new CourseQueryResultDto(result.cardinality(), courses, facets);
+	}
+
+	private OrdinalBitSet majorFilter(Long majorId, Integer enterYear) {
+		OrdinalBitSet courses = majorCourses.get(majorId);
+		if (courses == null) return new OrdinalBitSet(courseCount);
+		Major master = catalog.findMajorById(majorId);
+		if (enterYear == null || master == null) return courses;
+		// 학번별로 빠지는 과목은 몇 개뿐이라 복사해서 지움
+		OrdinalBitSet filtered = courses.copy();
+		for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+			if (MajorCourseFilter.isFiltered(master, enterYear, catalog.courseAt(ordinal).getKey())) filtered.clear(ordinal);
+		}
+		return filtered;
+	}
+
+	private OrdinalBitSet requiredFilter(Long majorId, OrdinalBitSet major, boolean required) {
+		OrdinalBitSet requiredCourses = this.requiredCourses.get(majorId);
+		OrdinalBitSet result = major.copy();
+		if (requiredCourses == null) {
+			return required ? new OrdinalBitSet(courseCount) : result;
+		}
+		if (required) {
+			result.and(requiredCourses);
+		} else {
+			result.andNot(requiredCourses);
+		}
+		return result;
+	}
+
+	/* except 조건만 빼고 AND, 조건이 없으면 전체 */
+	private OrdinalBitSet intersect(Map<String, OrdinalBitSet> filters, String except) {
+		OrdinalBitSet result = null;
+		for (Map.Entry<String, OrdinalBitSet> filter : filters.entrySet()) {
+			if (filter.getKey().equals(except)) continue;
+			if (result == null) {
+				result = filter.getValue().copy();
+			} else {
+				result.and(filter.getValue());
+			}
+		}
+		if (result == null) {
+			result = new OrdinalBitSet(courseCount);
+			for (int ordinal = 0; ordinal < courseCount; ordinal++) result.set(ordinal);
+		}
+		return result;
+	}
+
+	private static Map<String, Integer> counts(Map<String, OrdinalBitSet> facet, OrdinalBitSet scope) {
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		facet.forEach((value, courses) -> {
+			int count = scope.andCardinality(courses);
+			if (count > 0) counts.put(value, count);
+		});
+		return counts;
+	}
+
+	private OrdinalBitSet union(Map<String, OrdinalBitSet> facet, List<String> values) {
+		if (values == null || values.isEmpty()) return null;
+		OrdinalBitSet result = new OrdinalBitSet(courseCount);
+		for (String value : values) {
+			OrdinalBitSet courses = facet.get(value);
+			if (courses != null) result.or(courses);
+		}
+		return result;
+	}
+
+	private Map<Long, OrdinalBitSet> toBitSets(Map<Long, List<CourseDto>> coursesByMajor) {
+		Map<Long, OrdinalBitSet> bitSets = new HashMap<>();
+		coursesByMajor.forEach((majorId, courses) -> {
+			OrdinalBitSet bitSet = new OrdinalBitSet(courseCount);
+			for (CourseDto course : courses) {
+				int ordinal = catalog.ordinalOf(course.getKey());
+				if (ordinal >= 0) bitSet.set(ordinal);
+			}
+			bitSets.put(majorId, bitSet);
+		});
+		return bitSets;
+	}
+
+	private OrdinalBitSet bitSet(Map<String, OrdinalBitSet> facet, String value) {
+		return facet.computeIfAbsent(value, key -> new OrdinalBitSet(courseCount));
+	}
+
+	private static void putIfPresent(Map<String, OrdinalBitSet> filters, String name, OrdinalBitSet filter) {
+		if (filter != null) filters.put(name, filter);
+	}
+
+	private static List<String> toStrings(List<Integer> values) {
+		List<String> strings = new ArrayList<>(values.size());
+		for (Integer value : values) strings.add(String.valueOf(value));
+		return strings;
+	}
+}
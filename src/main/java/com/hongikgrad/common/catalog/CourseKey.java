@@ -0,0 +1,90 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.course.dto.CourseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 학수번호(6자리 숫자) + 학점을 int 하나로 묶은 과목 키.
+ * 상위 비트에 학수번호, 하위 8비트에 학점이 들어간다.
+ * 문자열을 만들지 않고 비교/해시가 가능해서 과목 집합 연산에 사용한다.
+ */
+public final class CourseKey {
+
+	public static final int NONE = -1;
+
+	private static final int CREDIT_BITS = 8;
+	private static final int CREDIT_MASK = (1 << CREDIT_BITS) - 1;
+
+	private CourseKey() {
+	}
+
+	/* 학수번호가 6자리 숫자가 아니면 NONE */
+	public static int of(String number, int credit) {
+		int parsed = parseNumber(number);
+		if (parsed < 0 || credit < 0 || credit > CREDIT_MASK) return NONE;
+		return (parsed << CREDIT_BITS) | credit;
+	}
+
+	public static int of(CourseDto course) {
+		return course.getKey();
+	}
+
+	/* 학점과 상관없이 학수번호만 비교할 때 */
+	public static int parseNumber(String number) {
+		if (number == null || number.length() != 6) return NONE;
+		int parsed = 0;
+		for (int i = 0; i < 6; i++) {
+			char c = number.charAt(i);
+			if (c < '0' || c > '9') return NONE;
+			parsed = parsed * 10 + (c - '0');
+		}
+		return parsed;
+	}
+
+	public static int numberOf(int key) {
+		return key >>> CREDIT_BITS;
+	}
+
+	public static int creditOf(int key) {
+		return key & CREDIT_MASK;
+	}
+
+	public static String numberString(int key) {
+		String number = Integer.toString(numberOf(key));
+		return "000000".substring(number.length()) + number;
+	}
+
+	/* 학수번호 목록 -> 번호 집합 */
+	public static IntHashSet numberSet(String... numbers) {
+		IntHashSet set = new IntHashSet(numbers.length);
+		for (String number : numbers) {
+			set.add(parseNumber(number));
+		}
+		return set;
+	}
+
+	/* 과목 목록 -> 키 집합 */
+	public static IntHashSet keySet(List<CourseDto> courses) {
+		IntHashSet set = new IntHashSet(courses.size());
+		for (CourseDto course : courses) {
+			set.add(course.getKey());
+		}
+		return set;
+	}
+
+	/* 학수번호+학점 기준 중복 제거, 처음 나온 순서 유지 */
+	public static List<CourseDto> distinct(List<CourseDto> courses) {
+		IntHashSet seen = new IntHashSet(courses.size());
+		List<CourseDto> result = new ArrayList<>(courses.size());
+		for (CourseDto course : courses) {
+			int key = course.getKey();
+			if (key == NONE ? !result.contains(course) : seen.add(key)) {
+				result.add(course);
+			}
+		}
+		return result;
+	}
+}
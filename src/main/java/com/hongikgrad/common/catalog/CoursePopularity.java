@@ -0,0 +1,62 @@
+package com.hongikgrad.common.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 과목 키(학수번호+학점)별 인기도: 검색 결과 클릭, 졸업요건 판정에 들어간 과목 수.
+ * 카탈로그가 바뀌어도 키는 그대로라 스냅샷과 따로 들고 있는다.
+ * 과목마다 LongAdder 라서 여러 요청 스레드가 락 없이 센다. 재시작하면 0 부터.
+ * 순위 검색은 카탈로그 버전마다 한 번 고정한 값(snapshotOf)을 써서 커서로 넘기는 사이 점수가 바뀌지 않게 한다.
+ */
+@Component
+public class CoursePopularity {
+
+	private final ConcurrentHashMap<Integer, LongAdder> counts = new ConcurrentHashMap<>();
+	private volatile Frozen frozen;
+
+	public void record(int courseKey) {
+		if (courseKey == CourseKey.NONE) return;
+		LongAdder count = counts.get(courseKey);
+		if (count == null) {
+			count = counts.computeIfAbsent(courseKey, key -> new LongAdder());
+		}
+		count.increment();
+	}
+
+	public long get(int courseKey) {
+		LongAdder count = counts.get(courseKey);
+		return count == null ? 0 : count.sum();
+	}
+
+	/* 과목 순번 -> 인기도, 같은 카탈로그 버전이면 처음 고정한 배열을 그대로 (수정 금지) */
+	public long[] snapshotOf(CatalogSnapshot catalog) {
+		Frozen current = frozen;
+		if (current == null || current.version != catalog.getVersion()) {
+			synchronized (this) {
+				current = frozen;
+				if (current == null || current.version != catalog.getVersion()) {
+					long[] values = new long[catalog.getCourseCount()];
+					for (int ordinal = 0; ordinal < values.length; ordinal++) {
+						values[ordinal] = get(catalog.courseAt(ordinal).getKey());
+					}
+					current = new Frozen(catalog.getVersion(), values);
+					frozen = current;
+				}
+			}
+		}
+		return current.values;
+	}
+
+	private static final class Frozen {
+		private final long version;
+		private final long[] values;
+
+		Frozen(long version, long[] values) {
+			this.version = version;
+			this.values = values;
+		}
+	}
+}
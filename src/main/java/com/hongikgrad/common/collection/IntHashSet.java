@@ -0,0 +1,157 @@
+package com.hongikgrad.common.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/*
+ * int 전용 해시셋. 박싱 없이 contains 가 가능해서 졸업요건 계산처럼
+ * 같은 집합을 수십 번 조회하는 곳에서 사용한다.
+ * open addressing + linear probing, 0 은 빈 칸 표시로 쓰기 때문에 따로 관리한다.
+ */
+public class IntHashSet {
+
+	private static final int FREE = 0;
+
+	private int[] table;
+	private int mask;
+	private int size;
+	private boolean hasFree;
+
+	public IntHashSet() {
+		this(16);
+	}
+
+	public IntHashSet(int expectedSize) {
+		int capacity = tableSizeFor(Math.max(4, expectedSize * 2));
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+	}
+
+	public static IntHashSet of(int... values) {
+		IntHashSet set = new IntHashSet(values.length);
+		for (int value : values) {
+			set.add(value);
+		}
+		return set;
+	}
+
+	public boolean add(int value) {
+		if (value == FREE) {
+			if (hasFree) return false;
+			hasFree = true;
+			size++;
+			return true;
+		}
+		int index = slot(value);
+		while (table[index] != FREE) {
+			if (table[index] == value) return false;
+			index = (index + 1) & mask;
+		}
+		table[index] = value;
+		size++;
+		if (size * 2 > table.length) {
+			rehash(table.length * 2);
+		}
+		return true;
+	}
+
+	public void addAll(IntHashSet other) {
+		other.forEach(this::add);
+	}
+
+	public boolean contains(int value) {
+		if (value == FREE) return hasFree;
+		int index = slot(value);
+		int current;
+		while ((current = table[index]) != FREE) {
+			if (current == value) return true;
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public boolean remove(int value) {
+		if (value == FREE) {
+			if (!hasFree) return false;
+			hasFree = false;
+			size--;
+			return true;
+		}
+		int index = slot(value);
+		while (table[index] != FREE) {
+			if (table[index] == value) {
+				table[index] = FREE;
+				size--;
+				shiftBack(index);
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void forEach(IntConsumer action) {
+		if (hasFree) action.accept(FREE);
+		for (int value : table) {
+			if (value != FREE) action.accept(value);
+		}
+	}
+
+	public int[] toSortedArray() {
+		int[] result = new int[size];
+		int index = 0;
+		if (hasFree) result[index++] = FREE;
+		for (int value : table) {
+			if (value != FREE) result[index++] = value;
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	/* 삭제된 칸 뒤에 밀려 있던 값들을 제자리로 당겨 probing 체인을 유지 */
+	private void shiftBack(int freed) {
+		int index = (freed + 1) & mask;
+		int current;
+		while ((current = table[index]) != FREE) {
+			int home = slot(current);
+			if (((index - home) & mask) >= ((index - freed) & mask)) {
+				table[freed] = current;
+				table[index] = FREE;
+				freed = index;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	private void rehash(int capacity) {
+		int[] old = table;
+		table = new int[capacity];
+		mask = capacity - 1;
+		for (int value : old) {
+			if (value == FREE) continue;
+			int index = slot(value);
+			while (table[index] != FREE) {
+				index = (index + 1) & mask;
+			}
+			table[index] = value;
+		}
+	}
+
+	private int slot(int value) {
+		int hash = value * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		int n = Integer.highestOneBit(capacity - 1) << 1;
+		return Math.max(n, 4);
+	}
+}
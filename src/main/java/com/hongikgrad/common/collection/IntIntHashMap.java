@@ -0,0 +1,95 @@
+package com.hongikgrad.common.collection;
+
+/* int -> int 맵. 없는 키는 missingValue 반환 */
+public class IntIntHashMap {
+
+	private static final int FREE = 0;
+
+	private final int missingValue;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size;
+	private int freeValue;
+	private boolean hasFree;
+
+	public IntIntHashMap(int expectedSize, int missingValue) {
+		int capacity = Math.max(4, Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1);
+		this.keys = new int[capacity];
+		this.values = new int[capacity];
+		this.mask = capacity - 1;
+		this.missingValue = missingValue;
+	}
+
+	public void put(int key, int value) {
+		if (key == FREE) {
+			if (!hasFree) size++;
+			hasFree = true;
+			freeValue = value;
+			return;
+		}
+		int index = slot(key);
+		while (keys[index] != FREE) {
+			if (keys[index] == key) {
+				values[index] = value;
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+		if (size * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+	}
+
+	public int get(int key) {
+		if (key == FREE) return hasFree ? freeValue : missingValue;
+		int index = slot(key);
+		int current;
+		while ((current = keys[index]) != FREE) {
+			if (current == key) return values[index];
+			index = (index + 1) & mask;
+		}
+		return missingValue;
+	}
+
+	public boolean containsKey(int key) {
+		if (key == FREE) return hasFree;
+		int index = slot(key);
+		int current;
+		while ((current = keys[index]) != FREE) {
+			if (current == key) return true;
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == FREE) continue;
+			int index = slot(oldKeys[i]);
+			while (keys[index] != FREE) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = oldKeys[i];
+			values[index] = oldValues[i];
+		}
+	}
+
+	private int slot(int key) {
+		int hash = key * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+}
@@ -0,0 +1,115 @@
+package com.hongikgrad.common.collection;
+
+import java.util.function.Consumer;
+
+/* int 키 -> 객체 맵. 조회 시 Integer 박싱이 생기지 않음 */
+public class IntObjectHashMap<V> {
+
+	private static final int FREE = 0;
+
+	private int[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private V freeValue;
+	private boolean hasFree;
+
+	public IntObjectHashMap() {
+		this(16);
+	}
+
+	public IntObjectHashMap(int expectedSize) {
+		int capacity = Math.max(4, Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1);
+		this.keys = new int[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+
+	public V put(int key, V value) {
+		if (key == FREE) {
+			V old = freeValue;
+			if (!hasFree) size++;
+			hasFree = true;
+			freeValue = value;
+			return old;
+		}
+		int index = slot(key);
+		while (keys[index] != FREE) {
+			if (keys[index] == key) {
+				V old = valueAt(index);
+				values[index] = value;
+				return old;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+		if (size * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		return null;
+	}
+
+	public V putIfAbsent(int key, V value) {
+		V current = get(key);
+		if (current == null) {
+			put(key, value);
+		}
+		return current;
+	}
+
+	public V get(int key) {
+		if (key == FREE) return hasFree ? freeValue : null;
+		int index = slot(key);
+		int current;
+		while ((current = keys[index]) != FREE) {
+			if (current == key) return valueAt(index);
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	public boolean containsKey(int key) {
+		if (key == FREE) return hasFree;
+		return get(key) != null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void forEachValue(Consumer<V> action) {
+		if (hasFree) action.accept(freeValue);
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != FREE) action.accept(valueAt(i));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int index) {
+		return (V) values[index];
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == FREE) continue;
+			int index = slot(oldKeys[i]);
+			while (keys[index] != FREE) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = oldKeys[i];
+			values[index] = oldValues[i];
+		}
+	}
+
+	private int slot(int key) {
+		int hash = key * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+}
@@ -0,0 +1,131 @@
+package com.hongikgrad.common.collection;
+
+import java.util.Arrays;
+
+/*
+ * 카탈로그 과목 순번(ordinal) 기준 고정 크기 비트셋.
+ * java.util.BitSet 과 달리 AND 결과의 개수를 새 객체 없이 바로 셀 수 있다.
+ */
+public class OrdinalBitSet {
+
+	private final long[] words;
+	private final int size;
+
+	public OrdinalBitSet(int size) {
+		this.size = size;
+		this.words = new long[(size + 63) >>> 6];
+	}
+
+	private OrdinalBitSet(int size, long[] words) {
+		this.size = size;
+		this.words = words;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void set(int ordinal) {
+		words[ordinal >>> 6] |= 1L << ordinal;
+	}
+
+	public void clear(int ordinal) {
+		words[ordinal >>> 6] &= ~(1L << ordinal);
+	}
+
+	public boolean get(int ordinal) {
+		return ordinal >= 0 && ordinal < size && (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+	}
+
+	public void or(OrdinalBitSet other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= other.words[i];
+		}
+	}
+
+	public void and(OrdinalBitSet other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= other.words[i];
+		}
+	}
+
+	public void andNot(OrdinalBitSet other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= ~other.words[i];
+		}
+	}
+
+	public int cardinality() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/* |this & other| */
+	public int andCardinality(OrdinalBitSet other) {
+		int count = 0;
+		for (int i = 0; i < words.length; i++) {
+			count += Long.bitCount(words[i] & other.words[i]);
+		}
+		return count;
+	}
+
+	public boolean intersects(OrdinalBitSet other) {
+		for (int i = 0; i < words.length; i++) {
+			if ((words[i] & other.words[i]) != 0) return true;
+		}
+		return false;
+	}
+
+	/* other 의 비트가 모두 this 에 있는지 */
+	public boolean containsAll(OrdinalBitSet other) {
+		for (int i = 0; i < words.length; i++) {
+			if ((other.words[i] & ~words[i]) != 0) return false;
+		}
+		return true;
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) return false;
+		}
+		return true;
+	}
+
+	/* from 이상에서 처음 켜진 비트, 없으면 -1 */
+	public int nextSetBit(int from) {
+		if (from >= size) return -1;
+		int index = from >>> 6;
+		long word = words[index] & (-1L << from);
+		while (true) {
+			if (word != 0) {
+				int ordinal = (index << 6) + Long.numberOfTrailingZeros(word);
+				return ordinal < size ? ordinal : -1;
+			}
+			if (++index == words.length) return -1;
+			word = words[index];
+		}
+	}
+
+	public OrdinalBitSet copy() {
+		return new OrdinalBitSet(size, words.clone());
+	}
+
+	public static OrdinalBitSet and(OrdinalBitSet a, OrdinalBitSet b) {
+		OrdinalBitSet result = a.copy();
+		result.and(b);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof OrdinalBitSet && ((OrdinalBitSet) o).size == size && Arrays.equals(((OrdinalBitSet) o).words, words);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(words);
+	}
+}
@@ -4,6 +4,7 @@ import com.hongikgrad.course.dto.CrawlingCourseDto;
 import com.hongikgrad.course.dto.CrawlingCourseListDto;
 import com.hongikgrad.course.exception.InvalidDocumentException;
 import lombok.RequiredArgsConstructor;
+import org.jsoup.Connection;
 import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
@@ -15,9 +16,31 @@ import static org.jsoup.Connection.Method.*;
 @Component
 @RequiredArgsConstructor
 public class CourseCrawler extends Crawler {
-    public CrawlingCourseListDto getCoursesFromTimeTable(Map<String, String> data) throws IOException, IndexOutOfBoundsException, InvalidDocumentException {
-        Element tbody = getParsedTimeTableBody(data);
-        return getCoursesFromTbody(tbody);
+
+    private static final String TIME_TABLE_URL = "https://sugang.hongik.ac.kr/cn50001.jsp";
+
+    private final HostRateLimiter hostRateLimiter;
+
+    /*
+     * 여러 워커가 동시에 호출, 시간표 사이트로 보내는 요청은 호스트 속도 제한을 따름.
+     * etag / lastModified 가 있으면 조건부 요청을 보내고, 304 면 notModified 페이지를 반환
+     */
+    public TimeTablePage getTimeTablePage(Map<String, String> data, String etag, String lastModified) throws IOException, InvalidDocumentException, InterruptedException {
+        hostRateLimiter.acquire(TIME_TABLE_URL);
+        Map<String, String> headers = getHeaders();
+        if (etag != null) headers.put("If-None-Match", etag);
+        if (lastModified != null) headers.put("If-Modified-Since", lastModified);
+        Connection.Response response = getJsoupResponse(TIME_TABLE_URL, null, headers, data, POST);
+        int bytes = response.bodyAsBytes().length;
+        if (response.statusCode() == 304) {
+            return TimeTablePage.notModified(bytes, etag, lastModified);
+        }
+        Element table = Objects.requireNonNull(response.parse().body().getElementById("select_list"));
+        return TimeTablePage.of(bytes, response.header("ETag"), response.header("Last-Modified"), table);
+    }
+
+    public CrawlingCourseListDto getCourses(TimeTablePage page) throws IndexOutOfBoundsException {
+        return getCoursesFromTbody(page.getTable().child(0));
     }
 
     private CrawlingCourseListDto getCoursesFromTbody(Element tbody) throws IndexOutOfBoundsException {
@@ -62,9 +85,4 @@ public class CourseCrawler extends Crawler {
         if(courseNumber.length() < 6) return false;
         return courseNumber.substring(0, 6).matches("[0-9]{6}");
     }
-
-    private Element getParsedTimeTableBody(Map<String, String> data) throws InvalidDocumentException, IOException {
-        String TIME_TABLE_URL = "https://sugang.hongik.ac.kr/cn50001.jsp";
-        return Objects.requireNonNull(getJsoupResponseDocument(TIME_TABLE_URL, null, getHeaders(), data, POST).body().getElementById("select_list")).child(0);
-    }
 }
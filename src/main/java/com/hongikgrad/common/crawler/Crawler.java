@@ -69,6 +69,10 @@ public class Crawler {
         return getResponseByJsoup(url, cookies, headers, data, method).cookies();
     }
 
+    public Connection.Response getJsoupResponse(String url, Map<String, String> cookies, Map<String, String> headers, Map<String, String> data, Connection.Method method) throws InvalidDocumentException {
+        return getResponseByJsoup(url, cookies, headers, data, method);
+    }
+
     public Document getJsoupResponseDocument(String url, Map<String, String> cookies, Map<String, String> headers, Map<String, String> data, Connection.Method method) throws InvalidDocumentException {
         try {
             return getResponseByJsoup(url, cookies, headers, data, method).parse();
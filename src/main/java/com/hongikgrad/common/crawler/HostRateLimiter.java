@@ -0,0 +1,25 @@
+package com.hongikgrad.common.crawler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 호스트마다 토큰 버킷 하나, 크롤링 워커 수와 상관없이 호스트에 보내는 요청 속도를 제한 */
+@Component
+public class HostRateLimiter {
+
+	@Value("${crawler.requests-per-second:5}")
+	private double requestsPerSecond;
+
+	@Value("${crawler.burst:5}")
+	private int burst;
+
+	private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	public void acquire(String url) throws InterruptedException {
+		String host = URI.create(url).getHost();
+		buckets.computeIfAbsent(host, key -> new TokenBucket(requestsPerSecond, burst)).acquire();
+	}
+}
@@ -0,0 +1,87 @@
+package com.hongikgrad.common.crawler;
+
+import org.jsoup.nodes.Element;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+ * 시간표 사이트 응답 한 건. 304 면 table 이 없고,
+ * 아니면 select_list 표와 그 지문을 들고 있어서 과목 파싱 전에 지난번과 같은지 볼 수 있다.
+ */
+public final class TimeTablePage {
+
+	private final boolean notModified;
+	private final long bytes;
+	private final String etag;
+	private final String lastModified;
+	private final Element table;
+	private final String fingerprint;
+
+	private TimeTablePage(boolean notModified, long bytes, String etag, String lastModified, Element table) {
+		this.notModified = notModified;
+		this.bytes = bytes;
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.table = table;
+		this.fingerprint = table == null ? null : fingerprint(table);
+	}
+
+	static TimeTablePage notModified(long bytes, String etag, String lastModified) {
+		return new TimeTablePage(true, bytes, etag, lastModified, null);
+	}
+
+	static TimeTablePage of(long bytes, String etag, String lastModified, Element table) {
+		return new TimeTablePage(false, bytes, etag, lastModified, table);
+	}
+
+	public boolean isNotModified() {
+		return notModified;
+	}
+
+	public long getBytes() {
+		return bytes;
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	Element getTable() {
+		return table;
+	}
+
+	/* 304 면 null */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/* 행마다 셀 텍스트(공백 정리)를 탭으로 이어 붙여 해시. 태그 속성, 들여쓰기 차이는 무시 */
+	static String fingerprint(Element table) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		StringBuilder row = new StringBuilder();
+		for (Element tr : table.select("tr")) {
+			row.setLength(0);
+			for (Element cell : tr.children()) {
+				row.append(cell.text()).append('\t');
+			}
+			row.append('\n');
+			digest.update(row.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		StringBuilder hex = new StringBuilder(64);
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+}
@@ -0,0 +1,49 @@
+package com.hongikgrad.common.crawler;
+
+import java.util.function.LongSupplier;
+
+/*
+ * 초당 rate 개씩 채워지고 최대 capacity 개까지 쌓이는 토큰 버킷.
+ * acquire 는 토큰이 생길 때까지 호출한 스레드를 재운다 (여러 워커가 공유).
+ */
+public class TokenBucket {
+
+	private final double capacity;
+	private final double tokensPerNano;
+	private final LongSupplier clock;
+
+	private double tokens;
+	private long lastRefill;
+
+	public TokenBucket(double ratePerSecond, int capacity) {
+		this(ratePerSecond, capacity, System::nanoTime);
+	}
+
+	TokenBucket(double ratePerSecond, int capacity, LongSupplier clock) {
+		if (ratePerSecond <= 0 || capacity <= 0) throw new IllegalArgumentException("rate and capacity must be positive");
+		this.capacity = capacity;
+		this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+		this.clock = clock;
+		this.tokens = capacity;
+		this.lastRefill = clock.getAsLong();
+	}
+
+	public void acquire() throws InterruptedException {
+		long waitNanos;
+		while ((waitNanos = tryAcquire()) > 0) {
+			Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+		}
+	}
+
+	/* 토큰을 가져가면 0, 아니면 다음 토큰까지 남은 시간 */
+	synchronized long tryAcquire() {
+		long now = clock.getAsLong();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+	}
+}
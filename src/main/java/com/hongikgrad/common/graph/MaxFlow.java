@@ -0,0 +1,111 @@
+package com.hongikgrad.common.graph;
+
+import java.util.Arrays;
+
+/*
+ * Dinic 최대 유량. 간선은 배열 기반 인접 리스트로 들고 있어서 객체 할당이 거의 없다.
+ * 과목 -> 영역 배정처럼 정점 100개, 간선 수백 개 규모를 요청마다 새로 만들어 쓰는 용도.
+ */
+public class MaxFlow {
+
+	private final int nodeCount;
+	private final int[] head;
+	private final int[] level;
+	private final int[] iterator;
+	private final int[] queue;
+
+	private int[] next;
+	private int[] to;
+	private int[] capacity;
+	private int[] original;
+	private int edgeCount;
+
+	public MaxFlow(int nodeCount, int expectedEdges) {
+		this.nodeCount = nodeCount;
+		this.head = new int[nodeCount];
+		Arrays.fill(head, -1);
+		this.level = new int[nodeCount];
+		this.iterator = new int[nodeCount];
+		this.queue = new int[nodeCount];
+		int size = Math.max(4, expectedEdges * 2);
+		this.next = new int[size];
+		this.to = new int[size];
+		this.capacity = new int[size];
+		this.original = new int[size];
+	}
+
+	/* 정방향 간선 번호를 반환, flow(edge) 로 흐른 양을 확인 */
+	public int addEdge(int from, int target, int edgeCapacity) {
+		if (edgeCount + 2 > next.length) {
+			int size = next.length * 2;
+			next = Arrays.copyOf(next, size);
+			to = Arrays.copyOf(to, size);
+			capacity = Arrays.copyOf(capacity, size);
+			original = Arrays.copyOf(original, size);
+		}
+		int edge = edgeCount;
+		link(from, target, edgeCapacity);
+		link(target, from, 0);
+		return edge;
+	}
+
+	private void link(int from, int target, int edgeCapacity) {
+		to[edgeCount] = target;
+		capacity[edgeCount] = edgeCapacity;
+		original[edgeCount] = edgeCapacity;
+		next[edgeCount] = head[from];
+		head[from] = edgeCount++;
+	}
+
+	public int flow(int edge) {
+		return original[edge] - capacity[edge];
+	}
+
+	public long maxFlow(int source, int sink) {
+		long total = 0;
+		while (buildLevels(source, sink)) {
+			System.arraycopy(head, 0, iterator, 0, nodeCount);
+			int pushed;
+			while ((pushed = push(source, sink, Integer.MAX_VALUE)) > 0) {
+				total += pushed;
+			}
+		}
+		return total;
+	}
+
+	private boolean buildLevels(int source, int sink) {
+		Arrays.fill(level, -1);
+		level[source] = 0;
+		int read = 0;
+		int write = 0;
+		queue[write++] = source;
+		while (read < write) {
+			int node = queue[read++];
+			for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+				if (capacity[edge] > 0 && level[to[edge]] < 0) {
+					level[to[edge]] = level[node] + 1;
+					queue[write++] = to[edge];
+				}
+			}
+		}
+		return level[sink] >= 0;
+	}
+
+	/* 레벨 그래프 위의 증가 경로 하나, 재귀 깊이는 레벨 수 (이분 그래프면 3) */
+	private int push(int node, int sink, int limit) {
+		if (node == sink) return limit;
+		for (; iterator[node] >= 0; iterator[node] = next[iterator[node]]) {
+			int edge = iterator[node];
+			int target = to[edge];
+			if (capacity[edge] > 0 && level[target] == level[node] + 1) {
+				int pushed = push(target, sink, Math.min(limit, capacity[edge]));
+				if (pushed > 0) {
+					capacity[edge] -= pushed;
+					capacity[edge ^ 1] += pushed;
+					return pushed;
+				}
+			}
+		}
+		return 0;
+	}
+}
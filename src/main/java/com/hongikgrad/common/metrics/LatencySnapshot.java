@@ -0,0 +1,16 @@
+package com.hongikgrad.common.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 단위는 마이크로초 */
+@Getter
+@AllArgsConstructor
+public class LatencySnapshot {
+	private long count;
+	private long meanMicros;
+	private long p50Micros;
+	private long p95Micros;
+	private long p99Micros;
+	private long maxMicros;
+}
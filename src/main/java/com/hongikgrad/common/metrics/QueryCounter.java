@@ -0,0 +1,22 @@
+package com.hongikgrad.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+ * 스레드별 Hibernate SQL 실행 횟수. 측정 구간 앞뒤로 current() 를 읽어 차이를 본다.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록.
+ */
+public class QueryCounter implements StatementInspector {
+
+	private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+
+	public static long current() {
+		return COUNT.get()[0];
+	}
+}
@@ -0,0 +1,121 @@
+package com.hongikgrad.common.search;
+
+import java.util.Arrays;
+
+/*
+ * 접두어 자동완성 트라이. 노드마다 그 아래 문서 중 순위가 높은 k 개를 미리 골라 두어서
+ * 검색은 접두어 길이만큼 내려가기만 한다.
+ * 순위는 rank[문서] 가 작을수록 높음. build() 이후에는 읽기 전용.
+ */
+public final class AutocompleteTrie {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final int k;
+	private final int[] rank;
+	private final Node root = new Node();
+	private boolean built;
+
+	public AutocompleteTrie(int k, int[] rank) {
+		this.k = k;
+		this.rank = rank;
+	}
+
+	/* 같은 문서를 여러 키로 넣어도 결과에는 한 번만 나옴 */
+	public void insert(String key, int document) {
+		if (built) throw new IllegalStateException("already built");
+		Node node = root;
+		for (int i = 0; i < key.length(); i++) {
+			node = node.childOrCreate(key.charAt(i));
+		}
+		node.addTerminal(document);
+	}
+
+	public AutocompleteTrie build() {
+		collectTop(root);
+		built = true;
+		return this;
+	}
+
+	/* 순위 순서, 최대 min(limit, k) 개. 반환 배열은 공유되므로 수정하지 않는다 */
+	public int[] complete(String prefix, int limit) {
+		Node node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = node.child(prefix.charAt(i));
+		}
+		if (node == null || node.top == null) return EMPTY;
+		return node.top.length <= limit ? node.top : Arrays.copyOf(node.top, limit);
+	}
+
+	/* 자식들의 top 과 이 노드에서 끝나는 문서를 합쳐 상위 k 개 */
+	private int[] collectTop(Node node) {
+		int total = node.terminalCount;
+		int[][] childTops = new int[node.childCount][];
+		for (int i = 0; i < node.childCount; i++) {
+			childTops[i] = collectTop(node.children[i]);
+			total += childTops[i].length;
+		}
+		int[] candidates = Arrays.copyOf(node.terminals == null ? EMPTY : node.terminals, total);
+		int count = node.terminalCount;
+		for (int[] childTop : childTops) {
+			System.arraycopy(childTop, 0, candidates, count, childTop.length);
+			count += childTop.length;
+		}
+		// rank 로 정렬: (rank, 문서) 를 long 으로 묶어 박싱 없이
+		long[] keyed = new long[count];
+		for (int i = 0; i < count; i++) {
+			keyed[i] = ((long) rank[candidates[i]] << 32) | candidates[i];
+		}
+		Arrays.sort(keyed);
+		int[] top = new int[Math.min(k, count)];
+		int size = 0;
+		for (int i = 0; i < count && size < top.length; i++) {
+			if (i > 0 && keyed[i] == keyed[i - 1]) continue;
+			top[size++] = (int) keyed[i];
+		}
+		node.top = size == top.length ? top : Arrays.copyOf(top, size);
+		node.terminals = null;
+		return node.top;
+	}
+
+	private static final class Node {
+		private char[] keys;
+		private Node[] children;
+		private int childCount;
+		private int[] terminals;
+		private int terminalCount;
+		private int[] top;
+
+		private Node child(char c) {
+			for (int i = 0; i < childCount; i++) {
+				if (keys[i] == c) return children[i];
+			}
+			return null;
+		}
+
+		private Node childOrCreate(char c) {
+			Node child = child(c);
+			if (child != null) return child;
+			if (keys == null) {
+				keys = new char[2];
+				children = new Node[2];
+			} else if (childCount == keys.length) {
+				keys = Arrays.copyOf(keys, childCount * 2);
+				children = Arrays.copyOf(children, childCount * 2);
+			}
+			child = new Node();
+			keys[childCount] = c;
+			children[childCount++] = child;
+			return child;
+		}
+
+		private void addTerminal(int document) {
+			if (terminals == null) {
+				terminals = new int[1];
+			} else if (terminalCount == terminals.length) {
+				terminals = Arrays.copyOf(terminals, terminalCount * 2);
+			}
+			terminals[terminalCount++] = document;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.hongikgrad.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * 편집 거리(Levenshtein) BK-tree. 키는 자모열이라 한 음절 안의 오타는 거리 1 이 된다 (조 -> 죠).
+ * 자식은 부모와의 거리로 나뉘므로 거리 d 인 노드에서 d-r ~ d+r 자식만 내려간다.
+ * 자식과의 최대 거리 + r 을 넘는 거리는 정확히 몰라도 되므로 거리 계산도 그 값에서 끊는다.
+ * 같은 키의 문서들은 한 노드에 모은다. 생성 이후 읽기 전용.
+ */
+public final class BkTree {
+
+	private Node root;
+
+	public void insert(String key, int document) {
+		if (root == null) {
+			root = new Node(key, document);
+			return;
+		}
+		Node node = root;
+		while (true) {
+			int distance = distance(key, node.key, Integer.MAX_VALUE);
+			if (distance == 0) {
+				node.addDocument(document);
+				return;
+			}
+			Node child = node.child(distance);
+			if (child == null) {
+				node.addChild(distance, new Node(key, document));
+				return;
+			}
+			node = child;
+		}
+	}
+
+	/* 거리 maxDistance 이하인 문서들을 (거리, 문서) 로 */
+	public List<int[]> search(String key, int maxDistance) {
+		List<int[]> result = new ArrayList<>();
+		if (root == null) return result;
+		Node[] stack = new Node[16];
+		int size = 0;
+		stack[size++] = root;
+		while (size > 0) {
+			Node node = stack[--size];
+			int limit = node.maxChildDistance() + maxDistance;
+			int distance = distance(key, node.key, Math.max(limit, maxDistance));
+			if (distance <= maxDistance) {
+				for (int i = 0; i < node.documentCount; i++) {
+					result.add(new int[]{distance, node.documents[i]});
+				}
+			}
+			for (int i = 0; i < node.childCount; i++) {
+				int childDistance = node.distances[i];
+				if (childDistance >= distance - maxDistance && childDistance <= distance + maxDistance) {
+					if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+					stack[size++] = node.children[i];
+				}
+			}
+		}
+		return result;
+	}
+
+	/* limit 를 넘으면 limit + 1 */
+	static int distance(String a, String b, int limit) {
+		int n = a.length();
+		int m = b.length();
+		if (Math.abs(n - m) > limit) return limit + 1;
+		if (n == 0 || m == 0) return Math.max(n, m);
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+		for (int j = 0; j <= m; j++) previous[j] = j;
+		for (int i = 1; i <= n; i++) {
+			current[0] = i;
+			int rowMin = i;
+			char c = a.charAt(i - 1);
+			for (int j = 1; j <= m; j++) {
+				int cost = c == b.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+				rowMin = Math.min(rowMin, current[j]);
+			}
+			if (rowMin > limit) return limit + 1;
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[m] <= limit ? previous[m] : limit + 1;
+	}
+
+	private static final class Node {
+		private final String key;
+		private int[] documents;
+		private int documentCount;
+		private int[] distances;
+		private Node[] children;
+		private int childCount;
+		private int maxChildDistance;
+
+		private Node(String key, int document) {
+			this.key = key;
+			this.documents = new int[]{document};
+			this.documentCount = 1;
+		}
+
+		private Node child(int distance) {
+			for (int i = 0; i < childCount; i++) {
+				if (distances[i] == distance) return children[i];
+			}
+			return null;
+		}
+
+		private void addChild(int distance, Node child) {
+			if (children == null) {
+				distances = new int[2];
+				children = new Node[2];
+			} else if (childCount == children.length) {
+				distances = Arrays.copyOf(distances, childCount * 2);
+				children = Arrays.copyOf(children, childCount * 2);
+			}
+			distances[childCount] = distance;
+			children[childCount++] = child;
+			maxChildDistance = Math.max(maxChildDistance, distance);
+		}
+
+		private int maxChildDistance() {
+			return maxChildDistance;
+		}
+
+		private void addDocument(int document) {
+			if (documentCount == documents.length) documents = Arrays.copyOf(documents, documentCount * 2);
+			documents[documentCount++] = document;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package com.hongikgrad.common.search;
+
+import com.hongikgrad.course.dto.CourseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/*
+ * 카탈로그 과목 목록(순번 = ordinal)에 대한 검색 색인 묶음.
+ * CatalogSnapshot 이 처음 검색할 때 한 번 만들고, 새 스냅샷이 나오면 같이 버려진다.
+ */
+public final class CourseSearchIndex {
+
+	// 자동완성 노드마다 미리 골라 두는 후보 수 (응답 최대 크기)
+	public static final int MAX_SUGGESTIONS = 10;
+
+	// 오타 검색 최대 편집 거리 (자모 단위), 자모 4개당 1 씩 늘어남
+	public static final int MAX_EDIT_DISTANCE = 3;
+	private static final int MIN_FUZZY_LENGTH = 3;
+
+	// BM25 계수와 텍스트 점수에 더하는 최근성/인기도 가중치
+	private static final double BM25_K1 = 1.2;
+	private static final double BM25_B = 0.75;
+	private static final double RECENCY_WEIGHT = 1.0;
+	private static final double POPULARITY_WEIGHT = 0.5;
+
+	private static final String WORD_SEPARATORS = "[\\s()\\[\\]\\-_/·,.:]+";
+
+	private final List<CourseDto> courses;
+	private final NgramIndex names;
+	private final AutocompleteTrie jamoTrie;
+	private final AutocompleteTrie choseongTrie;
+	private final BkTree fuzzyTree;
+	private final PrefixIndex numbers;
+	private final int[] rank;
+	// 순위 -> 과목 순번
+	private final int[] byRank;
+	// 가장 최근 학기 개설이면 1, 한 학기 전이면 1/2 ...
+	private final double[] recency;
+	private final double averageNameLength;
+
+	/* popularity: 과목별 인기도 (클수록 앞), 없으면 null */
+	public CourseSearchIndex(List<CourseDto> courses, int[] popularity) {
+		this.courses = courses;
+		List<String> names = new ArrayList<>(courses.size());
+		for (CourseDto course : courses) {
+			names.add(course.getName());
+		}
+		this.names = new NgramIndex(names);
+		List<String> numbers = new ArrayList<>(courses.size());
+		for (CourseDto course : courses) {
+			numbers.add(course.getNumber());
+		}
+		this.numbers = new PrefixIndex(numbers);
+		this.recency = recencyOf(courses);
+		long totalLength = 0;
+		for (int ordinal = 0; ordinal < courses.size(); ordinal++) {
+			totalLength += this.names.textAt(ordinal).length();
+		}
+		this.averageNameLength = courses.isEmpty() ? 1 : Math.max(1, (double) totalLength / courses.size());
+
+		this.rank = rankOf(courses, popularity);
+		this.byRank = new int[rank.length];
+		for (int ordinal = 0; ordinal < rank.length; ordinal++) byRank[rank[ordinal]] = ordinal;
+		AutocompleteTrie jamoTrie = new AutocompleteTrie(MAX_SUGGESTIONS, rank);
+		AutocompleteTrie choseongTrie = new AutocompleteTrie(MAX_SUGGESTIONS, rank);
+		this.fuzzyTree = new BkTree();
+		for (int ordinal = 0; ordinal < courses.size(); ordinal++) {
+			// 과목명 처음과 단어 시작마다 ("웹 프로그래밍" 은 "프로" 로도)
+			for (String key : completionKeys(courses.get(ordinal).getName())) {
+				String jamo = Hangul.toJamo(key);
+				jamoTrie.insert(jamo, ordinal);
+				choseongTrie.insert(Hangul.toChoseong(key), ordinal);
+				fuzzyTree.insert(jamo, ordinal);
+			}
+		}
+		this.jamoTrie = jamoTrie.build();
+		this.choseongTrie = choseongTrie.build();
+	}
+
+	/* 과목명 부분 문자열 검색 (공백, 대소문자 무시), 카탈로그 순서 */
+	public int[] searchName(String keyword) {
+		return names.search(keyword);
+	}
+
+	/* 학수번호 접두어 검색, 학수번호 순서 */
+	public int[] searchNumber(String prefix) {
+		return numbers.search(prefix == null ? "" : prefix.trim());
+	}
+
+	/* 학수번호 접두어 구간을 앞 length 자리로 묶은 과목 수 ("0121" -> 0121xx) */
+	public Map<String, Integer> countNumberGroups(String prefix, int length) {
+		return numbers.countGroups(prefix == null ? "" : prefix.trim(), length);
+	}
+
+	/* 입력 중인 과목명 자동완성, 최근 개설/인기 순. "ㅈㄹㄱㅈ", "자료구ㅈ" 모두 가능 */
+	public int[] complete(String keyword, int limit) {
+		String normalized = TextNormalizer.normalize(keyword);
+		if (normalized.isEmpty() || limit <= 0) return new int[0];
+		if (Hangul.isChoseongOnly(normalized)) {
+			return choseongTrie.complete(Hangul.toChoseong(normalized), limit);
+		}
+		return jamoTrie.complete(Hangul.toJamo(normalized), limit);
+	}
+
+	/*
+	 * 오타 허용 검색: 과목명(또는 단어 시작부터)과 자모 편집 거리가 가까운 과목, 거리 -> 순위 순.
+	 * 정확한 검색 결과가 없을 때만 쓴다. 자모 3개 미만 검색어는 빈 결과
+	 */
+	public int[] searchFuzzy(String keyword, int limit) {
+		String jamo = Hangul.toJamo(TextNormalizer.normalize(keyword));
+		if (jamo.length() < MIN_FUZZY_LENGTH || limit <= 0) return new int[0];
+		int maxDistance = Math.min(MAX_EDIT_DISTANCE, Math.max(1, jamo.length() / 4));
+
+		// 한 과목이 여러 키로 걸리면 가장 가까운 거리만
+		Map<Integer, Integer> distances = new HashMap<>();
+		for (int[] match : fuzzyTree.search(jamo, maxDistance)) {
+			distances.merge(match[1], match[0], Math::min);
+		}
+		long[] keyed = new long[distances.size()];
+		int i = 0;
+		for (Map.Entry<Integer, Integer> entry : distances.entrySet()) {
+			keyed[i++] = ((long) entry.getValue() << 32) | rank[entry.getKey()];
+		}
+		Arrays.sort(keyed);
+		int[] result = new int[Math.min(limit, keyed.length)];
+		for (i = 0; i < result.length; i++) {
+			result[i] = byRank[(int) keyed[i]];
+		}
+		return result;
+	}
+
+	/*
+	 * 과목명 순위 검색. 공백으로 나눈 검색어마다 부분 문자열 BM25 점수를 더하고 (하나만 맞아도 후보)
+	 * 최근 개설 학기와 인기도(popularity: 과목 순번 -> 횟수)를 더한 점수로 상위 size 개만 힙으로 고른다.
+	 * cursor 는 (인기도 버전, 이전 페이지 마지막 과목의 점수, id), 처음이면 null. 검색어가 없으면 전체 과목 대상
+	 * 인기도는 popularityVersion 동안 고정된 값이어야 하고, 다른 버전에서 만든 커서는 페이지가 어긋나므로 받지 않는다.
+	 */
+	public SearchPage searchRanked(String keyword, long[] popularity, long popularityVersion, String cursor, int size) {
+		double[] textScores = new double[courses.size()];
+		int[] candidates = textScore(keyword, textScores);
+
+		boolean hasCursor = cursor != null && !cursor.isEmpty();
+		double cursorScore = 0;
+		long cursorId = 0;
+		if (hasCursor) {
+			String[] parts = cursor.split("\\.");
+			if (parts.length != 3) throw new IllegalArgumentException("invalid cursor: " + cursor);
+			if (Long.parseLong(parts[0]) != popularityVersion) throw new IllegalArgumentException("stale cursor: " + cursor);
+			cursorScore = Double.longBitsToDouble(Long.parseUnsignedLong(parts[1], 16));
+			cursorId = Long.parseLong(parts[2]);
+		}
+
+		TopKHeap heap = new TopKHeap(Math.max(0, size));
+		int remaining = 0;
+		for (int ordinal : candidates) {
+			CourseDto course = courses.get(ordinal);
+			double score = textScores[ordinal] + RECENCY_WEIGHT * recency[ordinal]
+					+ POPULARITY_WEIGHT * Math.log1p(popularity[ordinal]);
+			long id = idOf(course);
+			if (hasCursor && !TopKHeap.before(cursorScore, cursorId, score, id)) continue;
+			remaining++;
+			heap.offer(score, id, ordinal);
+		}
+		double[] lastScore = new double[1];
+		long[] lastId = new long[1];
+		int[] page = heap.drain(lastScore, lastId);
+		String nextCursor = remaining > page.length && page.length > 0
+				? popularityVersion + "." + Long.toHexString(Double.doubleToLongBits(lastScore[0])) + "." + lastId[0]
+				: null;
+		return new SearchPage(page, nextCursor);
+	}
+
+	/* 후보 순번을 반환하고 scores 에 BM25 합을 채움 */
+	private int[] textScore(String keyword, double[] scores) {
+		List<String> terms = new ArrayList<>();
+		for (String word : (keyword == null ? "" : keyword).trim().split("\\s+")) {
+			String term = TextNormalizer.normalize(word);
+			if (!term.isEmpty() && !terms.contains(term)) terms.add(term);
+		}
+		if (terms.isEmpty()) return names.search("");
+
+		int n = courses.size();
+		boolean[] matched = new boolean[n];
+		int count = 0;
+		for (String term : terms) {
+			int[] postings = names.search(term);
+			double idf = Math.log(1 + (n - postings.length + 0.5) / (postings.length + 0.5));
+			for (int ordinal : postings) {
+				String text = names.textAt(ordinal);
+				int tf = occurrences(text, term);
+				double norm = BM25_K1 * (1 - BM25_B + BM25_B * text.length() / averageNameLength);
+				scores[ordinal] += idf * tf * (BM25_K1 + 1) / (tf + norm);
+				if (!matched[ordinal]) {
+					matched[ordinal] = true;
+					count++;
+				}
+			}
+		}
+		int[] candidates = new int[count];
+		int i = 0;
+		for (int ordinal = 0; ordinal < n; ordinal++) {
+			if (matched[ordinal]) candidates[i++] = ordinal;
+		}
+		return candidates;
+	}
+
+	private static int occurrences(String text, String term) {
+		int count = 0;
+		for (int from = text.indexOf(term); from >= 0; from = text.indexOf(term, from + term.length())) {
+			count++;
+		}
+		return count;
+	}
+
+	private static long idOf(CourseDto course) {
+		return course.getId() == null ? Long.MAX_VALUE : course.getId();
+	}
+
+	public List<CourseDto> toCourses(int[] ordinals) {
+		List<CourseDto> result = new ArrayList<>(ordinals.length);
+		for (int ordinal : ordinals) {
+			result.add(courses.get(ordinal));
+		}
+		return result;
+	}
+
+	private static List<String> completionKeys(String name) {
+		List<String> keys = new ArrayList<>();
+		keys.add(TextNormalizer.normalize(name));
+		String[] words = name.trim().split(WORD_SEPARATORS);
+		for (int i = 1; i < words.length; i++) {
+			String key = TextNormalizer.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+			if (!key.isEmpty()) keys.add(key);
+		}
+		return keys;
+	}
+
+	/* 최근 개설 학기 -> 인기도 -> 짧은 이름 -> 카탈로그 순서, 0 이 가장 앞 */
+	private static int[] rankOf(List<CourseDto> courses, int[] popularity) {
+		Integer[] order = new Integer[courses.size()];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		Comparator<Integer> comparator = Comparator
+				.comparing((Integer ordinal) -> semesterOf(courses.get(ordinal)), Comparator.reverseOrder())
+				.thenComparing(ordinal -> popularity == null ? 0 : -popularity[ordinal])
+				.thenComparing(ordinal -> courses.get(ordinal).getName().length())
+				.thenComparing(ordinal -> ordinal);
+		Arrays.sort(order, comparator);
+		int[] rank = new int[order.length];
+		for (int i = 0; i < order.length; i++) rank[order[i]] = i;
+		return rank;
+	}
+
+	private static double[] recencyOf(List<CourseDto> courses) {
+		TreeSet<String> semesters = new TreeSet<>(Comparator.reverseOrder());
+		for (CourseDto course : courses) {
+			semesters.add(semesterOf(course));
+		}
+		List<String> newestFirst = new ArrayList<>(semesters);
+		double[] recency = new double[courses.size()];
+		for (int ordinal = 0; ordinal < recency.length; ordinal++) {
+			String semester = semesterOf(courses.get(ordinal));
+			recency[ordinal] = semester.isEmpty() ? 0 : 1.0 / (1 + newestFirst.indexOf(semester));
+		}
+		return recency;
+	}
+
+	private static String semesterOf(CourseDto course) {
+		return course.getSemester() == null ? "" : course.getSemester();
+	}
+}
@@ -0,0 +1,106 @@
+package com.hongikgrad.common.search;
+
+/*
+ * 한글 음절 -> 자모 분해. 결과는 호환 자모(ㄱ, ㅏ ...)로 통일하고
+ * 겹받침/이중모음은 입력 순서대로 풀어서(ㄺ -> ㄹㄱ, ㅘ -> ㅗㅏ) 입력 중인 글자도 접두어가 되게 한다.
+ * NFKC 를 거친 조합형 자모(U+1100 영역)도 같은 호환 자모로 바꾼다.
+ */
+public final class Hangul {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+	private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	// 0 번은 받침 없음
+	private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+	private static final char COMPAT_FIRST = 0x3131;
+	private static final char COMPAT_LAST = 0x3163;
+	private static final char CONSONANT_LAST = 0x314E;
+	// 호환 자모 -> 풀어 쓴 자모
+	private static final String[] SPLIT = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+	static {
+		String[][] compounds = {
+				{"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+				{"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+				{"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+		};
+		for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) {
+			SPLIT[c - COMPAT_FIRST] = String.valueOf(c);
+		}
+		for (String[] compound : compounds) {
+			SPLIT[compound[0].charAt(0) - COMPAT_FIRST] = compound[1];
+		}
+	}
+
+	private Hangul() {
+	}
+
+	/* 정규화된 문자열을 자모열로, 한글이 아닌 글자는 그대로 */
+	public static String toJamo(String text) {
+		StringBuilder builder = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				int offset = c - SYLLABLE_BASE;
+				int jong = offset % JONGSEONG_COUNT;
+				int jung = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+				int cho = offset / JONGSEONG_COUNT / JUNGSEONG_COUNT;
+				appendSplit(builder, CHOSEONG.charAt(cho));
+				appendSplit(builder, JUNGSEONG.charAt(jung));
+				if (jong > 0) appendSplit(builder, JONGSEONG.charAt(jong));
+			} else {
+				appendSplit(builder, toCompat(c));
+			}
+		}
+		return builder.toString();
+	}
+
+	/* 음절은 초성만, 나머지 글자는 그대로 */
+	public static String toChoseong(String text) {
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				builder.append(CHOSEONG.charAt((c - SYLLABLE_BASE) / JONGSEONG_COUNT / JUNGSEONG_COUNT));
+			} else {
+				builder.append(toCompat(c));
+			}
+		}
+		return builder.toString();
+	}
+
+	/* "ㅈㄹㄱㅈ" 처럼 자음만으로 된 검색어 */
+	public static boolean isChoseongOnly(String text) {
+		if (text.isEmpty()) return false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = toCompat(text.charAt(i));
+			if (c < COMPAT_FIRST || c > CONSONANT_LAST) return false;
+		}
+		return true;
+	}
+
+	public static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+	}
+
+	/* 조합형 자모(초성/중성/종성) -> 호환 자모 */
+	private static char toCompat(char c) {
+		if (c >= 0x1100 && c < 0x1100 + CHOSEONG.length()) return CHOSEONG.charAt(c - 0x1100);
+		if (c >= 0x1161 && c < 0x1161 + JUNGSEONG.length()) return JUNGSEONG.charAt(c - 0x1161);
+		if (c >= 0x11A8 && c < 0x11A7 + JONGSEONG.length()) return JONGSEONG.charAt(c - 0x11A7);
+		return c;
+	}
+
+	private static void appendSplit(StringBuilder builder, char c) {
+		if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+			builder.append(SPLIT[c - COMPAT_FIRST]);
+		} else {
+			builder.append(c);
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.hongikgrad.common.search;
+
+import com.hongikgrad.common.collection.IntObjectHashMap;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * 부분 문자열 검색용 역색인. 문서 번호는 목록 위치(ordinal).
+ *
+ * 정규화한 문자열의 글자 1개(unigram)와 연속 2글자(bigram)마다
+ * 오름차순 int 배열 posting 을 만든다. 2글자 이상 검색어는 bigram posting 들을
+ * 짧은 것부터 교집합한 뒤 후보만 실제 contains 로 확인한다.
+ * 한글은 음절 하나가 한 글자라서 trigram 까지 두지 않아도 후보가 충분히 좁다.
+ * 생성 이후 수정되지 않으므로 여러 스레드가 공유한다.
+ */
+public final class NgramIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final String[] texts;
+	private final IntObjectHashMap<int[]> unigrams;
+	private final IntObjectHashMap<int[]> bigrams;
+
+	public NgramIndex(List<String> documents) {
+		int n = documents.size();
+		this.texts = new String[n];
+		IntObjectHashMap<IntList> unigramLists = new IntObjectHashMap<>();
+		IntObjectHashMap<IntList> bigramLists = new IntObjectHashMap<>();
+		for (int ordinal = 0; ordinal < n; ordinal++) {
+			String text = TextNormalizer.normalize(documents.get(ordinal));
+			texts[ordinal] = text;
+			for (int i = 0; i < text.length(); i++) {
+				addPosting(unigramLists, text.charAt(i), ordinal);
+				if (i + 1 < text.length()) {
+					addPosting(bigramLists, bigram(text.charAt(i), text.charAt(i + 1)), ordinal);
+				}
+			}
+		}
+		this.unigrams = freeze(unigramLists);
+		this.bigrams = freeze(bigramLists);
+	}
+
+	public int size() {
+		return texts.length;
+	}
+
+	/* 정규화한 문서 */
+	public String textAt(int ordinal) {
+		return texts[ordinal];
+	}
+
+	/* query 를 부분 문자열로 포함하는 문서 번호, 오름차순. 빈 검색어는 전체 */
+	public int[] search(String query) {
+		String normalized = TextNormalizer.normalize(query);
+		if (normalized.isEmpty()) return all();
+		if (normalized.length() == 1) {
+			return postings(unigrams, normalized.charAt(0));
+		}
+
+		int gramCount = normalized.length() - 1;
+		int[][] lists = new int[gramCount][];
+		for (int i = 0; i < gramCount; i++) {
+			lists[i] = postings(bigrams, bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+			if (lists[i].length == 0) return EMPTY;
+		}
+		Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+		int[] candidates = lists[0];
+		for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+			if (lists[i] == lists[i - 1]) continue;
+			candidates = intersect(candidates, lists[i]);
+		}
+		// 2글자 검색어는 bigram 자체가 답
+		if (normalized.length() == 2) return candidates;
+
+		int[] result = new int[candidates.length];
+		int count = 0;
+		for (int ordinal : candidates) {
+			if (texts[ordinal].contains(normalized)) result[count++] = ordinal;
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	private int[] all() {
+		int[] result = new int[texts.length];
+		for (int i = 0; i < result.length; i++) result[i] = i;
+		return result;
+	}
+
+	/* 짧은 쪽을 기준으로 긴 쪽은 이분 탐색으로 건너뛰며 교집합 */
+	static int[] intersect(int[] small, int[] large) {
+		if (small.length > large.length) return intersect(large, small);
+		int[] result = new int[small.length];
+		int count = 0;
+		int from = 0;
+		for (int value : small) {
+			int index = gallop(large, from, value);
+			if (index >= large.length) break;
+			if (large[index] == value) result[count++] = value;
+			from = index;
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	/* from 이후에서 value 이상인 첫 위치 */
+	private static int gallop(int[] array, int from, int value) {
+		int step = 1;
+		int high = from;
+		while (high < array.length && array[high] < value) {
+			from = high + 1;
+			high += step;
+			step <<= 1;
+		}
+		int index = Arrays.binarySearch(array, from, Math.min(high, array.length - 1) + 1, value);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	private static int bigram(char first, char second) {
+		return (first << 16) | second;
+	}
+
+	private static int[] postings(IntObjectHashMap<int[]> index, int gram) {
+		int[] postings = index.get(gram);
+		return postings == null ? EMPTY : postings;
+	}
+
+	private static void addPosting(IntObjectHashMap<IntList> lists, int gram, int ordinal) {
+		IntList list = lists.get(gram);
+		if (list == null) {
+			list = new IntList(gram);
+			lists.put(gram, list);
+		}
+		// 같은 문서 안의 반복 gram 은 한 번만
+		if (list.size == 0 || list.values[list.size - 1] != ordinal) list.add(ordinal);
+	}
+
+	private static IntObjectHashMap<int[]> freeze(IntObjectHashMap<IntList> lists) {
+		IntObjectHashMap<int[]> frozen = new IntObjectHashMap<>(lists.size());
+		lists.forEachValue(list -> frozen.put(list.gram, Arrays.copyOf(list.values, list.size)));
+		return frozen;
+	}
+
+	private static final class IntList {
+		private final int gram;
+		private int[] values = new int[4];
+		private int size;
+
+		private IntList(int gram) {
+			this.gram = gram;
+		}
+
+		private void add(int value) {
+			if (size == values.length) values = Arrays.copyOf(values, size * 2);
+			values[size++] = value;
+		}
+	}
+}
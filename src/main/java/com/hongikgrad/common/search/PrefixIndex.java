@@ -0,0 +1,101 @@
+package com.hongikgrad.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 정렬된 키 배열. 접두어가 같은 키는 연속 구간이라 이분 탐색 두 번으로 구간을 찾는다 (O(log n + k)).
+ * 학수번호처럼 짧고 고정 길이인 키용. 생성 이후 읽기 전용.
+ */
+public final class PrefixIndex {
+
+	private final String[] keys;
+	// keys 와 같은 순서의 문서 번호
+	private final int[] documents;
+
+	public PrefixIndex(List<String> keyList) {
+		Integer[] order = new Integer[keyList.size()];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		Arrays.sort(order, Comparator.comparing((Integer document) -> keyOf(keyList, document)).thenComparing(document -> document));
+		this.keys = new String[order.length];
+		this.documents = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			keys[i] = keyOf(keyList, order[i]);
+			documents[i] = order[i];
+		}
+	}
+
+	/* prefix 로 시작하는 문서 번호, 키 순서 */
+	public int[] search(String prefix) {
+		int from = lowerBound(prefix);
+		int to = upperBound(prefix, from);
+		return Arrays.copyOfRange(documents, from, to);
+	}
+
+	public int count(String prefix) {
+		int from = lowerBound(prefix);
+		return upperBound(prefix, from) - from;
+	}
+
+	/*
+	 * prefix 구간을 키 앞 length 글자로 묶은 개수 (예: "01", 4 -> "0121": 12, "0122": 5 ...).
+	 * 묶음마다 이분 탐색으로 다음 묶음으로 건너뛰어서 묶음 수 * log n
+	 */
+	public Map<String, Integer> countGroups(String prefix, int length) {
+		Map<String, Integer> groups = new LinkedHashMap<>();
+		int from = lowerBound(prefix);
+		int to = upperBound(prefix, from);
+		while (from < to) {
+			String key = keys[from];
+			String group = key.length() <= length ? key : key.substring(0, length);
+			int end = key.length() <= length ? exactEnd(key, from, to) : upperBound(group, from);
+			groups.merge(group, end - from, Integer::sum);
+			from = end;
+		}
+		return groups;
+	}
+
+	public int size() {
+		return keys.length;
+	}
+
+	/* prefix 이상인 첫 위치 */
+	private int lowerBound(String prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/* from 이후 prefix 로 시작하지 않는 첫 위치 */
+	private int upperBound(String prefix, int from) {
+		int low = from;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].startsWith(prefix)) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/* 키가 묶음 길이보다 짧을 때: 같은 키까지만 */
+	private int exactEnd(String key, int from, int to) {
+		int end = from;
+		while (end < to && keys[end].equals(key)) end++;
+		return end;
+	}
+
+	private static String keyOf(List<String> keyList, int document) {
+		String key = keyList.get(document);
+		return key == null ? "" : key;
+	}
+}
@@ -0,0 +1,21 @@
+package com.hongikgrad.common.search;
+
+/* 순위 검색 한 페이지, 다음 페이지가 없으면 nextCursor 는 null */
+public final class SearchPage {
+
+	private final int[] documents;
+	private final String nextCursor;
+
+	public SearchPage(int[] documents, String nextCursor) {
+		this.documents = documents;
+		this.nextCursor = nextCursor;
+	}
+
+	public int[] getDocuments() {
+		return documents;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+}
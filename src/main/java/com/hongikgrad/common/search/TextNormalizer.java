@@ -0,0 +1,25 @@
+package com.hongikgrad.common.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/*
+ * 검색용 문자열 정규화: 호환 문자 통합(NFKC, 전각 -> 반각), 영문 소문자, 공백 제거.
+ * 색인과 검색어에 같은 규칙을 적용해야 한다.
+ */
+public final class TextNormalizer {
+
+	private TextNormalizer() {
+	}
+
+	public static String normalize(String text) {
+		if (text == null) return "";
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (!Character.isWhitespace(c)) builder.append(c);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,102 @@
+package com.hongikgrad.common.search;
+
+/*
+ * 점수 상위 k 개만 남기는 최소 힙. 루트가 지금까지 남긴 것 중 가장 낮은 순위라
+ * 후보 n 개를 O(n log k) 로 고르고, 전체를 정렬하지 않는다.
+ * 순서: 점수 내림차순, 같으면 id 오름차순.
+ */
+public final class TopKHeap {
+
+	private final double[] scores;
+	private final long[] ids;
+	private final int[] documents;
+	private int size;
+
+	public TopKHeap(int k) {
+		this.scores = new double[k];
+		this.ids = new long[k];
+		this.documents = new int[k];
+	}
+
+	public void offer(double score, long id, int document) {
+		if (scores.length == 0) return;
+		if (size < scores.length) {
+			scores[size] = score;
+			ids[size] = id;
+			documents[size] = document;
+			siftUp(size++);
+		} else if (before(score, id, scores[0], ids[0])) {
+			scores[0] = score;
+			ids[0] = id;
+			documents[0] = document;
+			siftDown(0);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/* 높은 순위부터 문서 번호. 힙은 비워짐 */
+	public int[] drain() {
+		return drain(null, null);
+	}
+
+	/* 마지막 항목의 점수/id 를 함께 돌려받을 때 */
+	public int[] drain(double[] lastScore, long[] lastId) {
+		int[] result = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			result[i] = documents[0];
+			if (i == result.length - 1 && lastScore != null) {
+				lastScore[0] = scores[0];
+				lastId[0] = ids[0];
+			}
+			size--;
+			scores[0] = scores[size];
+			ids[0] = ids[size];
+			documents[0] = documents[size];
+			siftDown(0);
+		}
+		return result;
+	}
+
+	/* (score, id) 가 (otherScore, otherId) 보다 앞 순위인지 */
+	public static boolean before(double score, long id, double otherScore, long otherId) {
+		int compare = Double.compare(score, otherScore);
+		return compare > 0 || (compare == 0 && id < otherId);
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!before(scores[parent], ids[parent], scores[index], ids[index])) return;
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = index * 2 + 1;
+			if (left >= size) return;
+			int worst = left;
+			int right = left + 1;
+			if (right < size && before(scores[worst], ids[worst], scores[right], ids[right])) worst = right;
+			if (!before(scores[index], ids[index], scores[worst], ids[worst])) return;
+			swap(index, worst);
+			index = worst;
+		}
+	}
+
+	private void swap(int a, int b) {
+		double score = scores[a];
+		scores[a] = scores[b];
+		scores[b] = score;
+		long id = ids[a];
+		ids[a] = ids[b];
+		ids[b] = id;
+		int document = documents[a];
+		documents[a] = documents[b];
+		documents[b] = document;
+	}
+}
@@ -0,0 +1,214 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.common.crawler.CourseCrawler;
+import com.hongikgrad.common.crawler.TimeTablePage;
+import com.hongikgrad.course.dto.CrawlJobDto;
+import com.hongikgrad.course.dto.CrawlingCourseListDto;
+import com.hongikgrad.course.dto.CrawlingPageDto;
+import com.hongikgrad.course.entity.CrawlPage;
+import com.hongikgrad.course.repository.CrawlPageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 시간표 크롤링 작업 실행: (학기, 학과/교양 학년) 페이지들을 워커 풀에서 받아 파싱하고,
+ * 호출한 스레드 하나(writer)가 끝난 순서대로 결과를 모아 중복을 없앤 뒤 마지막에 한 번에 저장한다.
+ * 시간표 사이트로 가는 요청 속도는 HostRateLimiter 가 워커 수와 상관없이 제한한다.
+ * 진행 상황은 CrawlJob 에 기록하고, 작업이 취소되면 (interrupt) 남은 페이지는 버린다.
+ *
+ * 페이지마다 select_list 표의 지문(CrawlPage)을 저장해 두고, 다음 크롤링에서 지문이 같으면 (또는 304)
+ * 파싱과 저장을 건너뛴다. 지난 학기 페이지는 지문이 있으면 요청도 보내지 않으므로
+ * 정기 크롤링은 이번 학기와 다음 학기만 실제로 받는다. full 작업은 전부 다시 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseCrawlService {
+
+	private static final List<String> DEPTS = List.of(
+			"A000", "A010", "A040", "A160", "A170", "A191", "A200",
+			"B010", "C010", "C020", "C030", "C040", "E000", "E010", "E020", "E030", "E040", "E050",
+			"N010", "F000", "F010", "F020", "F030", "F040", "F090", "F120", "F130", "F140", "F150", "F170",
+			"M000", "M020", "K010", "J010", "J020"
+	);
+	private static final int ELECTIVE_GRADES = 16;
+	// 정기 크롤링 시작 연도
+	private static final int FIRST_YEAR = 2016;
+
+	private final CourseCrawler courseCrawler;
+
+	private final CourseIngestService courseIngestService;
+
+	private final CrawlPageRepository crawlPageRepository;
+
+	@Value("${crawler.threads:8}")
+	private int threads;
+
+	/* CrawlJobService 의 작업 스레드에서 호출. 페이지 하나가 실패해도 나머지는 계속 */
+	void crawl(CrawlJob job) throws InterruptedException {
+		List<CrawlingPageDto> pages = new ArrayList<>();
+		for (String[] semester : job.getSemesters()) {
+			pages.addAll(pagesOf(semester[0], semester[1]));
+		}
+		String currentSemester = semesterOf(LocalDate.now());
+		Map<String, CrawlPage> known = new HashMap<>();
+		for (CrawlPage crawlPage : crawlPageRepository.findAll()) {
+			known.put(crawlPage.getPageKey(), crawlPage);
+		}
+
+		job.crawlStarted(pages.size());
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "course-crawler-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		CrawledCourses crawled = new CrawledCourses();
+		List<CrawlPage> changedPages = new ArrayList<>();
+		try {
+			CompletionService<PageResult> completion = new ExecutorCompletionService<>(workers);
+			int submitted = 0;
+			for (CrawlingPageDto page : pages) {
+				CrawlPage crawlPage = job.isFull() ? null : known.get(page.toString());
+				// 지난 학기 시간표는 한 번 받은 뒤로 바뀌지 않음
+				if (crawlPage != null && crawlPage.getFingerprint() != null && page.getSemester().compareTo(currentSemester) < 0) {
+					job.pageSkipped();
+					continue;
+				}
+				completion.submit(() -> fetch(page, crawlPage, job));
+				submitted++;
+			}
+			for (int i = 0; i < submitted; i++) {
+				PageResult result = getResult(completion);
+				if (result.fetched == null) continue;
+				if (result.courses != null) {
+					crawled.add(result.page.getSemester(), result.courses);
+				}
+				if (!result.fetched.isNotModified()) {
+					CrawlPage crawlPage = known.computeIfAbsent(result.page.toString(), CrawlPage::new);
+					if (crawlPage.update(result.fetched.getFingerprint(), result.fetched.getEtag(), result.fetched.getLastModified())) {
+						changedPages.add(crawlPage);
+					}
+				}
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+		job.crawlFinished(crawled.getRows(), crawled.getCourses().size());
+
+		// 바뀐 페이지가 없으면 DB 작업 없음. 지문은 과목이 저장된 뒤에 저장해야 실패해도 다음에 다시 받음
+		if (!crawled.getCourses().isEmpty()) {
+			courseIngestService.ingest(crawled, job);
+		}
+		if (!changedPages.isEmpty()) {
+			courseIngestService.saveCrawlPages(changedPages, job);
+		}
+		CrawlJobDto summary = job.toDto();
+		log.info("crawl finished: {} pages ({} failed, {} skipped, {} unchanged), {} bytes, {} course rows ({} distinct); ingest: {} inserted, {} updated, {} majors, {} major courses, {} rows/s",
+				summary.getTotalPages(), summary.getFailedPages(), summary.getSkippedPages(), summary.getUnchangedPages(), summary.getBytesFetched(),
+				summary.getCrawledRows(), summary.getDistinctCourses(),
+				summary.getInsertedCourses(), summary.getUpdatedCourses(), summary.getInsertedMajors(), summary.getInsertedMajorCourses(),
+				Math.round(summary.getRowsPerSecond()));
+	}
+
+	/* 날짜가 속한 학기: 3~8월 1학기, 9~2월 2학기 */
+	static String semesterOf(LocalDate date) {
+		int month = date.getMonthValue();
+		if (month >= 3 && month <= 8) return date.getYear() + "1";
+		return (month <= 2 ? date.getYear() - 1 : date.getYear()) + "2";
+	}
+
+	/* FIRST_YEAR 1학기부터 date 의 다음 학기까지 {연도, 학기} */
+	static List<String[]> semestersUntilNext(LocalDate date) {
+		String current = semesterOf(date);
+		int lastYear = Integer.parseInt(current.substring(0, 4));
+		String lastHakgi = "1";
+		if (current.endsWith("2")) lastYear++;
+		else lastHakgi = "2";
+
+		List<String[]> semesters = new ArrayList<>();
+		for (int year = FIRST_YEAR; year <= lastYear; year++) {
+			semesters.add(new String[]{Integer.toString(year), "1"});
+			if (year < lastYear || lastHakgi.equals("2")) {
+				semesters.add(new String[]{Integer.toString(year), "2"});
+			}
+		}
+		return semesters;
+	}
+
+	List<CrawlingPageDto> pagesOf(String year, String hakgi) {
+		List<CrawlingPageDto> pages = new ArrayList<>();
+		/* major */
+		for (String dept : DEPTS) {
+			pages.add(new CrawlingPageDto(year, hakgi, dept, 0));
+		}
+		/* elective */
+		for (int grade = 1; grade <= ELECTIVE_GRADES; grade++) {
+			pages.add(new CrawlingPageDto(year, hakgi, CrawlingPageDto.ELECTIVE_DEPT, grade));
+		}
+		return pages;
+	}
+
+	/* 워커 스레드: 요청 + 지문 비교 + 파싱, 페이지 오류는 작업에 기록하고 결과로 돌려줌. known 은 읽기만 함 */
+	private PageResult fetch(CrawlingPageDto page, CrawlPage known, CrawlJob job) throws InterruptedException {
+		long bytes = 0;
+		try {
+			TimeTablePage fetched = known == null
+					? courseCrawler.getTimeTablePage(page.toFormData(), null, null)
+					: courseCrawler.getTimeTablePage(page.toFormData(), known.getEtag(), known.getLastModified());
+			bytes = fetched.getBytes();
+			if (fetched.isNotModified() || (known != null && fetched.getFingerprint().equals(known.getFingerprint()))) {
+				job.pageUnchanged(bytes);
+				return new PageResult(page, fetched, null);
+			}
+			CrawlingCourseListDto courses = courseCrawler.getCourses(fetched);
+			job.pageDone(bytes);
+			return new PageResult(page, fetched, courses);
+		} catch (InterruptedException e) {
+			throw e;
+		} catch (Exception e) {
+			log.warn("crawl page {} failed: {}", page, e.toString());
+			job.pageFailed(bytes, page + ": " + e);
+			return new PageResult(page, null, null);
+		}
+	}
+
+	private static PageResult getResult(CompletionService<PageResult> completion) throws InterruptedException {
+		try {
+			return completion.take().get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static final class PageResult {
+		private final CrawlingPageDto page;
+		// 실패한 페이지면 null
+		private final TimeTablePage fetched;
+		// 실패했거나 지난번과 같으면 null
+		private final CrawlingCourseListDto courses;
+
+		private PageResult(CrawlingPageDto page, TimeTablePage fetched, CrawlingCourseListDto courses) {
+			this.page = page;
+			this.fetched = fetched;
+			this.courses = courses;
+		}
+	}
+}
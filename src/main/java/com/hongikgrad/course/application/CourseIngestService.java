@@ -0,0 +1,111 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlingCourseDto;
+import com.hongikgrad.course.entity.CrawlPage;
+import com.hongikgrad.course.repository.CourseIngestRepository;
+import com.hongikgrad.course.repository.CrawlPageRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+/*
+ * 크롤링 결과 저장 단계. 행마다 찾고 저장하는 대신
+ * 기존 키를 한 번에 읽어 두고 새 행만 배치 INSERT, 학기 갱신은 학기별 UPDATE 한 번으로 처리한다.
+ *
+ * 전체를 트랜잭션 하나로 묶지 않고 WRITE_CHUNK 행씩 짧은 트랜잭션으로 나눠서
+ * 커넥션을 오래 잡지 않는다. 중간에 실패하거나 취소돼도 다시 돌리면 이미 들어간 키는 건너뛴다.
+ * 저장한 행 수는 chunk 가 커밋될 때마다 작업 진행 상황에 더한다.
+ */
+@Service
+public class CourseIngestService {
+
+	private static final int WRITE_CHUNK = 1000;
+
+	private final CourseIngestRepository courseIngestRepository;
+	private final CrawlPageRepository crawlPageRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public CourseIngestService(CourseIngestRepository courseIngestRepository, CrawlPageRepository crawlPageRepository,
+	                           PlatformTransactionManager transactionManager) {
+		this.courseIngestRepository = courseIngestRepository;
+		this.crawlPageRepository = crawlPageRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/* 트랜잭션 밖에서 호출 (크롤링 작업 스레드) */
+	void ingest(CrawledCourses crawled, CrawlJob job) {
+		job.ingestStarted();
+
+		/* major */
+		Map<String, Long> majorIds = courseIngestRepository.findMajorIds();
+		List<String> newMajors = new ArrayList<>();
+		for (String name : crawled.getMajorNames()) {
+			if (!majorIds.containsKey(name)) newMajors.add(name);
+		}
+		if (!newMajors.isEmpty()) {
+			inChunks(job, newMajors, courseIngestRepository::insertMajors, job::addInsertedMajors);
+			majorIds = courseIngestRepository.findMajorIds();
+		}
+
+		/* course: 새 과목은 INSERT, 있던 과목은 학기별로 모아서 UPDATE */
+		Map<String, Long> courseIds = courseIngestRepository.findCourseIds();
+		List<Object[]> newCourses = new ArrayList<>();
+		Map<String, List<Long>> bySemester = new TreeMap<>();
+		for (CrawledCourses.Entry entry : crawled.getCourses()) {
+			Long id = courseIds.get(entry.getKey());
+			if (id == null) {
+				CrawlingCourseDto course = entry.getCourse();
+				newCourses.add(new Object[]{course.getName(), course.getCredit(), course.getNumber(), course.getAbeek(), entry.getSemester()});
+			} else {
+				bySemester.computeIfAbsent(entry.getSemester(), semester -> new ArrayList<>()).add(id);
+			}
+		}
+		if (!newCourses.isEmpty()) {
+			inChunks(job, newCourses, courseIngestRepository::insertCourses, job::addInsertedCourses);
+			courseIds = courseIngestRepository.findCourseIds();
+		}
+		for (Map.Entry<String, List<Long>> semester : bySemester.entrySet()) {
+			inChunks(job, semester.getValue(), ids -> courseIngestRepository.updateSemester(semester.getKey(), ids), job::addUpdatedCourses);
+		}
+
+		/* major_course */
+		Set<String> pairs = courseIngestRepository.findMajorCoursePairs();
+		List<Object[]> newMajorCourses = new ArrayList<>();
+		for (Map.Entry<CrawledCourses.MajorCourseKey, Boolean> majorCourse : crawled.getMajorCourses().entrySet()) {
+			Long majorId = majorIds.get(majorCourse.getKey().getMajorName());
+			Long courseId = courseIds.get(majorCourse.getKey().getCourseKey());
+			if (majorId == null || courseId == null) continue;
+			if (pairs.add(majorId + ":" + courseId)) {
+				newMajorCourses.add(new Object[]{majorId, courseId, majorCourse.getValue()});
+			}
+		}
+		inChunks(job, newMajorCourses, courseIngestRepository::insertMajorCourses, job::addInsertedMajorCourses);
+
+		job.ingestFinished(crawled.getCourses().size() + crawled.getMajorCourses().size());
+	}
+
+	/* 페이지 지문 저장. 과목 저장이 끝난 뒤에 호출 */
+	void saveCrawlPages(List<CrawlPage> crawlPages, CrawlJob job) {
+		inChunks(job, crawlPages, chunk -> crawlPageRepository.saveAll(chunk).size(), count -> {
+		});
+	}
+
+	/* chunk 하나 = 트랜잭션 하나, chunk 사이에서 취소 확인 */
+	private <T> void inChunks(CrawlJob job, List<T> rows, ToIntFunction<List<T>> write, IntConsumer written) {
+		for (int from = 0; from < rows.size(); from += WRITE_CHUNK) {
+			if (job.isCancelRequested()) throw new CancellationException();
+			List<T> chunk = rows.subList(from, Math.min(rows.size(), from + WRITE_CHUNK));
+			Integer count = transactionTemplate.execute(status -> write.applyAsInt(chunk));
+			written.accept(count == null ? 0 : count);
+		}
+	}
+}
@@ -1,16 +1,16 @@
 package com.hongikgrad.course.application;
 
-import com.hongikgrad.common.crawler.CourseCrawler;
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.catalog.CoursePopularity;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.common.search.CourseSearchIndex;
+import com.hongikgrad.common.search.SearchPage;
 import com.hongikgrad.course.dto.*;
 import com.hongikgrad.course.entity.Course;
 import com.hongikgrad.course.exception.InvalidCookieException;
-import com.hongikgrad.course.exception.InvalidDocumentException;
 import com.hongikgrad.major.entity.Major;
-import com.hongikgrad.major.entity.MajorCourse;
 import com.hongikgrad.course.repository.CourseRepository;
-import com.hongikgrad.major.repository.MajorCourseRepository;
-import com.hongikgrad.major.repository.MajorHierarchyRepository;
-import com.hongikgrad.major.repository.MajorRepository;
 import lombok.RequiredArgsConstructor;
 import org.jsoup.Connection;
 import org.jsoup.nodes.Document;
@@ -19,31 +19,23 @@ import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
-import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CourseService {
 
-	private final CourseRepository courseRepository;
-	private final MajorRepository majorRepository;
-	private final MajorCourseRepository majorCourseRepository;
-	private final MajorHierarchyRepository majorHierarchyRepository;
+	private static final int FUZZY_RESULT_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 50;
 
-	private final CourseCrawler courseCrawler;
+	private final CourseRepository courseRepository;
 
-	private List<CourseDto> allCourses;
+	private final CatalogService catalogService;
 
-	@PostConstruct
-	public void init() {
-		allCourses = courseRepository.findAllCourseDto();
-	}
+	private final CoursePopularity coursePopularity;
 
 	public List<CourseDto> search(String keyword, String type, int enterYear) {
 		switch (type) {
@@ -64,20 +56,23 @@ public class CourseService {
 
 	private List<CourseDto> searchByMajorRequired(String keyword) {
 		Long majorId = Long.parseLong(keyword);
-		return majorCourseRepository.findRequiredMajorCoursesByMajorId(majorId);
+		return catalogService.getSnapshot().findRequiredMajorCoursesByMajorId(majorId, "20212", "20221");
 	}
 
-	@Transactional(readOnly = true)
 	List<CourseDto> searchByGraduation(String keyword) {
+		List<CourseDto> allCourses = catalogService.getSnapshot().getCourses();
 		switch (keyword) {
 			case "specializedelective":
-				return courseRepository.findSpecializedElectives();
+				return findCoursesByNumbers(allCourses, 2, "008752", "008751");
 			case "writing":
-				return courseRepository.findWritingCourses();
+				return allCourses.stream()
+						.filter(courseDto -> courseDto.getName().contains("글쓰기") && "교양필수".equals(courseDto.getAbeek()))
+						.limit(8)
+						.collect(Collectors.toList());
 			case "english":
-				return courseRepository.findEnglishCourse();
+				return findCoursesByNumbers(allCourses, 1, "001009");
 			case "majorenglish":
-				return courseRepository.findMajorEnglishCourses();
+				return findCoursesByNumbers(allCourses, 2, "007114", "007115");
 		}
 		return allCourses.stream()
 				.filter(courseDto -> Objects.nonNull(courseDto.getAbeek()))
@@ -85,129 +80,104 @@ public class CourseService {
 				.collect(Collectors.toList());
 	}
 
+	private List<CourseDto> findCoursesByNumbers(List<CourseDto> courses, int limit, String... numbers) {
+		List<String> numberList = List.of(numbers);
+		return courses.stream()
+				.filter(courseDto -> numberList.contains(courseDto.getNumber()))
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
 	private List<CourseDto> searchByName(String name) {
-		return allCourses.stream().filter(courseDto -> courseDto.getName().contains(name)).collect(Collectors.toList());
+		CourseSearchIndex index = catalogService.getSnapshot().getSearchIndex();
+		int[] ordinals = index.searchName(name);
+		// 정확히 맞는 과목이 없으면 오타 허용 검색
+		if (ordinals.length == 0) {
+			ordinals = index.searchFuzzy(name, FUZZY_RESULT_SIZE);
+		}
+		return index.toCourses(ordinals);
 	}
 
-	private List<CourseDto> searchByNumber(String number) {
-		return allCourses.stream().filter(courseDto -> courseDto.getNumber().startsWith(number)).collect(Collectors.toList());
+	/* 관련도(BM25) + 최근 개설 + 인기도 순 과목명 검색, 커서 페이지 */
+	public CourseSearchPageDto searchRanked(String keyword, String cursor, int size) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		CourseSearchIndex index = catalog.getSearchIndex();
+		SearchPage page = index.searchRanked(keyword, coursePopularity.snapshotOf(catalog), catalog.getVersion(), cursor, Math.min(size, MAX_PAGE_SIZE));
+		return new CourseSearchPageDto(index.toCourses(page.getDocuments()), page.getNextCursor());
 	}
 
-	@Transactional(readOnly = true)
-	List<CourseDto> searchByMajor(String major, int enterYear) {
-		Long majorId = Long.parseLong(major);
-		Major studentMajor = majorRepository.findMajorById(majorId);
-		return majorHierarchyRepository.findAllMajorCoursesByMaster(studentMajor, enterYear);
+	/* 영역/학과/학점/학기/전필/과목명 조건을 함께 건 조회와 조건별 과목 수 */
+	public CourseQueryResultDto query(CourseQueryDto query) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		OrdinalBitSet nameMatches = null;
+		if (query.getKeyword() != null && !query.getKeyword().isBlank()) {
+			nameMatches = new OrdinalBitSet(catalog.getCourseCount());
+			for (int ordinal : catalog.getSearchIndex().searchName(query.getKeyword())) {
+				nameMatches.set(ordinal);
+			}
+		}
+		return catalog.getFacetIndex().query(query, nameMatches);
 	}
 
-	@Transactional(readOnly = true)
-	public List<CourseDto> getAllMajorCourses(String majorCode) {
-		Major studentMajor = majorRepository.findMajorByCode(majorCode.toUpperCase(Locale.ROOT));
-		return majorCourseRepository.findCourseDtosByMajor(studentMajor);
+	/* 검색 결과에서 과목을 고름 */
+	public void recordClick(Long courseId) {
+		CourseDto course = catalogService.getSnapshot().findCourseById(courseId);
+		if (course == null) throw new IllegalArgumentException("unknown course: " + courseId);
+		coursePopularity.record(course.getKey());
 	}
 
-	/* 학기별로 개설된 강의들 가져옴 */
-	public void getCoursesBySemester(String year, String hakgi) {
-		try {
-			System.out.println(year + " " + hakgi);
-			List<String> deptList = List.of(
-					"A000", "A010", "A040", "A160", "A170", "A191", "A200",
-					"B010", "C010", "C020", "C030", "C040", "E000", "E010", "E020", "E030", "E040", "E050",
-					"N010", "F000", "F010", "F020", "F030", "F040", "F090", "F120", "F130", "F140", "F150", "F170",
-					"M000", "M020", "K010", "J010", "J020"
-			);
-
-			Map<String, String> data = new HashMap<>();
-			data.put("p_ibhak", "2016");
-			data.put("p_campus", "1");
-			data.put("p_gubun", "1");
-			data.put("p_abeek", "1");
-			data.put("p_grade", "0");
-
-			data.put("p_yy", year);
-			data.put("p_hakgi", hakgi);
-
-			/* major */
-			for (String dept : deptList) {
-				data.put("p_grade", "0");
-				data.put("p_dept", dept);
-				getCoursesFromTimeTable(year + hakgi, data);
-//                majorCourses.addAll(result.getMajorCourses());
-//                courses.addAll(result.getCourses());
-			}
+	/* 과목명 자동완성, 응답 크기는 CourseSearchIndex.MAX_SUGGESTIONS 까지 */
+	public List<CourseDto> autocomplete(String keyword, int size) {
+		CourseSearchIndex index = catalogService.getSnapshot().getSearchIndex();
+		int limit = Math.min(size, CourseSearchIndex.MAX_SUGGESTIONS);
+		int[] ordinals = index.complete(keyword, limit);
+		if (ordinals.length == 0) {
+			ordinals = index.searchFuzzy(keyword, limit);
+		}
+		return index.toCourses(ordinals);
+	}
 
-			/* elective */
-			for (int j = 1; j <= 16; j++) {
-				String grade = Integer.toString(j);
-				data.put("p_grade", grade);
-				data.put("p_dept", "0001");
-				getCoursesFromTimeTable(year + hakgi, data);
-//                majorCourses.addAll(result.getMajorCourses());
-//                courses.addAll(result.getCourses());
-			}
-		} catch (Exception e) {
-			e.printStackTrace();
+	/* 관리자 과목 검색, 색인으로 찾은 id 로 엔티티 조회 */
+	@Transactional(readOnly = true)
+	public List<Course> searchCourseEntitiesByName(String name) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		CourseSearchIndex index = catalog.getSearchIndex();
+		List<Long> ids = new ArrayList<>();
+		for (int ordinal : index.searchName(name)) {
+			ids.add(catalog.courseAt(ordinal).getId());
 		}
+		List<Course> courses = courseRepository.findAllById(ids);
+		courses.sort(Comparator.comparing(Course::getId));
+		return courses;
 	}
 
-	/* 홍익대 시간표 사이트에서 과목들을 크롤링해서 가져옴 */
-	private void getCoursesFromTimeTable(String semester, Map<String, String> data) throws IOException {
-		try {
-			CrawlingCourseListDto result = courseCrawler.getCoursesFromTimeTable(data);
-
-			Set<Major> majors = new HashSet<>();
-			Set<String> majorNames = result.getMajors();
-			for (String majorName : majorNames) {
-				Optional<Major> optionalMajor = majors.stream().filter(m -> m.getName().equals(majorName)).findFirst();
-				Major major;
-				if (optionalMajor.isPresent()) {
-					major = optionalMajor.get();
-				} else {
-					major = majorRepository.findMajorByName(majorName);
-					if (major == null) {
-						major = majorRepository.save(new Major(majorName));
-					}
-				}
-				majors.add(major);
-			}
+	private List<CourseDto> searchByNumber(String number) {
+		CourseSearchIndex index = catalogService.getSnapshot().getSearchIndex();
+		return index.toCourses(index.searchNumber(number));
+	}
 
-			Set<Course> courses = new HashSet<>();
-			Set<MajorCourse> majorCourses = new HashSet<>();
-			Set<CrawlingCourseDto> courseDtos = result.getCourses();
-			for (CrawlingCourseDto courseDto : courseDtos) {
-				Course course;
-				course = courseRepository.findByNumberAndAndCredit(courseDto.getNumber(), courseDto.getCredit());
-				if (course == null) {
-					course = courseRepository.save(new Course(courseDto.getName(), courseDto.getCredit(), courseDto.getNumber(), courseDto.getAbeek(), semester));
-				} else {
-					// 이미 존재하는 수업 학기 갱신
-					int newSemester = Integer.parseInt(semester);
-					int oldSemester = 0;
-					if (course.getSemester() != null) {
-						oldSemester = Integer.parseInt(course.getSemester());
-					}
-					if (newSemester > oldSemester) {
-						course.changeSemester(semester);
-					}
-				}
-				// 전공여부 확인
-				if (courseDto.getAbeek().contains("전") && !courseDto.getAbeek().contains("MSC")) {
-					Major major = majors.stream().filter(m -> m.getName().equals(courseDto.getMadeBy())).findFirst().get();
-					MajorCourse findMajorCourse = majorCourseRepository.findMajorCourseByCourseAndMajor(course, major);
-					if (findMajorCourse == null) {
-						MajorCourse majorCourse = new MajorCourse(major, course, courseDto.getAbeek().equals("전필"));
-						majorCourseRepository.save(majorCourse);
-					}
-//                    majorCourses.add(majorCourse);
-				}
-			}
-//            return new MajorCourseListDto(majorCourses, courses);
-		} catch (IndexOutOfBoundsException | InvalidDocumentException e) {
-			e.printStackTrace();
-//            return null;
-		}
+	/* 학과 학수번호 대역 둘러보기: prefix 로 시작하는 학수번호를 앞 length 자리로 묶은 개수 */
+	public List<CourseNumberGroupDto> getNumberGroups(String prefix, int length) {
+		Map<String, Integer> groups = catalogService.getSnapshot().getSearchIndex().countNumberGroups(prefix, length);
+		List<CourseNumberGroupDto> result = new ArrayList<>(groups.size());
+		groups.forEach((group, count) -> result.add(new CourseNumberGroupDto(group, count)));
+		return result;
+	}
+
+	List<CourseDto> searchByMajor(String major, int enterYear) {
+		Long majorId = Long.parseLong(major);
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		Major studentMajor = catalog.findMajorById(majorId);
+		return catalog.findAllMajorCoursesByMaster(studentMajor, enterYear);
 	}
 
+	public List<CourseDto> getAllMajorCourses(String majorCode) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		Major studentMajor = catalog.findMajorByCode(majorCode.toUpperCase(Locale.ROOT));
+		return catalog.findCourseDtosByMajor(studentMajor);
+	}
+
+	@Transactional(readOnly = true)
 	public long getAllCoursesCount() {
 		return courseRepository.count();
 	}
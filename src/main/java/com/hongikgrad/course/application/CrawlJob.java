@@ -0,0 +1,214 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlJobDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 크롤링 작업 하나의 상태와 진행 상황.
+ * 작업 스레드와 크롤링 워커가 갱신하고, 조회 요청은 toDto() 로 그 순간 값을 읽는다.
+ */
+public final class CrawlJob {
+
+	public enum Status {
+		QUEUED, CRAWLING, INGESTING, DONE, FAILED, CANCELLED;
+
+		boolean isFinished() {
+			return this == DONE || this == FAILED || this == CANCELLED;
+		}
+	}
+
+	private static final int MAX_ERRORS = 20;
+
+	private final String id;
+	// {연도, 학기}
+	private final List<String[]> semesters;
+	// true 면 지문/조건부 요청 없이 모든 페이지를 다시 받아 저장
+	private final boolean full;
+
+	private volatile Status status = Status.QUEUED;
+	private volatile boolean cancelRequested;
+	private volatile Future<?> future;
+
+	private volatile int totalPages;
+	private final AtomicInteger donePages = new AtomicInteger();
+	private final AtomicInteger failedPages = new AtomicInteger();
+	// 요청 없이 건너뜀 (지난 학기, 이미 지문 있음) / 받았지만 지난번과 같음 (304, 지문 일치)
+	private final AtomicInteger skippedPages = new AtomicInteger();
+	private final AtomicInteger unchangedPages = new AtomicInteger();
+	private final LongAdder bytesFetched = new LongAdder();
+	private volatile int crawledRows;
+	private volatile int distinctCourses;
+
+	private final AtomicInteger insertedCourses = new AtomicInteger();
+	private final AtomicInteger updatedCourses = new AtomicInteger();
+	private final AtomicInteger insertedMajors = new AtomicInteger();
+	private final AtomicInteger insertedMajorCourses = new AtomicInteger();
+	private final AtomicInteger ingestedRows = new AtomicInteger();
+
+	private volatile long startedAt;
+	private volatile long finishedAt;
+	private volatile long crawlStartNanos;
+	private volatile long crawlEndNanos;
+	private volatile long ingestStartNanos;
+	private volatile long ingestEndNanos;
+
+	private final Deque<String> errors = new ArrayDeque<>();
+
+	CrawlJob(String id, List<String[]> semesters, boolean full) {
+		this.id = id;
+		this.semesters = List.copyOf(semesters);
+		this.full = full;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	List<String[]> getSemesters() {
+		return semesters;
+	}
+
+	boolean isFull() {
+		return full;
+	}
+
+	boolean isCancelRequested() {
+		return cancelRequested;
+	}
+
+	void setFuture(Future<?> future) {
+		this.future = future;
+	}
+
+	/* 아직 시작 전이면 바로 취소, 실행 중이면 작업 스레드를 interrupt */
+	synchronized void cancel() {
+		if (status.isFinished()) return;
+		cancelRequested = true;
+		if (status == Status.QUEUED) {
+			finish(Status.CANCELLED);
+		}
+		if (future != null) future.cancel(true);
+	}
+
+	synchronized boolean start() {
+		if (status != Status.QUEUED) return false;
+		startedAt = System.currentTimeMillis();
+		status = Status.CRAWLING;
+		return true;
+	}
+
+	synchronized void finish(Status status) {
+		if (this.status.isFinished()) return;
+		finishedAt = System.currentTimeMillis();
+		this.status = status;
+	}
+
+	void crawlStarted(int totalPages) {
+		this.totalPages = totalPages;
+		crawlStartNanos = System.nanoTime();
+	}
+
+	void pageDone(long bytes) {
+		bytesFetched.add(bytes);
+		donePages.incrementAndGet();
+	}
+
+	void pageSkipped() {
+		skippedPages.incrementAndGet();
+		donePages.incrementAndGet();
+	}
+
+	void pageUnchanged(long bytes) {
+		bytesFetched.add(bytes);
+		unchangedPages.incrementAndGet();
+		donePages.incrementAndGet();
+	}
+
+	void pageFailed(long bytes, String error) {
+		bytesFetched.add(bytes);
+		failedPages.incrementAndGet();
+		donePages.incrementAndGet();
+		addError(error);
+	}
+
+	void crawlFinished(int crawledRows, int distinctCourses) {
+		this.crawledRows = crawledRows;
+		this.distinctCourses = distinctCourses;
+		crawlEndNanos = System.nanoTime();
+	}
+
+	void ingestStarted() {
+		status = Status.INGESTING;
+		ingestStartNanos = System.nanoTime();
+	}
+
+	void ingestFinished(int rows) {
+		ingestedRows.set(rows);
+		ingestEndNanos = System.nanoTime();
+	}
+
+	void addInsertedCourses(int count) {
+		insertedCourses.addAndGet(count);
+	}
+
+	void addUpdatedCourses(int count) {
+		updatedCourses.addAndGet(count);
+	}
+
+	void addInsertedMajors(int count) {
+		insertedMajors.addAndGet(count);
+	}
+
+	void addInsertedMajorCourses(int count) {
+		insertedMajorCourses.addAndGet(count);
+	}
+
+	/* DB 에 쓴 것이 있으면 카탈로그를 다시 읽어야 함 */
+	boolean hasWrites() {
+		return insertedCourses.get() + updatedCourses.get() + insertedMajors.get() + insertedMajorCourses.get() > 0;
+	}
+
+	void addError(String error) {
+		synchronized (errors) {
+			if (errors.size() == MAX_ERRORS) errors.removeLast();
+			errors.addFirst(error);
+		}
+	}
+
+	public CrawlJobDto toDto() {
+		List<String> semesterNames = new ArrayList<>(semesters.size());
+		for (String[] semester : semesters) {
+			semesterNames.add(semester[0] + semester[1]);
+		}
+		List<String> errorList;
+		synchronized (errors) {
+			errorList = new ArrayList<>(errors);
+		}
+		int done = donePages.get();
+		int skipped = skippedPages.get();
+		// 요청 없이 건너뛴 페이지는 속도에서 뺌 (증분 크롤링에서 수천 페이지/초로 보이지 않게)
+		return new CrawlJobDto(id, status.name(), full, semesterNames, totalPages, done, failedPages.get(), skipped, unchangedPages.get(), bytesFetched.sum(),
+				perSecond(done - skipped, crawlStartNanos, crawlEndNanos), crawledRows, distinctCourses,
+				insertedCourses.get(), updatedCourses.get(), insertedMajors.get(), insertedMajorCourses.get(),
+				perSecond(ingestedRows.get(), ingestStartNanos, ingestEndNanos), startedAt, finishedAt, errorList);
+	}
+
+	/* end 가 0 이면 아직 진행 중: 지금까지 */
+	private static double perSecond(int count, long startNanos, long endNanos) {
+		if (startNanos == 0) return 0;
+		long elapsed = (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos;
+		return elapsed <= 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+	}
+}
@@ -0,0 +1,135 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.course.dto.CrawlJobDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 크롤링 작업 스케줄러. 요청 스레드는 작업을 등록하고 id 만 받아 간다.
+ * 작업 스레드는 하나라서 크롤링은 한 번에 하나만 돈다. 최근 작업 MAX_JOBS 개까지 상태를 보관.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlJobService {
+
+	private static final int MAX_JOBS = 20;
+
+	private final CourseCrawlService courseCrawlService;
+
+	private final CatalogService catalogService;
+
+	private ExecutorService executor;
+
+	// 등록 순서, this 로 동기화
+	private final Map<String, CrawlJob> jobs = new LinkedHashMap<>();
+	private CrawlJob current;
+
+	@PostConstruct
+	public void init() {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "course-crawl-job");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/* 정기 크롤링: 처음 연도부터 다음 학기까지. full 이 아니면 바뀐 페이지만 실제로 처리 */
+	public CrawlJobDto submitRoutine(boolean full) {
+		return submit(CourseCrawlService.semestersUntilNext(LocalDate.now()), full);
+	}
+
+	/* 진행 중인 작업이 있으면 IllegalStateException */
+	public synchronized CrawlJobDto submit(List<String[]> semesters, boolean full) {
+		if (current != null && !current.getStatus().isFinished()) {
+			throw new IllegalStateException("이미 진행 중인 크롤링 작업: " + current.getId());
+		}
+		CrawlJob job = new CrawlJob(UUID.randomUUID().toString(), semesters, full);
+		jobs.put(job.getId(), job);
+		removeOldJobs();
+		current = job;
+		job.setFuture(executor.submit(() -> run(job)));
+		return job.toDto();
+	}
+
+	/* 없으면 null */
+	public synchronized CrawlJobDto getJob(String jobId) {
+		CrawlJob job = jobs.get(jobId);
+		return job == null ? null : job.toDto();
+	}
+
+	/* 최근 것부터 */
+	public synchronized List<CrawlJobDto> getJobs() {
+		List<CrawlJobDto> result = new ArrayList<>(jobs.size());
+		for (CrawlJob job : jobs.values()) {
+			result.add(job.toDto());
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/* 없으면 null, 이미 끝난 작업이면 그대로 */
+	public synchronized CrawlJobDto cancel(String jobId) {
+		CrawlJob job = jobs.get(jobId);
+		if (job == null) return null;
+		job.cancel();
+		return job.toDto();
+	}
+
+	private void run(CrawlJob job) {
+		if (!job.start()) return;
+		try {
+			courseCrawlService.crawl(job);
+			if (job.hasWrites()) catalogService.refresh();
+			job.finish(CrawlJob.Status.DONE);
+		} catch (InterruptedException | CancellationException e) {
+			refreshIfWritten(job);
+			job.finish(CrawlJob.Status.CANCELLED);
+		} catch (Exception e) {
+			log.error("crawl job {} failed", job.getId(), e);
+			job.addError(e.toString());
+			refreshIfWritten(job);
+			job.finish(job.isCancelRequested() ? CrawlJob.Status.CANCELLED : CrawlJob.Status.FAILED);
+		}
+		log.info("crawl job {} {}", job.getId(), job.getStatus());
+	}
+
+	/* 저장 도중 멈췄으면 이미 커밋된 chunk 를 카탈로그에 반영 */
+	private void refreshIfWritten(CrawlJob job) {
+		if (!job.hasWrites()) return;
+		Thread.interrupted();
+		try {
+			catalogService.refresh();
+		} catch (Exception e) {
+			log.error("catalog refresh after crawl job {} failed", job.getId(), e);
+		}
+	}
+
+	private void removeOldJobs() {
+		Iterator<CrawlJob> iterator = jobs.values().iterator();
+		while (jobs.size() > MAX_JOBS && iterator.hasNext()) {
+			if (iterator.next().getStatus().isFinished()) iterator.remove();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlingCourseDto;
+import com.hongikgrad.course.dto.CrawlingCourseListDto;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * 한 번의 크롤링에서 모든 페이지 결과를 모아 중복을 없앤 것 (writer 스레드 하나만 사용).
+ * 같은 과목(학수번호+학점)은 가장 최근 학기 것 하나, 같은 (학과, 과목) 전공 관계는 처음 것 하나만 남긴다.
+ */
+final class CrawledCourses {
+
+	private final Map<String, Entry> courses = new LinkedHashMap<>();
+	private final Set<String> majorNames = new LinkedHashSet<>();
+	// (학과 이름, 과목 키) -> 전필 여부
+	private final Map<MajorCourseKey, Boolean> majorCourses = new LinkedHashMap<>();
+	private int rows;
+
+	void add(String semester, CrawlingCourseListDto page) {
+		majorNames.addAll(page.getMajors());
+		for (CrawlingCourseDto course : page.getCourses()) {
+			rows++;
+			String key = keyOf(course.getNumber(), course.getCredit());
+			Entry entry = courses.get(key);
+			if (entry == null) {
+				courses.put(key, new Entry(course, semester));
+			} else if (semester.compareTo(entry.semester) > 0) {
+				entry.course = course;
+				entry.semester = semester;
+			}
+			// 전공여부 확인
+			if (course.getAbeek().contains("전") && !course.getAbeek().contains("MSC")) {
+				majorCourses.putIfAbsent(new MajorCourseKey(course.getMadeBy(), key), course.getAbeek().equals("전필"));
+			}
+		}
+	}
+
+	/* 페이지에서 읽은 과목 행 수 (중복 포함) */
+	int getRows() {
+		return rows;
+	}
+
+	Collection<Entry> getCourses() {
+		return courses.values();
+	}
+
+	Set<String> getMajorNames() {
+		return majorNames;
+	}
+
+	Map<MajorCourseKey, Boolean> getMajorCourses() {
+		return majorCourses;
+	}
+
+	static String keyOf(String number, int credit) {
+		return number + ":" + credit;
+	}
+
+	static final class Entry {
+		private CrawlingCourseDto course;
+		// 이 과목이 보인 가장 최근 학기
+		private String semester;
+
+		private Entry(CrawlingCourseDto course, String semester) {
+			this.course = course;
+			this.semester = semester;
+		}
+
+		CrawlingCourseDto getCourse() {
+			return course;
+		}
+
+		String getSemester() {
+			return semester;
+		}
+
+		String getKey() {
+			return keyOf(course.getNumber(), course.getCredit());
+		}
+	}
+
+	static final class MajorCourseKey {
+		private final String majorName;
+		private final String courseKey;
+
+		MajorCourseKey(String majorName, String courseKey) {
+			this.majorName = majorName;
+			this.courseKey = courseKey;
+		}
+
+		String getMajorName() {
+			return majorName;
+		}
+
+		String getCourseKey() {
+			return courseKey;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof MajorCourseKey)) return false;
+			MajorCourseKey other = (MajorCourseKey) o;
+			return majorName.equals(other.majorName) && courseKey.equals(other.courseKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * majorName.hashCode() + courseKey.hashCode();
+		}
+	}
+}
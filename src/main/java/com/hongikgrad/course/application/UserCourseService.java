@@ -1,5 +1,6 @@
 package com.hongikgrad.course.application;
 
+import com.hongikgrad.common.catalog.CatalogService;
 import com.hongikgrad.common.crawler.CourseCrawler;
 import com.hongikgrad.course.dto.CourseDto;
 import com.hongikgrad.course.exception.InvalidCookieException;
@@ -16,6 +17,8 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 @Service
@@ -24,6 +27,10 @@ public class UserCourseService {
 
 	private final CourseCrawler courseCrawler;
 	private final CourseRepository courseRepository;
+	private final CatalogService catalogService;
+
+	// "2021학년도 1학기", "2021년 하계계절학기" ...
+	private static final Pattern SEMESTER_PATTERN = Pattern.compile("(\\d{4})\\s*(?:학년도|년)\\s*(1|2|하계|동계|여름|겨울)");
 
 	String TAKEN_COURSE_URL = "https://cn.hongik.ac.kr/stud/P/01000/01000.jsp";
 	String GRADUATION_URL = "https://cn.hongik.ac.kr/stud/E/04000/04010.jsp";
@@ -52,7 +59,7 @@ public class UserCourseService {
 					Element tableBody = tableElement.selectFirst("tbody");
 					if (tableBody == null) continue;
 					Elements tableRows = tableBody.children();
-					extractCourseData(tableRows, courseDtoList, 0, 3);
+					extractCourseData(tableRows, courseDtoList, 0, 3, null);
 				}
 			}
 			return courseDtoList;
@@ -63,8 +70,13 @@ public class UserCourseService {
 	}
 
 	public List<CourseDto> getUserTakenCoursesFromClassnet(Map<String, String> request) throws InvalidDocumentException, InvalidCookieException {
-		List<CourseDto> courseDtoList = new ArrayList<>();
 		Document userTakenCourseDocument = courseCrawler.getJsoupResponseDocument(TAKEN_COURSE_URL, request, courseCrawler.getHeaders(), null, Connection.Method.POST);
+		return extractClassnetCourses(userTakenCourseDocument);
+	}
+
+	/* 클래스넷 수강 과목 페이지: 학기마다 테이블 하나, 학기는 caption 이나 테이블 앞 제목 */
+	List<CourseDto> extractClassnetCourses(Document userTakenCourseDocument) {
+		List<CourseDto> courseDtoList = new ArrayList<>();
 		try {
 			Element body = userTakenCourseDocument.getElementById("body");
 			Elements semesterTableList = getValidTableElements(body);
@@ -79,7 +91,7 @@ public class UserCourseService {
 					continue;
 				}
 				Elements tableRows = tableBody.children();
-				extractCourseData(tableRows, courseDtoList, courseNumberIndex, courseCreditIndex);
+				extractCourseData(tableRows, courseDtoList, courseNumberIndex, courseCreditIndex, getTakenSemester(table));
 			}
 			return courseDtoList;
 		} catch(Exception e) {
@@ -88,7 +100,7 @@ public class UserCourseService {
 		}
 	}
 
-	private void extractCourseData(Elements tableRows, List<CourseDto> courseDtoList, int courseNumberIndex, int courseCreditIndex) {
+	private void extractCourseData(Elements tableRows, List<CourseDto> courseDtoList, int courseNumberIndex, int courseCreditIndex, String takenSemester) {
 		try {
 			for (Element tableRow : tableRows) {
 				if (!isCourseInfoRow(tableRow)) continue;
@@ -97,18 +109,46 @@ public class UserCourseService {
 				Element courseCreditElement = tableRow.child(courseCreditIndex);
 				String courseNumber = getTextFromElement(courseNumberElement);
 				int courseCredit = Integer.parseInt(getTextFromElement(courseCreditElement));
-				findAndSaveCourse(courseNumber, courseCredit, courseDtoList);
+				findAndSaveCourse(courseNumber, courseCredit, courseDtoList, takenSemester);
 			}
 		} catch (NumberFormatException e) {
 			e.printStackTrace();
 		}
 	}
 
-	private void findAndSaveCourse(String courseNumber, int courseCredit, List<CourseDto> courseDtoList) {
+	private void findAndSaveCourse(String courseNumber, int courseCredit, List<CourseDto> courseDtoList, String takenSemester) {
 		if (courseNumber != null) {
-			CourseDto courseDto = courseRepository.findCourseDtoByNumberAndCredit(courseNumber, courseCredit);
+			CourseDto courseDto = catalogService.getSnapshot().findCourse(courseNumber, courseCredit);
 			if (courseDto == null) return;
-			courseDtoList.add(courseDto);
+			courseDtoList.add(takenSemester == null ? courseDto : courseDto.withTakenSemester(takenSemester));
+		}
+	}
+
+	/* 학기 테이블 caption 이나 바로 앞 제목에서 학기를 읽음, 없으면 null */
+	private String getTakenSemester(Element semesterTable) {
+		Element caption = semesterTable.selectFirst("caption");
+		String semester = caption == null ? null : parseSemester(caption.text());
+		if (semester == null && semesterTable.previousElementSibling() != null) {
+			semester = parseSemester(semesterTable.previousElementSibling().text());
+		}
+		return semester;
+	}
+
+	/* 20211, 20212, 계절학기는 정규 학기 뒤에 오도록 20211S(하계) / 20212W(동계) */
+	static String parseSemester(String text) {
+		Matcher matcher = SEMESTER_PATTERN.matcher(text);
+		if (!matcher.find()) return null;
+		String year = matcher.group(1);
+		switch (matcher.group(2)) {
+			case "1":
+				return year + "1";
+			case "2":
+				return year + "2";
+			case "하계":
+			case "여름":
+				return year + "1S";
+			default:
+				return year + "2W";
 		}
 	}
 
@@ -1,27 +1,30 @@
 package com.hongikgrad.course.controller;
 
+import com.hongikgrad.authentication.application.UserService;
+import com.hongikgrad.course.application.CourseService;
+import com.hongikgrad.course.application.CrawlJobService;
+import com.hongikgrad.course.dto.CrawlJobDto;
 import com.hongikgrad.course.entity.Course;
-import com.hongikgrad.course.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class CourseCRUDController {
 
-	private final CourseRepository courseRepository;
+	private final CourseService courseService;
+	private final CrawlJobService crawlJobService;
+	private final UserService userService;
 
 	@GetMapping("/admin/courses")
 	public ResponseEntity adminCourseGET(@RequestParam(value = "keyword", required = false) String keyword) {
 		try {
-			List<Course> findCourseList = courseRepository.findCourseByNameContains(keyword);
+			List<Course> findCourseList = courseService.searchCourseEntitiesByName(keyword);
 			return new ResponseEntity(findCourseList, HttpStatus.OK);
 		} catch(Exception e) {
 			return new ResponseEntity(HttpStatus.BAD_REQUEST);
@@ -33,5 +36,53 @@ public class CourseCRUDController {
 		return null;
 	}
 
+	/* 시간표 사이트에서 크롤링 해서 과목들을 가져오는 작업을 등록, 작업 id 를 바로 반환. full=true 면 바뀌지 않은 페이지도 다시 처리 */
+	@PostMapping("/admin/courses/crawl-jobs")
+	public ResponseEntity crawlJobPOST(@RequestParam(value = "full", defaultValue = "false") boolean full, HttpServletRequest request) {
+		try {
+			userService.authenticateAdmin(request);
+			return new ResponseEntity<CrawlJobDto>(crawlJobService.submitRoutine(full), HttpStatus.ACCEPTED);
+		} catch (IllegalStateException e) {
+			return new ResponseEntity<String>(e.getMessage(), HttpStatus.CONFLICT);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 최근 크롤링 작업 목록 */
+	@GetMapping("/admin/courses/crawl-jobs")
+	public ResponseEntity crawlJobsGET(HttpServletRequest request) {
+		try {
+			userService.authenticateAdmin(request);
+			return new ResponseEntity<List<CrawlJobDto>>(crawlJobService.getJobs(), HttpStatus.OK);
+		} catch (Exception e) {
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
 
+	@GetMapping("/admin/courses/crawl-jobs/{jobId}")
+	public ResponseEntity crawlJobGET(@PathVariable("jobId") String jobId, HttpServletRequest request) {
+		try {
+			userService.authenticateAdmin(request);
+			CrawlJobDto job = crawlJobService.getJob(jobId);
+			if (job == null) return new ResponseEntity(HttpStatus.NOT_FOUND);
+			return new ResponseEntity<CrawlJobDto>(job, HttpStatus.OK);
+		} catch (Exception e) {
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 크롤링 작업 취소 */
+	@DeleteMapping("/admin/courses/crawl-jobs/{jobId}")
+	public ResponseEntity crawlJobDELETE(@PathVariable("jobId") String jobId, HttpServletRequest request) {
+		try {
+			userService.authenticateAdmin(request);
+			CrawlJobDto job = crawlJobService.cancel(jobId);
+			if (job == null) return new ResponseEntity(HttpStatus.NOT_FOUND);
+			return new ResponseEntity<CrawlJobDto>(job, HttpStatus.OK);
+		} catch (Exception e) {
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
 }
@@ -2,6 +2,7 @@ package com.hongikgrad.course.controller;
 
 import com.hongikgrad.course.application.CourseService;
 import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.course.dto.CourseQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,66 @@ public class CourseController {
 		}
 	}
 
+	/* 과목명 순위 검색, nextCursor 로 다음 페이지 */
+	@GetMapping("/courses/search")
+	public ResponseEntity searchRankedCourse(@RequestParam(value = "keyword", required = false) String keyword,
+	                                         @RequestParam(value = "cursor", required = false) String cursor,
+	                                         @RequestParam(value = "size", defaultValue = "20") int size) {
+		try {
+			return new ResponseEntity(courseService.searchRanked(keyword, cursor, size), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 학수번호 대역별 과목 수 (prefix=01, length=4 -> 0121: 12, 0122: 5 ...) */
+	@GetMapping("/courses/numbers")
+	public ResponseEntity courseNumberGroups(@RequestParam(value = "prefix", defaultValue = "") String prefix,
+	                                         @RequestParam(value = "length", defaultValue = "4") int length) {
+		try {
+			return new ResponseEntity(courseService.getNumberGroups(prefix, length), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 여러 조건 조회 (예: 2022-1 개설 3학점 MSC과학), 조건별 과목 수 포함 */
+	@PostMapping("/courses/query")
+	public ResponseEntity queryCourse(@RequestBody CourseQueryDto query) {
+		try {
+			return new ResponseEntity(courseService.query(query), HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 검색 결과 클릭, 인기도에 반영 */
+	@PostMapping("/courses/{courseId}/click")
+	public ResponseEntity clickCourse(@PathVariable("courseId") Long courseId) {
+		try {
+			courseService.recordClick(courseId);
+			return new ResponseEntity(HttpStatus.OK);
+		} catch (Exception e) {
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/* 입력 중인 과목명 자동완성 (초성 검색 포함) */
+	@GetMapping("/courses/autocomplete")
+	public ResponseEntity autocompleteCourse(@RequestParam(value = "keyword", required = false) String keyword,
+	                                         @RequestParam(value = "size", defaultValue = "10") int size) {
+		try {
+			List<CourseDto> result = courseService.autocomplete(keyword, size);
+			return new ResponseEntity(result, HttpStatus.OK);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new ResponseEntity(HttpStatus.BAD_REQUEST);
+		}
+	}
+
 	@GetMapping("/courses/count")
 	public ResponseEntity getCount() {
 		try {
@@ -53,20 +114,4 @@ public class CourseController {
 			return new ResponseEntity(HttpStatus.NO_CONTENT);
 		}
 	}
-
-	/* 시간표 사이트에서 크롤링 해서 과목들을 가져오는 컨트롤러 */
-	@PostMapping("/courses")
-	public ResponseEntity saveAllCourses() {
-		try {
-			for (int year = 2016; year <= 2021; year++) {
-				courseService.getCoursesBySemester(Integer.toString(year), "1");
-				courseService.getCoursesBySemester(Integer.toString(year), "2");
-			}
-			courseService.getCoursesBySemester("2022", "1");
-			return new ResponseEntity<String>("저장 성공", HttpStatus.OK);
-		} catch (Exception e) {
-			e.printStackTrace();
-			return new ResponseEntity<String>(e.toString(), HttpStatus.BAD_REQUEST);
-		}
-	}
 }
@@ -1,12 +1,12 @@
 package com.hongikgrad.course.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hongikgrad.common.catalog.CourseKey;
 import com.hongikgrad.course.entity.Course;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor
 public class CourseDto {
 	private Long id;
@@ -16,6 +16,21 @@ public class CourseDto {
 	private int credit;
 	private boolean isRequired;
 	private String semester;
+	// 학생이 들은 학기 (예: 20211, 계절학기는 20211S / 20212W), 모르면 null
+	private String takenSemester;
+
+	// 학수번호+학점 키 캐시, 처음 조회할 때 계산
+	private transient int key;
+
+	public CourseDto(Long id, String name, String number, String abeek, int credit, boolean isRequired, String semester) {
+		this.id = id;
+		this.name = name;
+		this.number = number;
+		this.abeek = abeek;
+		this.credit = credit;
+		this.isRequired = isRequired;
+		this.semester = semester;
+	}
 
 	public CourseDto(String number, int credit) {
 		this.number = number;
@@ -50,6 +65,30 @@ public class CourseDto {
 		this.semester = semester;
 	}
 
+	/* 카탈로그 과목은 여러 요청이 같이 쓰므로 복사해서 수강 학기를 붙임 */
+	public CourseDto withTakenSemester(String takenSemester) {
+		CourseDto course = new CourseDto(id, name, number, abeek, credit, isRequired, semester);
+		course.takenSemester = takenSemester;
+		return course;
+	}
+
+	/* 영역만 바꾼 복사본 (수강 학기 유지) */
+	public CourseDto withAbeek(String abeek) {
+		CourseDto course = new CourseDto(id, name, number, abeek, credit, isRequired, semester);
+		course.takenSemester = takenSemester;
+		return course;
+	}
+
+	@JsonIgnore
+	public int getKey() {
+		int cached = key;
+		if (cached == 0) {
+			cached = CourseKey.of(number, credit);
+			key = cached;
+		}
+		return cached;
+	}
+
 	@Override
 	public boolean equals(Object a) {
 		return (a instanceof CourseDto) && (((CourseDto) a).getNumber().equals(this.getNumber())) && ((CourseDto) a).getCredit() == this.getCredit();
@@ -57,6 +96,7 @@ public class CourseDto {
 
 	@Override
 	public int hashCode() {
-		return (this.getNumber() + this.getCredit()).hashCode();
+		int courseKey = getKey();
+		return courseKey != CourseKey.NONE ? courseKey : 31 * this.getNumber().hashCode() + this.getCredit();
 	}
 }
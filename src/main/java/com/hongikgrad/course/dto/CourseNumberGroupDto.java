@@ -0,0 +1,12 @@
+package com.hongikgrad.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CourseNumberGroupDto {
+	// 학수번호 앞자리 (0121 -> 0121xx)
+	private String prefix;
+	private int count;
+}
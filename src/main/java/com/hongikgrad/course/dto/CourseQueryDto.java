@@ -0,0 +1,26 @@
+package com.hongikgrad.course.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/* 여러 조건을 함께 거는 과목 조회, 빈 조건은 무시. 같은 조건 안의 여러 값은 OR */
+@Getter
+@NoArgsConstructor
+public class CourseQueryDto {
+	// 영역 (교양필수, MSC과학, 전공 ...)
+	private List<String> abeek;
+	// 하위 학과 전공과목 포함
+	private Long majorId;
+	// 있으면 학번별로 빠지는 전공과목 제외
+	private Integer enterYear;
+	private List<Integer> credit;
+	// 최근 개설 학기 (20221 ...)
+	private List<String> semester;
+	// majorId 의 전공필수 여부
+	private Boolean required;
+	private String keyword;
+	private int offset;
+	private Integer size;
+}
@@ -0,0 +1,17 @@
+package com.hongikgrad.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class CourseQueryResultDto {
+	private int totalCount;
+	// offset 부터 size 개, 카탈로그 순서
+	private List<CourseDto> courses;
+	// 조건 -> 값 -> 과목 수. 각 조건의 개수는 그 조건만 빼고 나머지 조건을 건 결과 기준
+	private Map<String, Map<String, Integer>> facets;
+}
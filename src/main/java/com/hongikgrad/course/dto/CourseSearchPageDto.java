@@ -0,0 +1,14 @@
+package com.hongikgrad.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CourseSearchPageDto {
+	private List<CourseDto> courses;
+	// 다음 페이지 요청에 그대로 넘김, 마지막 페이지면 null
+	private String nextCursor;
+}
@@ -0,0 +1,39 @@
+package com.hongikgrad.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CrawlJobDto {
+	private String id;
+	// QUEUED, CRAWLING, INGESTING, DONE, FAILED, CANCELLED
+	private String status;
+	private boolean full;
+	// 20221 형식
+	private List<String> semesters;
+	private int totalPages;
+	private int donePages;
+	private int failedPages;
+	// 요청 없이 건너뜀 / 받았지만 바뀌지 않음 (donePages 에 포함)
+	private int skippedPages;
+	private int unchangedPages;
+	private long bytesFetched;
+	private double pagesPerSecond;
+	// 페이지에서 읽은 과목 행 (중복 포함) / 중복 제거 후
+	private int crawledRows;
+	private int distinctCourses;
+	private int insertedCourses;
+	private int updatedCourses;
+	private int insertedMajors;
+	private int insertedMajorCourses;
+	// 저장 단계 처리량 (중복 제거 후 과목 + 전공 관계 행 / 초)
+	private double rowsPerSecond;
+	// epoch ms, 아직이면 0
+	private long startedAt;
+	private long finishedAt;
+	// 최근 것부터
+	private List<String> errors;
+}
@@ -1,5 +1,6 @@
 package com.hongikgrad.course.dto;
 
+import com.hongikgrad.common.catalog.CourseKey;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +23,7 @@ public class CrawlingCourseDto {
 
 	@Override
 	public int hashCode() {
-		return (this.number + this.credit).hashCode();
+		int courseKey = CourseKey.of(this.number, this.credit);
+		return courseKey != CourseKey.NONE ? courseKey : 31 * this.number.hashCode() + this.credit;
 	}
 }
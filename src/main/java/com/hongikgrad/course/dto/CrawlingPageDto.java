@@ -0,0 +1,44 @@
+package com.hongikgrad.course.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/* 시간표 사이트 한 페이지: 학기 + (학과 | 교양 학년) */
+@Getter
+@RequiredArgsConstructor
+public class CrawlingPageDto {
+
+	// 교양 페이지의 학과 코드
+	public static final String ELECTIVE_DEPT = "0001";
+
+	private final String year;
+	private final String hakgi;
+	private final String dept;
+	// 전공 페이지는 0
+	private final int grade;
+
+	public String getSemester() {
+		return year + hakgi;
+	}
+
+	public Map<String, String> toFormData() {
+		Map<String, String> data = new HashMap<>();
+		data.put("p_ibhak", "2016");
+		data.put("p_campus", "1");
+		data.put("p_gubun", "1");
+		data.put("p_abeek", "1");
+		data.put("p_yy", year);
+		data.put("p_hakgi", hakgi);
+		data.put("p_dept", dept);
+		data.put("p_grade", Integer.toString(grade));
+		return data;
+	}
+
+	@Override
+	public String toString() {
+		return getSemester() + "/" + dept + "/" + grade;
+	}
+}
@@ -1,5 +1,6 @@
 package com.hongikgrad.course.entity;
 
+import com.hongikgrad.common.catalog.CourseKey;
 import com.hongikgrad.course.dto.CrawlingCourseDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -71,6 +72,7 @@ public class Course {
 
     @Override
     public int hashCode() {
-        return (this.getNumber() + this.getCredit()).hashCode();
+        int courseKey = CourseKey.of(this.getNumber(), this.getCredit());
+        return courseKey != CourseKey.NONE ? courseKey : 31 * this.getNumber().hashCode() + this.getCredit();
     }
 }
\ No newline at end of file
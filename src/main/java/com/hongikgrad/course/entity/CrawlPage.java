@@ -0,0 +1,54 @@
+package com.hongikgrad.course.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/* 시간표 페이지 하나의 마지막 크롤링 결과 지문. 내용이 같으면 다음 크롤링에서 파싱/저장을 건너뜀 */
+@Entity
+@Getter
+@NoArgsConstructor
+public class CrawlPage {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "crawl_page_id")
+	private Long id;
+
+	// 학기/학과/학년 (20221/A000/0)
+	@Column(name = "page_key", unique = true, nullable = false)
+	private String pageKey;
+
+	// select_list 표를 정규화한 SHA-256
+	@Column(name = "fingerprint", length = 64)
+	private String fingerprint;
+
+	@Column(name = "etag")
+	private String etag;
+
+	@Column(name = "last_modified")
+	private String lastModified;
+
+	// 지문이 바뀐 시각 (epoch ms)
+	@Column(name = "changed_at")
+	private Long changedAt;
+
+	public CrawlPage(String pageKey) {
+		this.pageKey = pageKey;
+	}
+
+	/* 바뀐 값이 있으면 true */
+	public boolean update(String fingerprint, String etag, String lastModified) {
+		boolean changed = !Objects.equals(this.etag, etag) || !Objects.equals(this.lastModified, lastModified);
+		if (!Objects.equals(this.fingerprint, fingerprint)) {
+			this.fingerprint = fingerprint;
+			this.changedAt = System.currentTimeMillis();
+			changed = true;
+		}
+		this.etag = etag;
+		this.lastModified = lastModified;
+		return changed;
+	}
+}
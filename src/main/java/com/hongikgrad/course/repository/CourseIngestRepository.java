@@ -0,0 +1,98 @@
+package com.hongikgrad.course.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * 크롤링 결과 일괄 저장용 JDBC. 엔티티를 거치지 않고 키만 미리 읽어 두고 배치 INSERT 한다.
+ * MySQL 은 rewriteBatchedStatements=true 여야 배치가 다중 행 INSERT 로 나간다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CourseIngestRepository {
+
+	private static final int BATCH_SIZE = 500;
+	// IN (...) 목록 최대 길이
+	private static final int IN_CHUNK = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/* "학수번호:학점" -> course_id */
+	public Map<String, Long> findCourseIds() {
+		Map<String, Long> ids = new HashMap<>();
+		jdbcTemplate.query("select course_id, course_number, course_credit from course",
+				rs -> {
+					ids.put(rs.getString(2) + ":" + rs.getInt(3), rs.getLong(1));
+				});
+		return ids;
+	}
+
+	public Map<String, Long> findMajorIds() {
+		Map<String, Long> ids = new HashMap<>();
+		jdbcTemplate.query("select major_id, major_name from major", rs -> {
+			ids.put(rs.getString(2), rs.getLong(1));
+		});
+		return ids;
+	}
+
+	/* "major_id:course_id" */
+	public Set<String> findMajorCoursePairs() {
+		Set<String> pairs = new HashSet<>();
+		jdbcTemplate.query("select major_id, course_id from major_course", rs -> {
+			pairs.add(rs.getLong(1) + ":" + rs.getLong(2));
+		});
+		return pairs;
+	}
+
+	/* {이름, 학점, 학수번호, 영역, 학기} */
+	public int insertCourses(List<Object[]> rows) {
+		return batch("insert into course (course_name, course_credit, course_number, course_abeek, latest_semester) values (?, ?, ?, ?, ?)", rows);
+	}
+
+	public int insertMajors(List<String> names) {
+		List<Object[]> rows = new ArrayList<>(names.size());
+		for (String name : names) rows.add(new Object[]{name});
+		return batch("insert into major (major_name, enable) values (?, false)", rows);
+	}
+
+	/* {major_id, course_id, 전필 여부} */
+	public int insertMajorCourses(List<Object[]> rows) {
+		return batch("insert into major_course (major_id, course_id, is_required) values (?, ?, ?)", rows);
+	}
+
+	/* 집합 단위 학기 갱신: 이미 더 최근 학기면 그대로 */
+	public int updateSemester(String semester, List<Long> courseIds) {
+		int updated = 0;
+		for (int from = 0; from < courseIds.size(); from += IN_CHUNK) {
+			List<Long> chunk = courseIds.subList(from, Math.min(courseIds.size(), from + IN_CHUNK));
+			String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+			List<Object> args = new ArrayList<>(chunk.size() + 2);
+			args.add(semester);
+			args.addAll(chunk);
+			args.add(semester);
+			updated += jdbcTemplate.update("update course set latest_semester = ? where course_id in (" + placeholders + ")"
+					+ " and (latest_semester is null or latest_semester < ?)", args.toArray());
+		}
+		return updated;
+	}
+
+	private int batch(String sql, List<Object[]> rows) {
+		if (rows.isEmpty()) return 0;
+		int count = 0;
+		for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+			List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE));
+			jdbcTemplate.batchUpdate(sql, chunk);
+			count += chunk.size();
+		}
+		return count;
+	}
+}
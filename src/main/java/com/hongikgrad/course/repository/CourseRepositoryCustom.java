@@ -7,6 +7,7 @@ import java.util.List;
 
 public interface CourseRepositoryCustom {
 	List<CourseDto> findAllCourseDto();
+	List<CourseDto> findAllCourseDtoWithId();
 
 	public List<CourseDto> findCoursesByNumbers(List<String> numbers);
 	public List<CourseDto> findCoursesByNumber(String number);
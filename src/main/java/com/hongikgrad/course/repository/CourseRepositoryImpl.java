@@ -156,6 +156,24 @@ public class CourseRepositoryImpl implements CourseRepositoryCustom {
 				.fetch();
 	}
 
+	@Override
+	public List<CourseDto> findAllCourseDtoWithId() {
+		return queryFactory
+				.select(
+						Projections.fields(
+								CourseDto.class,
+								course.id,
+								course.name,
+								course.number,
+								course.abeek,
+								course.credit,
+								course.semester
+						))
+				.from(course)
+				.orderBy(course.id.asc())
+				.fetch();
+	}
+
 	@Override
 	public List<CourseDto> findCoursesByNumbers(List<String> numbers) {
 		return null;
@@ -0,0 +1,7 @@
+package com.hongikgrad.course.repository;
+
+import com.hongikgrad.course.entity.CrawlPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CrawlPageRepository extends JpaRepository<CrawlPage, Long> {
+}
@@ -0,0 +1,141 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.BatchResultDto;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.engine.RuleSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.*;
+
+/*
+ * 여러 학생 졸업요건 일괄 판정.
+ * 요청은 JSON 배열(또는 연속된 JSON 객체)을 하나씩 읽고, 결과는 끝나는 순서대로 한 줄씩(NDJSON) 쓴다.
+ * 동시에 처리 중인 건수를 제한해서 배치 크기와 상관없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GraduationBatchService {
+
+	private static final byte[] NEW_LINE = {'\n'};
+
+	private final GraduationService graduationService;
+
+	private final CatalogService catalogService;
+
+	private final GraduationRuleService graduationRuleService;
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${graduation.batch.parallelism:0}")
+	private int parallelism;
+
+	@Value("${graduation.batch.max-in-flight:0}")
+	private int maxInFlight;
+
+	private ForkJoinPool pool;
+
+	@PostConstruct
+	public void init() {
+		if (parallelism <= 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		if (maxInFlight <= 0) {
+			maxInFlight = parallelism * 4;
+		}
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		pool.shutdownNow();
+	}
+
+	/* 모든 결과를 쓴 뒤 반환, 반환값은 처리 건수 */
+	public int evaluate(InputStream in, OutputStream out) throws IOException {
+		// 배치 전체를 같은 카탈로그/규칙으로 판정
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		RuleSet ruleSet = graduationRuleService.getRuleSet();
+
+		Semaphore window = new Semaphore(maxInFlight);
+		BlockingQueue<byte[]> completed = new LinkedBlockingQueue<>();
+		int submitted = 0;
+		int written = 0;
+
+		try (MappingIterator<GraduationRequestDto> requests = objectMapper.readerFor(GraduationRequestDto.class).readValues(in)) {
+			while (requests.hasNextValue()) {
+				GraduationRequestDto request = requests.nextValue();
+				int index = submitted;
+				// 자리가 날 때까지 끝난 결과를 내보냄
+				while (!window.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+					written += drain(completed, out);
+				}
+				pool.execute(() -> {
+					try {
+						completed.add(toLine(evaluate(index, request, catalog, ruleSet)));
+					} finally {
+						window.release();
+					}
+				});
+				submitted++;
+				written += drain(completed, out);
+			}
+			while (written < submitted) {
+				out.write(completed.take());
+				out.write(NEW_LINE);
+				written++;
+				written += drain(completed, out);
+				out.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("일괄 판정 중단", e);
+		}
+		log.info("graduation batch: {} transcripts", submitted);
+		return submitted;
+	}
+
+	private BatchResultDto evaluate(int index, GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet) {
+		try {
+			return new BatchResultDto(index, request.getMajorId(), request.getEnterYear(),
+					graduationService.getGraduationRequirementResult(request, catalog, ruleSet), null);
+		} catch (Exception e) {
+			return new BatchResultDto(index, request.getMajorId(), request.getEnterYear(), null, String.valueOf(e.getMessage()));
+		}
+	}
+
+	private byte[] toLine(BatchResultDto result) {
+		try {
+			return objectMapper.writeValueAsBytes(result);
+		} catch (IOException e) {
+			return ("{\"index\":" + result.getIndex() + ",\"error\":\"직렬화 실패\"}").getBytes();
+		}
+	}
+
+	/* 기다리지 않고 지금 끝난 것만 */
+	private int drain(BlockingQueue<byte[]> completed, OutputStream out) throws IOException {
+		int count = 0;
+		byte[] line;
+		while ((line = completed.poll()) != null) {
+			out.write(line);
+			out.write(NEW_LINE);
+			count++;
+		}
+		if (count > 0) {
+			out.flush();
+		}
+		return count;
+	}
+}
@@ -0,0 +1,111 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.catalog.CourseKey;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.SecondaryMajorDto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * 졸업요건 결과 캐시 키.
+ * (학과, 복수전공/부전공, 학번, 공학인증, 카탈로그/규칙 버전, 요청 순서 그대로의 과목 행) 로 만든 64비트 지문을 해시로 쓰고,
+ * 충돌 대비로 과목 행 전체를 같이 비교한다.
+ * 결과의 SubField 과목 목록은 요청 순서를 따르고 요청 행(과목명, abeek, 수강 학기)을 그대로 담으므로
+ * 정렬하지 않고 행 내용까지 키에 넣는다. 순서만 다른 성적표는 다른 항목이 된다.
+ */
+public final class GraduationCacheKey {
+
+	private static final char SEPARATOR = '\u001f';
+
+	private final Long majorId;
+	private final String secondaryKey;
+	private final Integer enterYear;
+	private final boolean isAbeek;
+	private final long catalogVersion;
+	private final long ruleVersion;
+	private final int[] orderedKeys;
+	// orderedKeys 와 같은 순서, 결과에 그대로 나가는 나머지 값 (abeek, 과목명, 수강 학기)
+	private final String[] rows;
+	private final long fingerprint;
+
+	private GraduationCacheKey(Long majorId, String secondaryKey, Integer enterYear, boolean isAbeek, long catalogVersion, long ruleVersion,
+	                           int[] orderedKeys, String[] rows) {
+		this.majorId = majorId;
+		this.secondaryKey = secondaryKey;
+		this.enterYear = enterYear;
+		this.isAbeek = isAbeek;
+		this.catalogVersion = catalogVersion;
+		this.ruleVersion = ruleVersion;
+		this.orderedKeys = orderedKeys;
+		this.rows = rows;
+
+		long hash = mix(Objects.hashCode(majorId));
+		hash = mix(hash ^ secondaryKey.hashCode());
+		hash = mix(hash ^ Objects.hashCode(enterYear));
+		hash = mix(hash ^ (isAbeek ? 1 : 0));
+		hash = mix(hash ^ catalogVersion);
+		hash = mix(hash ^ ruleVersion);
+		for (int i = 0; i < orderedKeys.length; i++) {
+			hash = mix(hash ^ orderedKeys[i]);
+			hash = mix(hash ^ rows[i].hashCode());
+		}
+		this.fingerprint = hash;
+	}
+
+	public static GraduationCacheKey of(GraduationRequestDto request, int[] orderedKeys, long catalogVersion, long ruleVersion) {
+		List<CourseDto> courseList = request.getCourseList();
+		String[] rows = new String[courseList.size()];
+		for (int i = 0; i < rows.length; i++) {
+			CourseDto course = courseList.get(i);
+			rows[i] = course.getAbeek() + SEPARATOR + course.getName() + SEPARATOR + course.getTakenSemester();
+		}
+		return new GraduationCacheKey(request.getMajorId(), SecondaryMajorDto.keyOf(request.getSecondaryMajors()), request.getEnterYear(), request.isAbeek(),
+				catalogVersion, ruleVersion, orderedKeys, rows);
+	}
+
+	/* 요청 순서 그대로의 과목 키, 학수번호가 이상한 과목은 학점만 구분 */
+	public static int[] keysOf(List<CourseDto> courseList) {
+		int[] keys = new int[courseList.size()];
+		for (int i = 0; i < keys.length; i++) {
+			CourseDto course = courseList.get(i);
+			int key = course.getKey();
+			keys[i] = key == CourseKey.NONE ? Integer.MIN_VALUE + course.getCredit() : key;
+		}
+		return keys;
+	}
+
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	// splitmix64
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof GraduationCacheKey)) return false;
+		GraduationCacheKey that = (GraduationCacheKey) o;
+		return fingerprint == that.fingerprint
+				&& isAbeek == that.isAbeek
+				&& catalogVersion == that.catalogVersion
+				&& ruleVersion == that.ruleVersion
+				&& Objects.equals(majorId, that.majorId)
+				&& secondaryKey.equals(that.secondaryKey)
+				&& Objects.equals(enterYear, that.enterYear)
+				&& Arrays.equals(orderedKeys, that.orderedKeys)
+				&& Arrays.equals(rows, that.rows);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(fingerprint);
+	}
+}
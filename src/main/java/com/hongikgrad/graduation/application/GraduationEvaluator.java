@@ -0,0 +1,14 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.engine.RuleSet;
+
+import java.util.List;
+
+/* 졸업요건 판정기. 요청 하나는 같은 카탈로그 스냅샷, 같은 규칙으로 끝까지 판정해야 함 */
+public interface GraduationEvaluator {
+
+	List<RequirementDto> evaluate(GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet);
+}
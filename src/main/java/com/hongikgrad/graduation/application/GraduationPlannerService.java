@@ -0,0 +1,36 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.GapPlanDto;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.engine.EvaluationPlan;
+import com.hongikgrad.graduation.engine.GapPlanner;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import com.hongikgrad.graduation.engine.Transcript;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GraduationPlannerService {
+
+	private final CatalogService catalogService;
+
+	private final GraduationRuleService graduationRuleService;
+
+	private final GraduationEngine graduationEngine;
+
+	private final GapPlanner gapPlanner;
+
+	@Value("${graduation.planner.time-budget-millis:50}")
+	private long timeBudgetMillis;
+
+	/* 아직 충족하지 못한 요건을 채우는 과목 추천 */
+	public GapPlanDto plan(GraduationRequestDto request) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		EvaluationPlan plan = graduationEngine.getPlan(catalog, graduationRuleService.getRuleSet(), request);
+		return gapPlanner.plan(plan, Transcript.of(catalog, request.getCourseList()), timeBudgetMillis * 1_000_000L);
+	}
+}
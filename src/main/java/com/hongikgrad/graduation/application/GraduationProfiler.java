@@ -0,0 +1,86 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.metrics.LatencyRecorder;
+import com.hongikgrad.common.metrics.LatencySnapshot;
+import com.hongikgrad.graduation.dto.RuleProfileDto;
+import com.hongikgrad.graduation.dto.RuleTimingDto;
+import com.hongikgrad.graduation.engine.EvaluationTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 요건(mainField)별 판정 시간, 직렬화 시간, SQL 횟수, 할당 바이트 누적.
+ * 꺼져 있으면 판정 경로에서 측정하지 않는다 (?trace=true 요청만 측정).
+ */
+@Component
+@RequiredArgsConstructor
+public class GraduationProfiler {
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${graduation.profiler.enabled:false}")
+	private boolean enabled;
+
+	private final Map<String, RuleProfile> profiles = new ConcurrentHashMap<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public EvaluationTrace newTrace() {
+		return new EvaluationTrace(objectMapper);
+	}
+
+	public void record(List<RuleTimingDto> rules) {
+		for (RuleTimingDto rule : rules) {
+			profiles.computeIfAbsent(rule.getMainField(), mainField -> new RuleProfile()).record(rule);
+		}
+	}
+
+	public List<RuleProfileDto> getProfile() {
+		List<RuleProfileDto> result = new ArrayList<>(profiles.size());
+		profiles.forEach((mainField, profile) -> result.add(profile.toDto(mainField)));
+		result.sort(Comparator.comparingLong((RuleProfileDto profile) -> profile.getLatency().getMeanMicros()).reversed());
+		return result;
+	}
+
+	public void reset() {
+		profiles.clear();
+	}
+
+	private static final class RuleProfile {
+		private final LatencyRecorder latency = new LatencyRecorder();
+		private final LongAdder serializeNanos = new LongAdder();
+		private final LongAdder queries = new LongAdder();
+		private final LongAccumulator maxQueries = new LongAccumulator(Math::max, 0);
+		private final LongAdder allocatedBytes = new LongAdder();
+		private final LongAccumulator maxAllocatedBytes = new LongAccumulator(Math::max, -1);
+
+		private void record(RuleTimingDto rule) {
+			latency.record(rule.getEvaluateNanos());
+			serializeNanos.add(rule.getSerializeNanos());
+			queries.add(rule.getQueries());
+			maxQueries.accumulate(rule.getQueries());
+			allocatedBytes.add(rule.getAllocatedBytes());
+			maxAllocatedBytes.accumulate(rule.getAllocatedBytes());
+		}
+
+		private RuleProfileDto toDto(String mainField) {
+			LatencySnapshot snapshot = latency.snapshot();
+			long count = Math.max(1, snapshot.getCount());
+			long meanBytes = maxAllocatedBytes.get() < 0 ? -1 : allocatedBytes.sum() / count;
+			return new RuleProfileDto(mainField, snapshot, serializeNanos.sum() / count / 1_000,
+					(double) queries.sum() / count, maxQueries.get(), meanBytes, maxAllocatedBytes.get());
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import com.hongikgrad.graduation.dto.RuleDefinitionDto;
+import com.hongikgrad.graduation.engine.PlanCompiler;
+import com.hongikgrad.graduation.engine.RuleSet;
+import com.hongikgrad.graduation.entity.GraduationRule;
+import com.hongikgrad.graduation.repository.GraduationRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * 졸업요건 규칙 저장/조회.
+ * 수정이 커밋될 때마다 새 RuleSet 을 만들어 교체하고, 평가 계획 캐시는 버전이 바뀐 것을 보고 다시 만든다.
+ * 커밋 전에 교체하면 롤백됐을 때 메모리 규칙(과 그 버전의 캐시)이 DB 와 달라지므로 커밋 후에만 교체한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GraduationRuleService {
+
+	private final GraduationRuleRepository graduationRuleRepository;
+
+	private final PlanCompiler planCompiler;
+
+	private final ObjectMapper objectMapper;
+
+	private volatile RuleSet ruleSet;
+
+	@PostConstruct
+	public void init() throws IOException {
+		List<GraduationRuleDto> defaultRules = RuleSet.readDefaultRules(objectMapper);
+		if (graduationRuleRepository.count() == 0) {
+			// 처음 실행: 기존 하드코딩 규칙과 같은 기본 규칙 저장
+			for (GraduationRuleDto rule : defaultRules) {
+				graduationRuleRepository.save(toEntity(rule));
+			}
+			log.info("default graduation rules saved");
+		} else {
+			// track 이 생기기 전부터 쓰던 DB: 복수전공/부전공 기본 규칙이 하나도 없으면 그 track 만 추가
+			for (String track : List.of(RuleSet.TRACK_DOUBLE, RuleSet.TRACK_MINOR)) {
+				if (graduationRuleRepository.existsByTrack(track)) continue;
+				for (GraduationRuleDto rule : defaultRules) {
+					if (track.equals(rule.getTrack())) graduationRuleRepository.save(toEntity(rule));
+				}
+				log.info("default {} graduation rules saved", track);
+			}
+		}
+		reload();
+	}
+
+	public RuleSet getRuleSet() {
+		return ruleSet;
+	}
+
+	public List<GraduationRuleDto> getRules() {
+		return ruleSet.getRules();
+	}
+
+	@Transactional
+	public GraduationRuleDto createRule(GraduationRuleDto rule) {
+		planCompiler.validate(rule);
+		GraduationRule saved = graduationRuleRepository.save(toEntity(rule));
+		reloadAfterCommit();
+		return toDto(saved);
+	}
+
+	@Transactional
+	public GraduationRuleDto updateRule(Long ruleId, GraduationRuleDto rule) {
+		planCompiler.validate(rule);
+		GraduationRule target = graduationRuleRepository.findById(ruleId)
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 규칙: " + ruleId));
+		target.update(rule.getMainField(), rule.getBriefing(), rule.getSortOrder(), rule.getPriority(), rule.getCollege(),
+				joinMajorCodes(rule.getMajorCodes()), rule.getEnterYearFrom(), rule.getEnterYearTo(), rule.getAbeek(), rule.getTrack(),
+				writeDefinition(rule.getDefinition()));
+		graduationRuleRepository.save(target);
+		reloadAfterCommit();
+		return toDto(target);
+	}
+
+	@Transactional
+	public void deleteRule(Long ruleId) {
+		graduationRuleRepository.deleteById(ruleId);
+		reloadAfterCommit();
+	}
+
+	private void reloadAfterCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			reload();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				reload();
+			}
+		});
+	}
+
+	private synchronized void reload() {
+		List<GraduationRuleDto> rules = new ArrayList<>();
+		for (GraduationRule rule : graduationRuleRepository.findAllByOrderBySortOrderAscIdAsc()) {
+			rules.add(toDto(rule));
+		}
+		long version = ruleSet == null ? 1 : ruleSet.getVersion() + 1;
+		ruleSet = new RuleSet(version, rules);
+		log.info("graduation rules v{} loaded: {} rules", version, rules.size());
+	}
+
+	private GraduationRule toEntity(GraduationRuleDto rule) {
+		return new GraduationRule(rule.getMainField(), rule.getBriefing(), rule.getSortOrder(), rule.getPriority(), rule.getCollege(),
+				joinMajorCodes(rule.getMajorCodes()), rule.getEnterYearFrom(), rule.getEnterYearTo(), rule.getAbeek(), rule.getTrack(),
+				writeDefinition(rule.getDefinition()));
+	}
+
+	private GraduationRuleDto toDto(GraduationRule rule) {
+		List<String> majorCodes = rule.getMajorCodes() == null || rule.getMajorCodes().isBlank()
+				? null : Arrays.asList(rule.getMajorCodes().split(","));
+		return new GraduationRuleDto(rule.getId(), rule.getMainField(), rule.getBriefing(), rule.getSortOrder(), rule.getPriority(),
+				rule.getCollege(), majorCodes, rule.getEnterYearFrom(), rule.getEnterYearTo(), rule.getAbeek(), rule.getTrack(),
+				readDefinition(rule.getDefinition()));
+	}
+
+	private String joinMajorCodes(List<String> majorCodes) {
+		return majorCodes == null || majorCodes.isEmpty() ? null : String.join(",", majorCodes);
+	}
+
+	private String writeDefinition(RuleDefinitionDto definition) {
+		try {
+			return objectMapper.writeValueAsString(definition);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private RuleDefinitionDto readDefinition(String definition) {
+		try {
+			return objectMapper.readValue(definition, RuleDefinitionDto.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
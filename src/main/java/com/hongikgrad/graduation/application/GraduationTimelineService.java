@@ -0,0 +1,31 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.TimelineEntryDto;
+import com.hongikgrad.graduation.engine.EvaluationPlan;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import com.hongikgrad.graduation.engine.ProgressTimeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GraduationTimelineService {
+
+	private final CatalogService catalogService;
+
+	private final GraduationRuleService graduationRuleService;
+
+	private final GraduationEngine graduationEngine;
+
+	/* 과목의 takenSemester 기준 학기별 누적 졸업요건 상태 */
+	public List<TimelineEntryDto> getTimeline(GraduationRequestDto request) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		EvaluationPlan plan = graduationEngine.getPlan(catalog, graduationRuleService.getRuleSet(), request);
+		return ProgressTimeline.of(plan, catalog, request.getCourseList());
+	}
+}
@@ -0,0 +1,75 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.MajorFitDto;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import com.hongikgrad.graduation.engine.MajorComparison;
+import com.hongikgrad.graduation.engine.RuleSet;
+import com.hongikgrad.graduation.engine.Transcript;
+import com.hongikgrad.major.entity.Major;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/*
+ * 성적표 하나를 개설된 모든 학과 기준으로 판정해서 졸업에 가까운 학과 순으로 응답 (전과/복수전공 상담용).
+ * 학과별 판정은 pool 에서 병렬로 하고, 학과와 상관없는 요건은 MajorComparison 이 한 번만 판정한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MajorComparisonService {
+
+	private static final Comparator<MajorFitDto> CLOSEST_FIRST = Comparator
+			.comparingInt((MajorFitDto fit) -> fit.getUnreachable().size())
+			.thenComparingInt(MajorFitDto::getRemainingCredit)
+			.thenComparingInt(fit -> fit.getUnmet().size())
+			.thenComparing(MajorFitDto::getMajorName);
+
+	private final CatalogService catalogService;
+
+	private final GraduationRuleService graduationRuleService;
+
+	private final GraduationEngine graduationEngine;
+
+	// 0 이면 CPU 코어 수
+	@Value("${graduation.compare.parallelism:0}")
+	private int parallelism;
+
+	private ForkJoinPool pool;
+
+	@PostConstruct
+	public void init() {
+		pool = new ForkJoinPool(parallelism <= 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		pool.shutdownNow();
+	}
+
+	/* request 의 학번/공학인증으로 모든 학과를 판정, majorId 는 사용하지 않음 */
+	public List<MajorFitDto> compare(GraduationRequestDto request) throws InterruptedException, ExecutionException {
+		// 학과 목록과 계획이 같은 스냅샷에서 나오도록 MajorService 대신 스냅샷에서 직접 읽음
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		RuleSet ruleSet = graduationRuleService.getRuleSet();
+		List<Major> majors = catalog.getEnableMajors();
+		MajorComparison comparison = new MajorComparison(Transcript.of(catalog, request.getCourseList()));
+
+		List<MajorFitDto> result = pool.submit(() -> majors.parallelStream()
+				.map(major -> comparison.evaluate(major,
+						graduationEngine.getPlan(catalog, ruleSet, major.getId(), request.getEnterYear(), request.isAbeek())))
+				.collect(Collectors.toList())).get();
+		result.sort(CLOSEST_FIRST);
+		return result;
+	}
+}
@@ -0,0 +1,52 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * 졸업요건 결과 JSON 두 개의 구조 비교.
+ * 다른 곳마다 "[3].subField[0].totalCredit: 12 != 9" 같은 경로 한 줄, 최대 limit 개.
+ */
+final class ResultDiff {
+
+	private ResultDiff() {
+	}
+
+	static List<String> of(JsonNode expected, JsonNode actual, int limit) {
+		List<String> differences = new ArrayList<>();
+		compare("", expected, actual, differences, limit);
+		return differences;
+	}
+
+	private static void compare(String path, JsonNode expected, JsonNode actual, List<String> differences, int limit) {
+		if (differences.size() >= limit) return;
+		if (expected == null || actual == null || expected.getNodeType() != actual.getNodeType()) {
+			differences.add(path + ": " + expected + " != " + actual);
+			return;
+		}
+		if (expected.isArray()) {
+			if (expected.size() != actual.size()) {
+				differences.add(path + ".length: " + expected.size() + " != " + actual.size());
+			}
+			for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+				compare(path + "[" + i + "]", expected.get(i), actual.get(i), differences, limit);
+			}
+		} else if (expected.isObject()) {
+			Set<String> fields = new TreeSet<>();
+			expected.fieldNames().forEachRemaining(fields::add);
+			for (Iterator<String> it = actual.fieldNames(); it.hasNext(); ) {
+				fields.add(it.next());
+			}
+			for (String field : fields) {
+				compare(path.isEmpty() ? field : path + "." + field, expected.get(field), actual.get(field), differences, limit);
+			}
+		} else if (!expected.equals(actual)) {
+			differences.add(path + ": " + expected + " != " + actual);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.metrics.LatencyRecorder;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.ShadowDiffDto;
+import com.hongikgrad.graduation.dto.ShadowStatsDto;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import com.hongikgrad.graduation.engine.RuleSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 섀도 판정: 실제 요청 일부를 다른 판정기(engine <-> legacy)로도 판정해서 결과 차이와 지연 시간을 모은다.
+ * 요청 스레드는 큐에 넣기만 하고, 큐가 차 있으면 기다리지 않고 버린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShadowEvaluationService {
+
+	private static final int MAX_DIFFERENCES = 20;
+
+	private final GraduationEngine graduationEngine;
+
+	private final LegacyGraduationEvaluator legacyGraduationEvaluator;
+
+	private final ObjectMapper objectMapper;
+
+	// 0 이면 끔, 1 이면 전부
+	@Value("${graduation.shadow.sample-rate:0}")
+	private double sampleRate;
+
+	@Value("${graduation.shadow.threads:1}")
+	private int threads;
+
+	@Value("${graduation.shadow.queue-size:100}")
+	private int queueSize;
+
+	// 보관할 최근 차이 건수
+	@Value("${graduation.shadow.max-diffs:50}")
+	private int maxDiffs;
+
+	private ThreadPoolExecutor executor;
+
+	private final LongAdder sampled = new LongAdder();
+	private final LongAdder compared = new LongAdder();
+	private final LongAdder mismatched = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LatencyRecorder primaryLatency = new LatencyRecorder();
+	private final LatencyRecorder shadowLatency = new LatencyRecorder();
+	private final Deque<ShadowDiffDto> recentDiffs = new ArrayDeque<>();
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+				runnable -> {
+					Thread thread = new Thread(runnable, "graduation-shadow-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				},
+				(runnable, pool) -> dropped.increment());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	public boolean isSampled() {
+		return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	/* 요청 스레드에서 호출, 판정은 섀도 스레드에서 */
+	public void submit(GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet,
+	                   GraduationEvaluator primary, List<RequirementDto> primaryResult, long primaryNanos) {
+		sampled.increment();
+		GraduationEvaluator shadow = primary == legacyGraduationEvaluator ? graduationEngine : legacyGraduationEvaluator;
+		executor.execute(() -> compare(request, catalog, ruleSet, primary, primaryResult, primaryNanos, shadow));
+	}
+
+	private void compare(GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet, GraduationEvaluator primary,
+	                     List<RequirementDto> primaryResult, long primaryNanos, GraduationEvaluator shadow) {
+		try {
+			long start = System.nanoTime();
+			List<RequirementDto> shadowResult = shadow.evaluate(request, catalog, ruleSet);
+			shadowLatency.record(System.nanoTime() - start);
+			primaryLatency.record(primaryNanos);
+
+			JsonNode expected = objectMapper.valueToTree(primaryResult);
+			JsonNode actual = objectMapper.valueToTree(shadowResult);
+			List<String> differences = ResultDiff.of(expected, actual, MAX_DIFFERENCES);
+			if (!differences.isEmpty()) {
+				int courseCount = request.getCourseList() == null ? 0 : request.getCourseList().size();
+				ShadowDiffDto diff = new ShadowDiffDto(System.currentTimeMillis(), request.getMajorId(), request.getEnterYear(),
+						request.isAbeek(), courseCount, nameOf(primary), nameOf(shadow), differences);
+				synchronized (recentDiffs) {
+					recentDiffs.addFirst(diff);
+					while (recentDiffs.size() > maxDiffs) recentDiffs.removeLast();
+				}
+				mismatched.increment();
+			}
+			compared.increment();
+		} catch (Exception e) {
+			failed.increment();
+			log.warn("shadow evaluation failed: {}", e.toString());
+		}
+	}
+
+	public ShadowStatsDto getStats() {
+		List<ShadowDiffDto> diffs;
+		synchronized (recentDiffs) {
+			diffs = new ArrayList<>(recentDiffs);
+		}
+		return new ShadowStatsDto(sampleRate, sampled.sum(), compared.sum(), mismatched.sum(), dropped.sum(), failed.sum(),
+				primaryLatency.snapshot(), shadowLatency.snapshot(), diffs);
+	}
+
+	public void reset() {
+		sampled.reset();
+		compared.reset();
+		mismatched.reset();
+		dropped.reset();
+		failed.reset();
+		primaryLatency.reset();
+		shadowLatency.reset();
+		synchronized (recentDiffs) {
+			recentDiffs.clear();
+		}
+	}
+
+	private String nameOf(GraduationEvaluator evaluator) {
+		return evaluator == legacyGraduationEvaluator ? "legacy" : "engine";
+	}
+}
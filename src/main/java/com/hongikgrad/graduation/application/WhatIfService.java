@@ -0,0 +1,68 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.common.cache.BoundedCache;
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.WhatIfRequestDto;
+import com.hongikgrad.graduation.dto.WhatIfResultDto;
+import com.hongikgrad.graduation.engine.EvaluationPlan;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import com.hongikgrad.graduation.engine.WhatIfSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 졸업요건 what-if. 성적표로 세션을 만들고 과목을 더하고 빼면서 바뀐 요건만 받는다.
+ * 세션은 메모리에만 있고 마지막 사용 후 ttl 이 지나면 사라진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WhatIfService {
+
+	private final CatalogService catalogService;
+
+	private final GraduationRuleService graduationRuleService;
+
+	private final GraduationEngine graduationEngine;
+
+	@Value("${graduation.what-if.max-sessions:10000}")
+	private int maxSessions;
+
+	@Value("${graduation.what-if.ttl-seconds:1800}")
+	private long ttlSeconds;
+
+	private BoundedCache<String, WhatIfSession> sessions;
+
+	@PostConstruct
+	public void init() {
+		sessions = new BoundedCache<>(maxSessions, ttlSeconds * 1000);
+	}
+
+	public WhatIfResultDto start(GraduationRequestDto request) {
+		CatalogSnapshot catalog = catalogService.getSnapshot();
+		EvaluationPlan plan = graduationEngine.getPlan(catalog, graduationRuleService.getRuleSet(), request);
+		WhatIfSession session = WhatIfSession.start(plan, catalog, request.getCourseList());
+
+		String sessionId = UUID.randomUUID().toString();
+		sessions.put(sessionId, session);
+		return new WhatIfResultDto(sessionId, session.getResult());
+	}
+
+	public WhatIfResultDto apply(String sessionId, WhatIfRequestDto request) {
+		WhatIfSession session = sessions.get(sessionId);
+		if (session == null) {
+			throw new IllegalArgumentException("what-if 세션이 없거나 만료됨: " + sessionId);
+		}
+		List<RequirementDto> changed = session.apply(request.getAdd(), request.getRemove());
+		// 사용할 때마다 만료 시간 연장
+		sessions.put(sessionId, session);
+		return new WhatIfResultDto(sessionId, changed);
+	}
+}
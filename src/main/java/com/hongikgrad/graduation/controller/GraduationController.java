@@ -1,13 +1,25 @@
 package com.hongikgrad.graduation.controller;
 
+import com.hongikgrad.authentication.application.UserService;
 import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.application.GraduationBatchService;
+import com.hongikgrad.graduation.application.GraduationPlannerService;
+import com.hongikgrad.graduation.application.GraduationProfiler;
 import com.hongikgrad.graduation.application.GraduationService;
+import com.hongikgrad.graduation.application.GraduationTimelineService;
+import com.hongikgrad.graduation.application.MajorComparisonService;
+import com.hongikgrad.graduation.application.ShadowEvaluationService;
+import com.hongikgrad.graduation.application.WhatIfService;
 import com.hongikgrad.graduation.dto.GraduationRequestDto;
 import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.WhatIfRequestDto;
+import com.hongikgrad.graduation.dto.WhatIfResultDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.List;
@@ -17,12 +29,25 @@ import java.util.List;
 public class GraduationController {
 
     private final GraduationService graduationService;
+    private final GraduationBatchService graduationBatchService;
+    private final WhatIfService whatIfService;
+    private final GraduationPlannerService graduationPlannerService;
+    private final MajorComparisonService majorComparisonService;
+    private final GraduationTimelineService graduationTimelineService;
+    private final ShadowEvaluationService shadowEvaluationService;
+    private final GraduationProfiler graduationProfiler;
+    private final UserService userService;
 
     /* 유저가 졸업요건을 만족하는지 여부를 응답 */
     @PostMapping("users/graduation")
-    public ResponseEntity userGraduation(@RequestBody GraduationRequestDto request
+    public ResponseEntity userGraduation(@RequestBody GraduationRequestDto request,
+                                         @RequestParam(value = "trace", defaultValue = "false") boolean trace
     ) {
         try {
+            // 요건별 판정 시간/SQL 횟수/할당 바이트를 함께 응답
+            if (trace) {
+                return new ResponseEntity(graduationService.getTracedResult(request), HttpStatus.OK);
+            }
             List<CourseDto> courseList = request.getCourseList();
             List<RequirementDto> result = graduationService.getGraduationRequirementResult(request);
             return new ResponseEntity(result, HttpStatus.OK);
@@ -31,4 +56,148 @@ public class GraduationController {
             return new ResponseEntity(HttpStatus.BAD_REQUEST);
         }
     }
+
+    /* 남은 졸업요건을 가장 적은 학점으로 채우는 과목 추천 */
+    @PostMapping("users/graduation/plan")
+    public ResponseEntity graduationPlan(@RequestBody GraduationRequestDto request) {
+        try {
+            return new ResponseEntity(graduationPlannerService.plan(request), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 학기별 누적 졸업요건 상태 */
+    @PostMapping("users/graduation/timeline")
+    public ResponseEntity graduationTimeline(@RequestBody GraduationRequestDto request) {
+        try {
+            return new ResponseEntity(graduationTimelineService.getTimeline(request), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 개설된 모든 학과 기준으로 판정해서 남은 학점이 적은 학과 순으로 응답 */
+    @PostMapping("users/graduation/majors")
+    public ResponseEntity closestMajors(@RequestBody GraduationRequestDto request) {
+        try {
+            return new ResponseEntity(majorComparisonService.compare(request), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* what-if 시작, 전체 졸업요건과 세션 id 응답 */
+    @PostMapping("users/graduation/what-if")
+    public ResponseEntity startWhatIf(@RequestBody GraduationRequestDto request) {
+        try {
+            WhatIfResultDto result = whatIfService.start(request);
+            return new ResponseEntity(result, HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 과목을 더하거나 빼고 다시 판정된 졸업요건만 응답 */
+    @PatchMapping("users/graduation/what-if/{sessionId}")
+    public ResponseEntity applyWhatIf(@PathVariable String sessionId, @RequestBody WhatIfRequestDto request) {
+        try {
+            WhatIfResultDto result = whatIfService.apply(sessionId, request);
+            return new ResponseEntity(result, HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 여러 학생 졸업요건 일괄 판정, 요청은 GraduationRequestDto 배열, 응답은 끝난 순서대로 NDJSON */
+    @PostMapping("/admin/graduation/batch")
+    public ResponseEntity<StreamingResponseBody> graduationBatch(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            StreamingResponseBody body = out -> graduationBatchService.evaluate(request.getInputStream(), out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .body(body);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 졸업요건 결과 캐시 상태 */
+    @GetMapping("/admin/graduation/cache")
+    public ResponseEntity graduationCacheStats(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(graduationService.getCacheStats(), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DeleteMapping("/admin/graduation/cache")
+    public ResponseEntity graduationCacheClear(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            graduationService.clearCache();
+            return new ResponseEntity(HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 섀도 판정 결과 차이와 두 판정기 지연 시간 */
+    @GetMapping("/admin/graduation/shadow")
+    public ResponseEntity graduationShadowStats(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(shadowEvaluationService.getStats(), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DeleteMapping("/admin/graduation/shadow")
+    public ResponseEntity graduationShadowReset(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            shadowEvaluationService.reset();
+            return new ResponseEntity(HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /* 요건별 누적 프로파일, graduation.profiler.enabled 일 때 쌓임 */
+    @GetMapping("/admin/graduation/profile")
+    public ResponseEntity graduationProfile(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(graduationProfiler.getProfile(), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DeleteMapping("/admin/graduation/profile")
+    public ResponseEntity graduationProfileReset(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            graduationProfiler.reset();
+            return new ResponseEntity(HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
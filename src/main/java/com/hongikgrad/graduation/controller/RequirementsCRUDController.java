@@ -1,28 +1,64 @@
 package com.hongikgrad.graduation.controller;
 
+import com.hongikgrad.authentication.application.UserService;
+import com.hongikgrad.graduation.application.GraduationRuleService;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+
 @RestController
+@RequiredArgsConstructor
 public class RequirementsCRUDController {
 
-    @GetMapping
-    public ResponseEntity readRequirements() {
-        return null;
+    private final UserService userService;
+    private final GraduationRuleService graduationRuleService;
+
+    @GetMapping("/admin/requirements")
+    public ResponseEntity readRequirements(HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(graduationRuleService.getRules(), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
     }
 
-    @PostMapping
-    public ResponseEntity createRequirement() {
-        return null;
+    @PostMapping("/admin/requirements")
+    public ResponseEntity createRequirement(@RequestBody GraduationRuleDto rule, HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(graduationRuleService.createRule(rule), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
     }
 
-    @PatchMapping
-    public ResponseEntity updateRequirement() {
-        return null;
+    @PatchMapping("/admin/requirements/{ruleId}")
+    public ResponseEntity updateRequirement(@PathVariable("ruleId") Long ruleId, @RequestBody GraduationRuleDto rule, HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            return new ResponseEntity(graduationRuleService.updateRule(ruleId, rule), HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
     }
 
-    @DeleteMapping
-    public ResponseEntity deleteRequirement() {
-        return null;
+    @DeleteMapping("/admin/requirements/{ruleId}")
+    public ResponseEntity deleteRequirement(@PathVariable("ruleId") Long ruleId, HttpServletRequest request) {
+        try {
+            userService.authenticateAdmin(request);
+            graduationRuleService.deleteRule(ruleId);
+            return new ResponseEntity(HttpStatus.OK);
+        } catch(Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity(HttpStatus.BAD_REQUEST);
+        }
     }
 }
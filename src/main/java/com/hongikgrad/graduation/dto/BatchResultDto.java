@@ -0,0 +1,19 @@
+package com.hongikgrad.graduation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 일괄 판정 결과 한 줄 (NDJSON). index 는 요청 배열에서의 위치 */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResultDto {
+	private int index;
+	private Long majorId;
+	private Integer enterYear;
+	private List<RequirementDto> result;
+	private String error;
+}
@@ -0,0 +1,24 @@
+package com.hongikgrad.graduation.dto;
+
+import com.hongikgrad.course.dto.CourseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 남은 졸업요건을 채우는 최소 학점 과목 조합 */
+@Getter
+@AllArgsConstructor
+public class GapPlanDto {
+	// 추천 과목
+	private List<CourseDto> courseList;
+	private int totalCredit;
+	// 추천 과목 외에 아무 과목으로 더 채워야 하는 학점 (전체 수강학점)
+	private int electiveCredit;
+	// 카탈로그 과목만으로는 충족할 수 없는 요건
+	private List<String> unreachable;
+	// 들을 수는 있지만 시간 안에 채우는 조합을 찾지 못한 요건
+	private List<String> unsolved;
+	// 시간 안에 탐색을 끝냈으면 true, 아니면 그때까지의 최선
+	private boolean optimal;
+}
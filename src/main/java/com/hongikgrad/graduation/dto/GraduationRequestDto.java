@@ -14,4 +14,6 @@ public class GraduationRequestDto {
 	private boolean isAbeek;
 	private List<CourseDto> courseList;
 	private Integer enterYear;
+	// 복수전공/부전공, 없으면 null
+	private List<SecondaryMajorDto> secondaryMajors;
 }
@@ -0,0 +1,33 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 졸업요건 규칙 하나.
+ * 같은 mainField 규칙 중 학생(단과대, 학과, 학번, 공학인증)에 맞는 것 가운데 priority 가 가장 높은 것을 사용한다.
+ * 범위 조건이 null 이면 제한 없음.
+ * track 이 null 이면 주전공 규칙, DOUBLE / MINOR 는 복수전공 / 부전공으로 신청한 학과에만 쓰는 규칙.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GraduationRuleDto {
+	private Long id;
+	private String mainField;
+	private String briefing;
+	private int sortOrder;
+	private int priority;
+
+	private String college;
+	private List<String> majorCodes;
+	private Integer enterYearFrom;
+	private Integer enterYearTo;
+	private Boolean abeek;
+	private String track;
+
+	private RuleDefinitionDto definition;
+}
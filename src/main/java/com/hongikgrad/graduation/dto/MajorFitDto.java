@@ -0,0 +1,23 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 한 학과 기준으로 본 성적표의 졸업요건 충족 정도 */
+@Getter
+@AllArgsConstructor
+public class MajorFitDto {
+	private Long majorId;
+	private String majorName;
+	private String college;
+	// 남은 학점 추정: 전체 학점 부족분과 나머지 요건 부족분 합 중 큰 값
+	private int remainingCredit;
+	private int satisfiedCount;
+	private int requirementCount;
+	// 아직 충족하지 못한 요건 (mainField)
+	private List<String> unmet;
+	// 카탈로그 과목만으로는 충족할 수 없는 요건
+	private List<String> unreachable;
+}
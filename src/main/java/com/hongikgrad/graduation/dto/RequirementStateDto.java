@@ -0,0 +1,17 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 타임라인용 요건 요약, 과목 목록은 빼고 충족 여부와 학점만 */
+@Getter
+@AllArgsConstructor
+public class RequirementStateDto {
+	private String mainField;
+	private Integer totalCredit;
+	private Boolean isSatisfied;
+
+	public static RequirementStateDto of(RequirementDto requirement) {
+		return new RequirementStateDto(requirement.getMainField(), requirement.getTotalCredit(), requirement.getIsSatisfied());
+	}
+}
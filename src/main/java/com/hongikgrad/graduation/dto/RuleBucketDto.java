@@ -0,0 +1,42 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 세부 영역 하나. 아래 과목 선택 조건들의 합집합이 영역 과목이 된다.
+ * url 에는 {majorId}, {enterYear} 를 쓸 수 있고, 없으면 /courses?type=grad&keyword={field}
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleBucketDto {
+	private String name;
+	private String field;
+	private String url;
+	// 요건 전체 학점에 더하는지 여부
+	private boolean countedInTotal = true;
+	// 같은 값을 가진 영역끼리는 (다른 요건이어도) 과목 하나를 한 영역에만 센다. 없으면 겹쳐서 셈
+	private String exclusiveGroup;
+
+	// 학수번호 (학점 무관)
+	private List<String> numbers;
+	// 학수번호:학점
+	private List<String> keys;
+	// 영역(abeek) 값이 정확히 일치
+	private List<String> abeek;
+	// 특정 학과에 직접 등록된 전공과목
+	private Long majorCoursesOf;
+	// 학생 학과(하위 학과 포함, 학번별 제외 과목 적용)의 전공과목
+	private boolean studentMajorCourses;
+	// 학생 학과의 전공필수 과목
+	private boolean studentRequiredCourses;
+
+	// 학점에는 들어가지만 목록에서 빠지는 과목
+	private List<String> hiddenNumbers;
+	// 영역에 추가되고 목록 맨 뒤에 붙는 과목
+	private List<String> appendedNumbers;
+}
@@ -0,0 +1,25 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 충족 조건
+ * CREDIT(bucket, min), SUM(buckets, min), COUNT(buckets, min, count), TOTAL(min),
+ * ANY_TAKEN(bucket), ALL_TAKEN(keys), ALL(of), ANY(of), AT_LEAST(count, of), NEVER, ALWAYS
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleConditionDto {
+	private String type;
+	private String bucket;
+	private List<String> buckets;
+	private Integer min;
+	private Integer count;
+	private List<String> keys;
+	private List<RuleConditionDto> of;
+}
@@ -0,0 +1,19 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* 규칙 본문: 세부 영역 목록 + 충족 조건 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleDefinitionDto {
+	// SUB_FIELDS(기본) | FIRST_COURSE | TOTAL_CREDIT
+	private String mode;
+	private List<RuleBucketDto> buckets = new ArrayList<>();
+	private RuleConditionDto condition;
+}
@@ -0,0 +1,19 @@
+package com.hongikgrad.graduation.dto;
+
+import com.hongikgrad.common.metrics.LatencySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 요건 하나의 누적 측정값, 판정 시간이 긴 순서로 응답 */
+@Getter
+@AllArgsConstructor
+public class RuleProfileDto {
+	private String mainField;
+	private LatencySnapshot latency;
+	private long meanSerializeMicros;
+	private double meanQueries;
+	private long maxQueries;
+	// 지원하지 않는 JVM 이면 -1
+	private long meanAllocatedBytes;
+	private long maxAllocatedBytes;
+}
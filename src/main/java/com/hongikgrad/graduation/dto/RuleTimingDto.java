@@ -0,0 +1,17 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* ?trace=true 응답의 요건 하나 측정값 */
+@Getter
+@AllArgsConstructor
+public class RuleTimingDto {
+	private String mainField;
+	private long evaluateNanos;
+	// 결과 DTO 를 JSON 으로 쓰는 데 걸린 시간
+	private long serializeNanos;
+	private long queries;
+	// 지원하지 않는 JVM 이면 -1
+	private long allocatedBytes;
+}
@@ -0,0 +1,25 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/* 복수전공(DOUBLE) / 부전공(MINOR) 으로 신청한 학과 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecondaryMajorDto {
+	private Long majorId;
+	private String track;
+
+	/* 계획/결과 캐시 키용 "12:DOUBLE,13:MINOR", 신청 순서가 결과 순서이므로 정렬하지 않음 */
+	public static String keyOf(List<SecondaryMajorDto> secondaryMajors) {
+		if (secondaryMajors == null || secondaryMajors.isEmpty()) return "";
+		return secondaryMajors.stream()
+				.map(secondary -> secondary.getMajorId() + ":" + secondary.getTrack())
+				.collect(Collectors.joining(","));
+	}
+}
@@ -0,0 +1,20 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 섀도 판정 결과가 달랐던 요청 하나 */
+@Getter
+@AllArgsConstructor
+public class ShadowDiffDto {
+	private long timestamp;
+	private Long majorId;
+	private Integer enterYear;
+	private boolean isAbeek;
+	private int courseCount;
+	private String primary;
+	private String shadow;
+	private List<String> differences;
+}
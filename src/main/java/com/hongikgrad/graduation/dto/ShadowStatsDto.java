@@ -0,0 +1,23 @@
+package com.hongikgrad.graduation.dto;
+
+import com.hongikgrad.common.metrics.LatencySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ShadowStatsDto {
+	private double sampleRate;
+	private long sampled;
+	private long compared;
+	private long mismatched;
+	// 큐가 차서 버린 건수
+	private long dropped;
+	private long failed;
+	private LatencySnapshot primaryLatency;
+	private LatencySnapshot shadowLatency;
+	// 최근 것부터
+	private List<ShadowDiffDto> recentDiffs;
+}
@@ -1,5 +1,6 @@
 package com.hongikgrad.graduation.dto;
 
+import com.hongikgrad.common.collection.IntHashSet;
 import com.hongikgrad.course.dto.CourseDto;
 import com.hongikgrad.major.entity.Major;
 import lombok.Builder;
@@ -14,4 +15,6 @@ public class StudentDto {
 	private Major major;
 	private boolean isAbeek;
 	private List<CourseDto> takenCourses;
+	// takenCourses 의 과목 키, 이수 여부 확인용
+	private IntHashSet takenCourseKeys;
 }
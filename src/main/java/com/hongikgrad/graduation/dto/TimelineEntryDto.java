@@ -0,0 +1,19 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 한 학기까지 들었을 때의 졸업요건 상태 */
+@Getter
+@AllArgsConstructor
+public class TimelineEntryDto {
+	// 수강 학기, 학기를 모르는 과목(편입/인정 학점 등)은 맨 앞 null 학기로 모음
+	private String semester;
+	private int totalCredit;
+	private int satisfiedCount;
+	// 이 학기에 상태가 바뀐 요건 (mainField)
+	private List<String> changed;
+	private List<RequirementStateDto> requirements;
+}
@@ -0,0 +1,14 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* ?trace=true 일 때 응답, trace=false 응답은 지금처럼 결과 목록만 */
+@Getter
+@AllArgsConstructor
+public class TracedResultDto {
+	private List<RequirementDto> result;
+	private List<RuleTimingDto> trace;
+}
@@ -0,0 +1,15 @@
+package com.hongikgrad.graduation.dto;
+
+import com.hongikgrad.course.dto.CourseDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/* what-if 과목 변경. 학수번호+학점으로 과목을 구분하고 remove 를 먼저 반영 */
+@Getter
+@NoArgsConstructor
+public class WhatIfRequestDto {
+	private List<CourseDto> add;
+	private List<CourseDto> remove;
+}
@@ -0,0 +1,14 @@
+package com.hongikgrad.graduation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/* 시작할 때는 전체 요건, 과목 변경 후에는 다시 판정된 요건만 */
+@Getter
+@AllArgsConstructor
+public class WhatIfResultDto {
+	private String sessionId;
+	private List<RequirementDto> result;
+}
@@ -0,0 +1,197 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.catalog.CourseKey;
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.SubField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/*
+ * 졸업요건의 세부 영역(SubField) 하나.
+ * 영역에 속하는 카탈로그 과목을 비트셋으로 들고 있고, 학점별로 나눠둔 비트셋으로 이수 학점을 센다.
+ * 비트셋에 들어가지 않은 성적표 행(Transcript.getIrregular)은 rows 로 행마다 판정한다.
+ */
+public final class BucketPlan {
+
+	// listCourses 에서 행 하나의 자리, 비트셋에 못 들어간 행은 LISTED | APPENDED 일 수 있음
+	private static final int NOT_LISTED = 0;
+	private static final int LISTED = 1;
+	private static final int APPENDED = 2;
+
+	private final int index;
+	private final String field;
+	private final String url;
+	private final OrdinalBitSet courses;
+	// 학점에는 포함되지만 목록에서는 빠지는 과목 (기존 동작 유지용)
+	private final OrdinalBitSet hidden;
+	// 다른 과목들 뒤에 따로 붙는 과목 (기존 동작 유지용)
+	private final OrdinalBitSet appended;
+	// 요건 전체 학점에 더하는지 여부 (전공기초는 제외)
+	private final boolean countedInTotal;
+	// 같은 그룹 영역끼리는 과목 하나를 한 영역에만 센다, null 이면 겹쳐서 셈
+	private final String exclusiveGroup;
+	private final Rows rows;
+
+	private final int[] creditValues;
+	private final OrdinalBitSet[] coursesByCredit;
+
+	BucketPlan(int index, String field, String url, OrdinalBitSet courses, OrdinalBitSet hidden, OrdinalBitSet appended,
+	           boolean countedInTotal, String exclusiveGroup, Rows rows, CatalogSnapshot catalog) {
+		this.index = index;
+		this.field = field;
+		this.url = url;
+		this.courses = courses;
+		this.hidden = hidden;
+		this.appended = appended;
+		this.countedInTotal = countedInTotal;
+		this.exclusiveGroup = exclusiveGroup;
+		this.rows = rows;
+
+		TreeMap<Integer, OrdinalBitSet> byCredit = new TreeMap<>();
+		for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+			int credit = catalog.courseAt(ordinal).getCredit();
+			if (credit == 0) continue;
+			byCredit.computeIfAbsent(credit, c -> new OrdinalBitSet(courses.size())).set(ordinal);
+		}
+		this.creditValues = new int[byCredit.size()];
+		this.coursesByCredit = new OrdinalBitSet[byCredit.size()];
+		int i = 0;
+		for (var entry : byCredit.entrySet()) {
+			creditValues[i] = entry.getKey();
+			coursesByCredit[i] = entry.getValue();
+			i++;
+		}
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public String getField() {
+		return field;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public OrdinalBitSet getCourses() {
+		return courses;
+	}
+
+	public boolean isCountedInTotal() {
+		return countedInTotal;
+	}
+
+	public String getExclusiveGroup() {
+		return exclusiveGroup;
+	}
+
+	public boolean contains(int ordinal) {
+		return courses.get(ordinal);
+	}
+
+	/* 학점별 AND + popcount, 영역 과목 수와 상관없이 카탈로그 크기/64 번의 연산 */
+	public int credit(OrdinalBitSet taken) {
+		int credit = 0;
+		for (int i = 0; i < creditValues.length; i++) {
+			credit += creditValues[i] * taken.andCardinality(coursesByCredit[i]);
+		}
+		return credit;
+	}
+
+	/* 비트셋에 들어가지 않은 행이 이 영역에 들어가는지, ordinal 은 행 과목의 카탈로그 순번 (없으면 -1) */
+	boolean matches(CourseDto course, int ordinal) {
+		return rows.matches(course, ordinal) || rows.isAppended(course);
+	}
+
+	/* 비트셋에 들어가지 않은 행의 학점, 기존 판정기처럼 영역 과목이면서 따로 붙는 과목이면 두 번 센다 */
+	int rowCredit(CourseDto course, int ordinal) {
+		int count = (rows.matches(course, ordinal) ? 1 : 0) + (rows.isAppended(course) ? 1 : 0);
+		return count * course.getCredit();
+	}
+
+	/* 성적표 순서대로 영역에 들어가는 과목 목록, counted 가 있으면 이 영역에 배정된 과목만 */
+	List<CourseDto> listCourses(Transcript transcript, OrdinalBitSet counted) {
+		OrdinalBitSet listed = counted == null ? courses : counted;
+		List<CourseDto> result = new ArrayList<>();
+		List<CourseDto> taken = transcript.getCourses();
+		int[] placements = new int[taken.size()];
+		boolean anyAppended = false;
+		for (int i = 0; i < placements.length; i++) {
+			placements[i] = placement(transcript, i, listed);
+			if ((placements[i] & LISTED) != 0) result.add(taken.get(i));
+			if ((placements[i] & APPENDED) != 0) anyAppended = true;
+		}
+		if (anyAppended) {
+			for (int i = 0; i < placements.length; i++) {
+				if ((placements[i] & APPENDED) != 0) result.add(taken.get(i));
+			}
+		}
+		return result;
+	}
+
+	private int placement(Transcript transcript, int row, OrdinalBitSet listed) {
+		int ordinal = transcript.getOrdinals()[row];
+		if (ordinal >= 0) {
+			if (!listed.get(ordinal) || isSet(hidden, ordinal)) return NOT_LISTED;
+			return isSet(appended, ordinal) ? APPENDED : LISTED;
+		}
+		CourseDto course = transcript.getCourses().get(row);
+		int catalogOrdinal = transcript.getCatalog().ordinalOf(course.getKey());
+		int placement = rows.matches(course, catalogOrdinal) && !rows.isHidden(course) ? LISTED : NOT_LISTED;
+		return rows.isAppended(course) ? placement | APPENDED : placement;
+	}
+
+	private static boolean isSet(OrdinalBitSet set, int ordinal) {
+		return set != null && set.get(ordinal);
+	}
+
+	SubField toSubField(EvaluationContext context) {
+		return new SubField(field, listCourses(context.getTranscript(), context.counted(index)), context.credit(index), false, url);
+	}
+
+	/*
+	 * 행 단위 판정 기준, 기존 판정기와 같게 요청 행의 학수번호/abeek 를 그대로 본다.
+	 * 과목 키로 고르는 영역(keys, 학과 전공과목, 전공필수)은 카탈로그 순번으로 본다.
+	 */
+	static final class Rows {
+		private final IntHashSet numbers;
+		private final List<String> abeek;
+		private final OrdinalBitSet keyCourses;
+		private final IntHashSet hiddenNumbers;
+		private final IntHashSet appendedNumbers;
+
+		Rows(IntHashSet numbers, List<String> abeek, OrdinalBitSet keyCourses, IntHashSet hiddenNumbers, IntHashSet appendedNumbers) {
+			this.numbers = numbers;
+			this.abeek = abeek;
+			this.keyCourses = keyCourses;
+			this.hiddenNumbers = hiddenNumbers;
+			this.appendedNumbers = appendedNumbers;
+		}
+
+		/* 과목 키로만 고르는 영역 */
+		static Rows ofKeys(OrdinalBitSet keyCourses) {
+			return new Rows(new IntHashSet(0), List.of(), keyCourses, null, null);
+		}
+
+		boolean matches(CourseDto course, int ordinal) {
+			return numbers.contains(CourseKey.parseNumber(course.getNumber()))
+					|| (course.getAbeek() != null && abeek.contains(course.getAbeek()))
+					|| (ordinal >= 0 && keyCourses != null && keyCourses.get(ordinal));
+		}
+
+		boolean isHidden(CourseDto course) {
+			return hiddenNumbers != null && hiddenNumbers.contains(CourseKey.parseNumber(course.getNumber()));
+		}
+
+		boolean isAppended(CourseDto course) {
+			return appendedNumbers != null && appendedNumbers.contains(CourseKey.parseNumber(course.getNumber()));
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.hongikgrad.graduation.engine;
+
+/* 졸업요건 충족 조건. 구현체는 Conditions 참고 */
+public interface Condition {
+
+	// 어떤 과목을 더해도 충족할 수 없음
+	int UNREACHABLE = 1 << 24;
+
+	boolean test(EvaluationContext context);
+
+	/* 충족까지 더 필요한 학점의 하한, 충족했으면 0 */
+	int deficit(EvaluationContext context);
+
+	/* 아직 듣지 않은 과목(ordinal, 들어가는 영역 ordinalBuckets)을 들으면 충족에 도움이 되는지 */
+	boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context);
+
+	/* 조건이 읽는 영역/과목/전체 학점을 기록 */
+	void collectDependencies(Dependencies dependencies);
+}
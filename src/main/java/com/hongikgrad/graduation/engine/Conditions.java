@@ -0,0 +1,463 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/* 졸업요건 조건 조합 */
+public final class Conditions {
+
+	private static final Condition NEVER = new Constant(false);
+	private static final Condition ALWAYS = new Constant(true);
+
+	private Conditions() {
+	}
+
+	public static Condition never() {
+		return NEVER;
+	}
+
+	public static Condition always() {
+		return ALWAYS;
+	}
+
+	/* 영역 학점 >= min */
+	public static Condition credit(int bucket, int min) {
+		return new BucketCredit(bucket, min);
+	}
+
+	/* 여러 영역 학점 합 >= min */
+	public static Condition sumCredit(int[] buckets, int min) {
+		return new SumCredit(buckets, min);
+	}
+
+	/* 학점이 min 이상인 영역이 count 개 이상 */
+	public static Condition countBuckets(int[] buckets, int min, int count) {
+		return new CountBuckets(buckets, min, count);
+	}
+
+	/* 요청 과목 전체 학점 >= min */
+	public static Condition totalCredit(int min) {
+		return new TotalCredit(min);
+	}
+
+	/* 영역 과목을 하나라도 이수 */
+	public static Condition anyTaken(BucketPlan bucket) {
+		return new AnyTaken(bucket);
+	}
+
+	/* 과목을 모두 이수 (과목+실험 묶음 등) */
+	public static Condition allTaken(OrdinalBitSet courses) {
+		return new AllTaken(courses);
+	}
+
+	public static Condition allOf(Condition... conditions) {
+		return new AtLeast(conditions.length, List.of(conditions));
+	}
+
+	public static Condition anyOf(Condition... conditions) {
+		return new AtLeast(1, List.of(conditions));
+	}
+
+	public static Condition atLeast(int count, Condition... conditions) {
+		return new AtLeast(count, List.of(conditions));
+	}
+
+	public static final class Constant implements Condition {
+		private final boolean value;
+
+		Constant(boolean value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			return value;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			return value ? 0 : UNREACHABLE;
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			return false;
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+		}
+	}
+
+	public static final class BucketCredit implements Condition {
+		private final int bucket;
+		private final int min;
+
+		BucketCredit(int bucket, int min) {
+			this.bucket = bucket;
+			this.min = min;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			return context.credit(bucket) >= min;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			return Math.max(0, min - context.credit(bucket));
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			return context.credit(bucket) < min && contains(ordinalBuckets, bucket);
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			dependencies.bucket(bucket, min);
+		}
+	}
+
+	public static final class SumCredit implements Condition {
+		private final int[] buckets;
+		private final int min;
+
+		SumCredit(int[] buckets, int min) {
+			this.buckets = buckets;
+			this.min = min;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			int sum = 0;
+			for (int bucket : buckets) {
+				sum += context.credit(bucket);
+			}
+			return sum >= min;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			int sum = 0;
+			for (int bucket : buckets) {
+				sum += context.credit(bucket);
+			}
+			return Math.max(0, min - sum);
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			if (test(context)) return false;
+			for (int bucket : buckets) {
+				if (contains(ordinalBuckets, bucket)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			for (int bucket : buckets) {
+				dependencies.bucket(bucket);
+			}
+		}
+	}
+
+	public static final class CountBuckets implements Condition {
+		private final int[] buckets;
+		private final int min;
+		private final int count;
+		// 영역끼리 과목이 겹치지 않음, 계획을 만들 때 정해짐
+		private boolean disjoint;
+
+		CountBuckets(int[] buckets, int min, int count) {
+			this.buckets = buckets;
+			this.min = min;
+			this.count = count;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			int satisfied = 0;
+			for (int bucket : buckets) {
+				if (context.credit(bucket) >= min) satisfied++;
+			}
+			return satisfied >= count;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			int[] deficits = new int[buckets.length];
+			for (int i = 0; i < buckets.length; i++) {
+				deficits[i] = Math.max(0, min - context.credit(buckets[i]));
+			}
+			return disjoint ? sumOfSmallest(deficits, count) : smallest(deficits, count);
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			if (test(context)) return false;
+			for (int bucket : buckets) {
+				if (context.credit(bucket) < min && contains(ordinalBuckets, bucket)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			Dependencies[] parts = new Dependencies[buckets.length];
+			for (int i = 0; i < buckets.length; i++) {
+				dependencies.bucket(buckets[i], min);
+				parts[i] = dependencies.fork();
+				parts[i].bucket(buckets[i]);
+			}
+			disjoint = isDisjoint(parts);
+		}
+	}
+
+	public static final class TotalCredit implements Condition {
+		private final int min;
+
+		TotalCredit(int min) {
+			this.min = min;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			return context.totalCredit() >= min;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			return Math.max(0, min - context.totalCredit());
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			return false;
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			dependencies.totalCredit();
+		}
+	}
+
+	public static final class AnyTaken implements Condition {
+		private final BucketPlan bucket;
+		private final OrdinalBitSet courses;
+
+		AnyTaken(BucketPlan bucket) {
+			this.bucket = bucket;
+			this.courses = bucket.getCourses();
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			return context.getTaken().intersects(courses) || anyIrregular(context.getTranscript());
+		}
+
+		/* 비트셋에 못 들어간 행 중 영역에 들어가는 행 */
+		private boolean anyIrregular(Transcript transcript) {
+			for (int row : transcript.getIrregular()) {
+				CourseDto course = transcript.getCourses().get(row);
+				if (bucket.matches(course, transcript.getCatalog().ordinalOf(course.getKey()))) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			if (test(context)) return 0;
+			int deficit = UNREACHABLE;
+			for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+				deficit = Math.min(deficit, context.courseCredit(ordinal));
+			}
+			return deficit;
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			return courses.get(ordinal) && !test(context);
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			dependencies.courses(courses);
+		}
+	}
+
+	/* 기존 판정기처럼 어느 행으로든 들었으면 인정 (Transcript.isPresent) */
+	public static final class AllTaken implements Condition {
+		private final OrdinalBitSet courses;
+
+		AllTaken(OrdinalBitSet courses) {
+			this.courses = courses;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			if (context.getTaken().containsAll(courses)) return true;
+			Transcript transcript = context.getTranscript();
+			for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+				if (!transcript.isPresent(ordinal)) return false;
+			}
+			return true;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			Transcript transcript = context.getTranscript();
+			int deficit = 0;
+			for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+				if (!transcript.isPresent(ordinal)) deficit += context.courseCredit(ordinal);
+			}
+			return deficit;
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			return courses.get(ordinal) && !context.getTranscript().isPresent(ordinal);
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			dependencies.courses(courses);
+		}
+	}
+
+	public static final class AtLeast implements Condition {
+		private final int count;
+		private final List<Condition> conditions;
+		// 하위 조건끼리 과목이 겹치지 않는지, 계획을 만들 때 정해짐
+		private boolean[][] disjoint;
+
+		AtLeast(int count, List<Condition> conditions) {
+			this.count = count;
+			this.conditions = conditions;
+		}
+
+		@Override
+		public boolean test(EvaluationContext context) {
+			int satisfied = 0;
+			int remaining = conditions.size();
+			for (Condition condition : conditions) {
+				if (condition.test(context) && ++satisfied >= count) return true;
+				if (satisfied + --remaining < count) return false;
+			}
+			return satisfied >= count;
+		}
+
+		@Override
+		public int deficit(EvaluationContext context) {
+			int[] deficits = new int[conditions.size()];
+			for (int i = 0; i < deficits.length; i++) {
+				deficits[i] = conditions.get(i).deficit(context);
+			}
+			if (disjoint != null && isDisjoint(disjoint)) return sumOfSmallest(deficits, count);
+			if (disjoint != null && count == deficits.length) return disjointSum(deficits, disjoint);
+			return smallest(deficits, count);
+		}
+
+		@Override
+		public boolean canUse(int ordinal, int[] ordinalBuckets, EvaluationContext context) {
+			if (test(context)) return false;
+			for (Condition condition : conditions) {
+				if (condition.canUse(ordinal, ordinalBuckets, context)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void collectDependencies(Dependencies dependencies) {
+			Dependencies[] parts = new Dependencies[conditions.size()];
+			for (int i = 0; i < parts.length; i++) {
+				conditions.get(i).collectDependencies(dependencies);
+				parts[i] = dependencies.fork();
+				conditions.get(i).collectDependencies(parts[i]);
+			}
+			boolean[][] disjoint = new boolean[parts.length][parts.length];
+			for (int i = 0; i < parts.length; i++) {
+				for (int j = 0; j < parts.length; j++) {
+					disjoint[i][j] = i != j && parts[i].isDisjoint(parts[j]);
+				}
+			}
+			this.disjoint = disjoint;
+		}
+	}
+
+	/*
+	 * count 개를 충족해야 할 때의 하한: 부족분이 작은 쪽부터 count 번째 값.
+	 * 과목 하나가 여러 조건에 동시에 도움이 될 수 있으면 합이 아니라 이 값을 쓴다.
+	 */
+	private static int smallest(int[] deficits, int count) {
+		if (count <= 0) return 0;
+		if (count > deficits.length) return Condition.UNREACHABLE;
+		Arrays.sort(deficits);
+		return deficits[count - 1];
+	}
+
+	/* 서로 과목이 겹치지 않으면 작은 쪽부터 count 개의 합이 하한 */
+	private static int sumOfSmallest(int[] deficits, int count) {
+		if (count <= 0) return 0;
+		if (count > deficits.length) return Condition.UNREACHABLE;
+		Arrays.sort(deficits);
+		int sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum = Math.min(Condition.UNREACHABLE, sum + deficits[i]);
+		}
+		return sum;
+	}
+
+	/* 모두 충족해야 할 때: 부족분이 큰 것부터 서로 겹치지 않는 조건만 골라 더한 값 (겹치는 게 있어도 하한) */
+	private static int disjointSum(int[] deficits, boolean[][] disjoint) {
+		Integer[] order = new Integer[deficits.length];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		Arrays.sort(order, (a, b) -> Integer.compare(deficits[b], deficits[a]));
+		int sum = 0;
+		List<Integer> picked = new ArrayList<>();
+		for (int candidate : order) {
+			boolean ok = true;
+			for (int other : picked) {
+				if (!disjoint[candidate][other]) {
+					ok = false;
+					break;
+				}
+			}
+			if (ok) {
+				picked.add(candidate);
+				sum = Math.min(Condition.UNREACHABLE, sum + deficits[candidate]);
+			}
+		}
+		return sum;
+	}
+
+	private static boolean isDisjoint(Dependencies[] parts) {
+		for (int i = 0; i < parts.length; i++) {
+			for (int j = i + 1; j < parts.length; j++) {
+				if (!parts[i].isDisjoint(parts[j])) return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDisjoint(boolean[][] disjoint) {
+		for (int i = 0; i < disjoint.length; i++) {
+			for (int j = i + 1; j < disjoint.length; j++) {
+				if (!disjoint[i][j]) return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean contains(int[] buckets, int bucket) {
+		for (int value : buckets) {
+			if (value == bucket) return true;
+		}
+		return false;
+	}
+}
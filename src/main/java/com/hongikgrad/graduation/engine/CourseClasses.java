@@ -0,0 +1,73 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 졸업요건 입장에서 서로 바꿔도 결과가 같은 과목끼리 묶은 분류.
+ * 학점, 들어가는 영역, 조건에 쓰인 과목 묶음 소속이 모두 같으면 같은 분류다.
+ * 플래너는 과목 하나하나가 아니라 분류별로 몇 과목을 고를지만 탐색한다.
+ */
+final class CourseClasses {
+
+	// 분류 -> 카탈로그 순번 (오름차순)
+	private final int[][] members;
+	private final int[] credits;
+	// 분류 -> 다시 판정해야 하는 요건
+	private final int[][] requirements;
+
+	private CourseClasses(int[][] members, int[] credits, int[][] requirements) {
+		this.members = members;
+		this.credits = credits;
+		this.requirements = requirements;
+	}
+
+	static CourseClasses of(EvaluationPlan plan, CatalogSnapshot catalog) {
+		List<OrdinalBitSet> courseSets = plan.getCourseSets();
+		Map<String, List<Integer>> groups = new LinkedHashMap<>();
+		OrdinalBitSet courses = plan.getDependentCourses();
+		for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+			StringBuilder signature = new StringBuilder();
+			signature.append(catalog.courseAt(ordinal).getCredit()).append('|');
+			signature.append(Arrays.toString(plan.bucketsOf(ordinal))).append('|');
+			for (int i = 0; i < courseSets.size(); i++) {
+				if (courseSets.get(i).get(ordinal)) signature.append(i).append(',');
+			}
+			groups.computeIfAbsent(signature.toString(), key -> new ArrayList<>()).add(ordinal);
+		}
+
+		int[][] members = new int[groups.size()][];
+		int[] credits = new int[groups.size()];
+		int[][] requirements = new int[groups.size()][];
+		int i = 0;
+		for (List<Integer> group : groups.values()) {
+			members[i] = group.stream().mapToInt(Integer::intValue).toArray();
+			credits[i] = catalog.courseAt(members[i][0]).getCredit();
+			requirements[i] = plan.requirementsOf(members[i][0]);
+			i++;
+		}
+		return new CourseClasses(members, credits, requirements);
+	}
+
+	int size() {
+		return members.length;
+	}
+
+	int[] membersOf(int courseClass) {
+		return members[courseClass];
+	}
+
+	int creditOf(int courseClass) {
+		return credits[courseClass];
+	}
+
+	int[] requirementsOf(int courseClass) {
+		return requirements[courseClass];
+	}
+}
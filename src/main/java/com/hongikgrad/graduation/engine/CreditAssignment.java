@@ -0,0 +1,307 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.common.graph.MaxFlow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 배타 그룹(exclusiveGroup) 영역에 과목을 한 영역에만 배정한다.
+ * (충족 영역 수, 필요 학점까지 채운 학점의 합) 이 가장 큰 배정을 고른다.
+ *
+ * 한 영역에만 들어가는 과목은 바로 배정하고, 여러 영역에 들어가는 과목만 나눠 본다.
+ * 그 과목들이 들어갈 수 있는 영역별 학점(필요 학점에서 자름)을 상태로 두고 과목을 하나씩 배정하는 DP 로 정확히 푼다.
+ * 학생 한 명이 들은 겹치는 과목은 보통 몇 개뿐이라 상태가 작다.
+ *
+ * 상태가 EXACT_LIMIT 를 넘으면 휴리스틱으로 푼다.
+ * 과목 -> 영역 이분 그래프에서 영역마다 필요한 학점까지만 흐르도록 최대 유량(Dinic)을 구하고,
+ * 과목은 가장 많이 흐른 영역에 통째로 배정한 뒤 더 나아지는 이동이 없을 때까지 과목을 옮긴다.
+ */
+final class CreditAssignment {
+
+	// 정확히 풀 때 (겹치는 과목 수 x 상태 수) 상한
+	static final int EXACT_LIMIT = 1 << 18;
+
+	private final List<BucketPlan> buckets;
+	// 그룹 -> 영역 (계획 순서)
+	private final int[][] groups;
+	private final OrdinalBitSet[] groupCourses;
+	private final OrdinalBitSet courses;
+	// 영역별 필요 학점
+	private final int[] needs;
+
+	private CreditAssignment(List<BucketPlan> buckets, int[][] groups, OrdinalBitSet[] groupCourses, OrdinalBitSet courses, int[] needs) {
+		this.buckets = buckets;
+		this.groups = groups;
+		this.groupCourses = groupCourses;
+		this.courses = courses;
+		this.needs = needs;
+	}
+
+	/* 배타 그룹이 없으면 null */
+	static CreditAssignment of(List<BucketPlan> buckets, int[] needs, int courseCount) {
+		Map<String, List<Integer>> grouped = new LinkedHashMap<>();
+		for (BucketPlan bucket : buckets) {
+			if (bucket.getExclusiveGroup() != null) {
+				grouped.computeIfAbsent(bucket.getExclusiveGroup(), group -> new ArrayList<>()).add(bucket.getIndex());
+			}
+		}
+		if (grouped.isEmpty()) return null;
+
+		int[][] groups = new int[grouped.size()][];
+		OrdinalBitSet[] groupCourses = new OrdinalBitSet[grouped.size()];
+		OrdinalBitSet courses = new OrdinalBitSet(courseCount);
+		int g = 0;
+		for (List<Integer> group : grouped.values()) {
+			groups[g] = group.stream().mapToInt(Integer::intValue).toArray();
+			groupCourses[g] = new OrdinalBitSet(courseCount);
+			for (int bucket : groups[g]) {
+				groupCourses[g].or(buckets.get(bucket).getCourses());
+			}
+			courses.or(groupCourses[g]);
+			g++;
+		}
+		return new CreditAssignment(buckets, groups, groupCourses, courses, needs);
+	}
+
+	/* 배타 그룹 영역에 들어가는 과목 전체 */
+	OrdinalBitSet getCourses() {
+		return courses;
+	}
+
+	/* credits 의 그룹 영역 학점을 배정 결과로 덮어쓰고, 영역별 배정 과목을 반환 (그룹이 아닌 영역은 null) */
+	OrdinalBitSet[] assign(OrdinalBitSet taken, int[] credits, CatalogSnapshot catalog) {
+		OrdinalBitSet[] counted = new OrdinalBitSet[buckets.size()];
+		for (int g = 0; g < groups.length; g++) {
+			assignGroup(g, taken, credits, counted, catalog);
+		}
+		return counted;
+	}
+
+	private void assignGroup(int g, OrdinalBitSet taken, int[] credits, OrdinalBitSet[] counted, CatalogSnapshot catalog) {
+		int[] group = groups[g];
+		for (int bucket : group) {
+			credits[bucket] = 0;
+			counted[bucket] = new OrdinalBitSet(courses.size());
+		}
+		OrdinalBitSet candidates = OrdinalBitSet.and(groupCourses[g], taken);
+		int n = candidates.cardinality();
+		if (n == 0) return;
+
+		int[] ordinals = new int[n];
+		int[] courseCredits = new int[n];
+		// 과목 -> 들어갈 수 있는 그룹 내 영역 번호 (group 배열 위치)
+		int[][] options = new int[n][];
+		int i = 0;
+		for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1), i++) {
+			ordinals[i] = ordinal;
+			courseCredits[i] = catalog.courseAt(ordinal).getCredit();
+			int[] option = new int[group.length];
+			int count = 0;
+			for (int j = 0; j < group.length; j++) {
+				if (buckets.get(group[j]).contains(ordinal)) option[count++] = j;
+			}
+			options[i] = Arrays.copyOf(option, count);
+		}
+
+		int[] assigned = new int[n];
+		int[] bucketCredits = new int[group.length];
+		if (!assignExactly(group, options, courseCredits, assigned, bucketCredits)) {
+			assignByFlow(group, options, courseCredits, assigned, bucketCredits);
+		}
+
+		for (i = 0; i < n; i++) {
+			if (assigned[i] < 0) continue;
+			counted[group[assigned[i]]].set(ordinals[i]);
+		}
+		for (int j = 0; j < group.length; j++) {
+			credits[group[j]] = bucketCredits[j];
+		}
+	}
+
+	/* 상태 수가 EXACT_LIMIT 안이면 DP 로 최적 배정, 넘으면 false */
+	private boolean assignExactly(int[] group, int[][] options, int[] courseCredits, int[] assigned, int[] bucketCredits) {
+		int n = options.length;
+		int m = group.length;
+		// 고른 영역을 byte 로 기록
+		if (m > Byte.MAX_VALUE) return false;
+		// 한 영역에만 들어가는 과목은 고를 것이 없음
+		int[] contested = new int[n];
+		int k = 0;
+		for (int i = 0; i < n; i++) {
+			assigned[i] = -1;
+			if (options[i].length == 1) {
+				assigned[i] = options[i][0];
+				bucketCredits[options[i][0]] += courseCredits[i];
+			} else if (options[i].length > 1) {
+				contested[k++] = i;
+			}
+		}
+		if (k == 0) return true;
+
+		// 상태 = 겹치는 과목이 들어갈 수 있는 영역별 학점을 필요 학점에서 자른 값의 혼합 진법
+		// 나머지 영역과 필요 학점이 없는 영역은 배정과 상관없으므로 자리 없음
+		boolean[] contestedBuckets = new boolean[m];
+		for (int t = 0; t < k; t++) {
+			for (int option : options[contested[t]]) contestedBuckets[option] = true;
+		}
+		int[] radix = new int[m];
+		int[] stride = new int[m];
+		long states = 1;
+		for (int j = 0; j < m; j++) {
+			radix[j] = contestedBuckets[j] ? Math.max(0, needs[group[j]]) + 1 : 1;
+			stride[j] = (int) states;
+			states *= radix[j];
+			if (states * k > EXACT_LIMIT) {
+				Arrays.fill(bucketCredits, 0);
+				return false;
+			}
+		}
+		int start = 0;
+		for (int j = 0; j < m; j++) {
+			start += stride[j] * Math.min(bucketCredits[j], radix[j] - 1);
+		}
+
+		// t 번째 과목까지 배정했을 때 상태마다 처음 도달한 이전 상태와 고른 영역
+		int[][] from = new int[k][];
+		byte[][] choice = new byte[k][];
+		int[] current = {start};
+		int currentSize = 1;
+		for (int t = 0; t < k; t++) {
+			int i = contested[t];
+			from[t] = new int[(int) states];
+			Arrays.fill(from[t], -1);
+			choice[t] = new byte[(int) states];
+			int[] next = new int[(int) Math.min(states, (long) currentSize * options[i].length)];
+			int nextSize = 0;
+			for (int c = 0; c < currentSize; c++) {
+				int state = current[c];
+				for (int option : options[i]) {
+					int credit = state / stride[option] % radix[option];
+					int after = state + stride[option] * (Math.min(credit + courseCredits[i], radix[option] - 1) - credit);
+					if (from[t][after] >= 0) continue;
+					from[t][after] = state;
+					choice[t][after] = (byte) option;
+					next[nextSize++] = after;
+				}
+			}
+			current = next;
+			currentSize = nextSize;
+		}
+
+		int best = current[0];
+		long bestScore = score(best, radix, stride);
+		for (int c = 1; c < currentSize; c++) {
+			long score = score(current[c], radix, stride);
+			if (score > bestScore) {
+				best = current[c];
+				bestScore = score;
+			}
+		}
+		for (int t = k - 1; t >= 0; t--) {
+			int i = contested[t];
+			assigned[i] = choice[t][best];
+			bucketCredits[assigned[i]] += courseCredits[i];
+			best = from[t][best];
+		}
+		return true;
+	}
+
+	/* (충족 영역 수, 채운 학점) 순서로 비교하는 값 */
+	private static long score(int state, int[] radix, int[] stride) {
+		int satisfied = 0;
+		int covered = 0;
+		for (int j = 0; j < radix.length; j++) {
+			if (radix[j] == 1) continue;
+			int credit = state / stride[j] % radix[j];
+			covered += credit;
+			if (credit == radix[j] - 1) satisfied++;
+		}
+		return ((long) satisfied << 32) | covered;
+	}
+
+	private void assignByFlow(int[] group, int[][] options, int[] courseCredits, int[] assigned, int[] bucketCredits) {
+		int n = options.length;
+		int m = group.length;
+		int source = 0;
+		int sink = 1;
+		MaxFlow flow = new MaxFlow(2 + n + m, n * (m + 1) + m);
+		int[][] edges = new int[n][];
+		for (int i = 0; i < n; i++) {
+			flow.addEdge(source, 2 + i, courseCredits[i]);
+			edges[i] = new int[options[i].length];
+			for (int k = 0; k < options[i].length; k++) {
+				edges[i][k] = flow.addEdge(2 + i, 2 + n + options[i][k], courseCredits[i]);
+			}
+		}
+		for (int j = 0; j < m; j++) {
+			if (needs[group[j]] > 0) flow.addEdge(2 + n + j, sink, needs[group[j]]);
+		}
+		flow.maxFlow(source, sink);
+
+		for (int i = 0; i < n; i++) {
+			assigned[i] = -1;
+			int most = 0;
+			for (int k = 0; k < options[i].length; k++) {
+				if (flow.flow(edges[i][k]) > most) {
+					most = flow.flow(edges[i][k]);
+					assigned[i] = options[i][k];
+				}
+			}
+			if (assigned[i] >= 0) bucketCredits[assigned[i]] += courseCredits[i];
+		}
+		// 필요 학점을 이미 채운 과목들: 가장 모자란 영역, 같으면 앞 영역
+		for (int i = 0; i < n; i++) {
+			if (assigned[i] >= 0 || options[i].length == 0) continue;
+			int best = options[i][0];
+			for (int option : options[i]) {
+				if (needs[group[option]] - bucketCredits[option] > needs[group[best]] - bucketCredits[best]) best = option;
+			}
+			assigned[i] = best;
+			bucketCredits[best] += courseCredits[i];
+		}
+		improve(group, options, courseCredits, assigned, bucketCredits);
+	}
+
+	/* 한 과목을 다른 영역으로 옮겨서 (충족 영역 수, -모자란 학점) 이 커지면 옮긴다 */
+	private void improve(int[] group, int[][] options, int[] courseCredits, int[] assigned, int[] bucketCredits) {
+		boolean moved = true;
+		while (moved) {
+			moved = false;
+			for (int i = 0; i < assigned.length; i++) {
+				int from = assigned[i];
+				if (from < 0) continue;
+				for (int to : options[i]) {
+					if (to == from) continue;
+					int credit = courseCredits[i];
+					int needFrom = needs[group[from]];
+					int needTo = needs[group[to]];
+					int satisfiedBefore = satisfied(bucketCredits[from], needFrom) + satisfied(bucketCredits[to], needTo);
+					int satisfiedAfter = satisfied(bucketCredits[from] - credit, needFrom) + satisfied(bucketCredits[to] + credit, needTo);
+					int shortBefore = shortage(bucketCredits[from], needFrom) + shortage(bucketCredits[to], needTo);
+					int shortAfter = shortage(bucketCredits[from] - credit, needFrom) + shortage(bucketCredits[to] + credit, needTo);
+					if (satisfiedAfter > satisfiedBefore || (satisfiedAfter == satisfiedBefore && shortAfter < shortBefore)) {
+						bucketCredits[from] -= credit;
+						bucketCredits[to] += credit;
+						assigned[i] = to;
+						moved = true;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static int satisfied(int credit, int need) {
+		return need > 0 && credit >= need ? 1 : 0;
+	}
+
+	private static int shortage(int credit, int need) {
+		return Math.max(0, need - credit);
+	}
+}
@@ -0,0 +1,68 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.collection.OrdinalBitSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* 졸업요건 하나가 읽는 과목/전체 학점. 과목을 추가/삭제했을 때 다시 판정할 요건을 고르는 데 사용 */
+public final class Dependencies {
+
+	private final List<BucketPlan> buckets;
+	private final OrdinalBitSet courses;
+	// 영역별로 조건이 요구하는 학점 (CREDIT, COUNT 의 min 중 최댓값)
+	private final int[] needs;
+	// 영역이 아닌 과목 묶음 조건 (ANY_TAKEN, ALL_TAKEN)
+	private final List<OrdinalBitSet> courseSets = new ArrayList<>();
+	private boolean totalCredit;
+
+	Dependencies(List<BucketPlan> buckets, int courseCount) {
+		this.buckets = buckets;
+		this.courses = new OrdinalBitSet(courseCount);
+		this.needs = new int[buckets.size()];
+	}
+
+	public void bucket(int bucketIndex) {
+		courses.or(buckets.get(bucketIndex).getCourses());
+	}
+
+	public void bucket(int bucketIndex, int min) {
+		bucket(bucketIndex);
+		needs[bucketIndex] = Math.max(needs[bucketIndex], min);
+	}
+
+	public void courses(OrdinalBitSet set) {
+		courses.or(set);
+		courseSets.add(set);
+	}
+
+	public void totalCredit() {
+		totalCredit = true;
+	}
+
+	/* 조건 일부가 읽는 범위만 따로 모을 때 */
+	Dependencies fork() {
+		return new Dependencies(buckets, courses.size());
+	}
+
+	/* 어떤 과목 하나가 두 쪽 모두에 도움이 될 수 없으면 부족 학점을 더해도 하한이 된다 */
+	boolean isDisjoint(Dependencies other) {
+		return !totalCredit && !other.totalCredit && !courses.intersects(other.courses);
+	}
+
+	OrdinalBitSet getCourses() {
+		return courses;
+	}
+
+	int[] getNeeds() {
+		return needs;
+	}
+
+	List<OrdinalBitSet> getCourseSets() {
+		return courseSets;
+	}
+
+	boolean isTotalCredit() {
+		return totalCredit;
+	}
+}
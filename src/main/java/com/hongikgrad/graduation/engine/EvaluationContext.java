@@ -0,0 +1,48 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.collection.OrdinalBitSet;
+
+/* 평가 한 번 동안의 상태: 성적표 + 영역별 이수 학점 */
+public final class EvaluationContext {
+
+	private final Transcript transcript;
+	private final int[] credits;
+	// 배타 그룹 영역별로 배정된 과목, 그룹이 없으면 null
+	private final OrdinalBitSet[] counted;
+
+	EvaluationContext(Transcript transcript, int[] credits) {
+		this(transcript, credits, null);
+	}
+
+	EvaluationContext(Transcript transcript, int[] credits, OrdinalBitSet[] counted) {
+		this.transcript = transcript;
+		this.credits = credits;
+		this.counted = counted;
+	}
+
+	public Transcript getTranscript() {
+		return transcript;
+	}
+
+	public OrdinalBitSet getTaken() {
+		return transcript.getTaken();
+	}
+
+	public int credit(int bucketIndex) {
+		return credits[bucketIndex];
+	}
+
+	/* 배타 그룹 영역이면 배정된 과목, 아니면 null */
+	public OrdinalBitSet counted(int bucketIndex) {
+		return counted == null ? null : counted[bucketIndex];
+	}
+
+	public int totalCredit() {
+		return transcript.getTotalCredit();
+	}
+
+	/* 카탈로그 과목 학점 */
+	public int courseCredit(int ordinal) {
+		return transcript.getCatalog().courseAt(ordinal).getCredit();
+	}
+}
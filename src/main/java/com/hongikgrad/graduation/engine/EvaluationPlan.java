@@ -0,0 +1,203 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.IntObjectHashMap;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * (학과, 학번, 공학인증) 하나에 대해 미리 만들어 둔 평가 계획.
+ * 카탈로그 스냅샷 버전, 규칙 버전에 묶여 있고 만들어진 뒤에는 바뀌지 않는다.
+ */
+public final class EvaluationPlan {
+
+	private static final int[] NONE = new int[0];
+
+	private final long catalogVersion;
+	private final long ruleVersion;
+	private final List<RequirementPlan> requirements;
+	private final List<BucketPlan> buckets;
+
+	// 과목 순번 -> 그 과목이 들어가는 영역 / 다시 판정해야 하는 요건 (what-if 용)
+	private final IntObjectHashMap<int[]> bucketsByOrdinal = new IntObjectHashMap<>();
+	private final IntObjectHashMap<int[]> requirementsByOrdinal = new IntObjectHashMap<>();
+	// 전체 학점을 읽는 요건
+	private final int[] totalCreditRequirements;
+	// 어떤 요건이든 읽는 과목 전체, 조건에 쓰인 과목 묶음
+	private final OrdinalBitSet dependentCourses;
+
+	private final List<OrdinalBitSet> courseSets;
+	// 배타 그룹 영역 배정, 그룹이 없으면 null
+	private final CreditAssignment creditAssignment;
+	private final int[] assignmentRequirements;
+	// 졸업 플래너용 과목 분류, 처음 쓸 때 만든다
+	private volatile CourseClasses courseClasses;
+
+	EvaluationPlan(long catalogVersion, long ruleVersion, int courseCount, List<RequirementPlan> requirements, List<BucketPlan> buckets) {
+		this.catalogVersion = catalogVersion;
+		this.ruleVersion = ruleVersion;
+		this.requirements = List.copyOf(requirements);
+		this.buckets = List.copyOf(buckets);
+
+		for (BucketPlan bucket : this.buckets) {
+			index(bucketsByOrdinal, bucket.getCourses(), bucket.getIndex());
+		}
+		int[] totalCreditRequirements = NONE;
+		OrdinalBitSet dependentCourses = new OrdinalBitSet(courseCount);
+		List<OrdinalBitSet> courseSets = new ArrayList<>();
+		List<Dependencies> requirementDependencies = new ArrayList<>();
+		int[] needs = new int[this.buckets.size()];
+		for (int i = 0; i < this.requirements.size(); i++) {
+			Dependencies dependencies = this.requirements.get(i).dependencies(this.buckets, courseCount);
+			requirementDependencies.add(dependencies);
+			for (int bucket = 0; bucket < needs.length; bucket++) {
+				needs[bucket] = Math.max(needs[bucket], dependencies.getNeeds()[bucket]);
+			}
+			index(requirementsByOrdinal, dependencies.getCourses(), i);
+			dependentCourses.or(dependencies.getCourses());
+			courseSets.addAll(dependencies.getCourseSets());
+			if (dependencies.isTotalCredit()) {
+				totalCreditRequirements = append(totalCreditRequirements, i);
+			}
+		}
+		this.totalCreditRequirements = totalCreditRequirements;
+		this.dependentCourses = dependentCourses;
+		this.courseSets = List.copyOf(courseSets);
+
+		this.creditAssignment = CreditAssignment.of(this.buckets, needs, courseCount);
+		int[] assignmentRequirements = NONE;
+		if (creditAssignment != null) {
+			for (int i = 0; i < requirementDependencies.size(); i++) {
+				if (requirementDependencies.get(i).getCourses().intersects(creditAssignment.getCourses())) {
+					assignmentRequirements = append(assignmentRequirements, i);
+				}
+			}
+		}
+		this.assignmentRequirements = assignmentRequirements;
+	}
+
+	public long getCatalogVersion() {
+		return catalogVersion;
+	}
+
+	public long getRuleVersion() {
+		return ruleVersion;
+	}
+
+	public List<RequirementPlan> getRequirements() {
+		return requirements;
+	}
+
+	public List<BucketPlan> getBuckets() {
+		return buckets;
+	}
+
+	public EvaluationContext contextOf(Transcript transcript) {
+		int[] credits = new int[buckets.size()];
+		for (BucketPlan bucket : buckets) {
+			credits[bucket.getIndex()] = bucket.credit(transcript.getTaken());
+		}
+		OrdinalBitSet[] counted = null;
+		if (creditAssignment != null) {
+			counted = creditAssignment.assign(transcript.getTaken(), credits, transcript.getCatalog());
+		}
+		addIrregularCredits(transcript, credits);
+		return new EvaluationContext(transcript, credits, counted);
+	}
+
+	/* 비트셋에 못 들어간 행은 기존 판정기처럼 들어가는 영역마다 더한다 (배타 그룹 배정 대상 아님) */
+	void addIrregularCredits(Transcript transcript, int[] credits) {
+		List<CourseDto> courses = transcript.getCourses();
+		for (int row : transcript.getIrregular()) {
+			CourseDto course = courses.get(row);
+			int ordinal = transcript.getCatalog().ordinalOf(course.getKey());
+			for (BucketPlan bucket : buckets) {
+				credits[bucket.getIndex()] += bucket.rowCredit(course, ordinal);
+			}
+		}
+	}
+
+	int[] bucketsOf(int ordinal) {
+		int[] indexes = bucketsByOrdinal.get(ordinal);
+		return indexes == null ? NONE : indexes;
+	}
+
+	int[] requirementsOf(int ordinal) {
+		int[] indexes = requirementsByOrdinal.get(ordinal);
+		return indexes == null ? NONE : indexes;
+	}
+
+	int[] getTotalCreditRequirements() {
+		return totalCreditRequirements;
+	}
+
+	CreditAssignment getCreditAssignment() {
+		return creditAssignment;
+	}
+
+	/* 배정이 바뀌면 다시 판정해야 하는 요건 */
+	int[] getAssignmentRequirements() {
+		return assignmentRequirements;
+	}
+
+	OrdinalBitSet getDependentCourses() {
+		return dependentCourses;
+	}
+
+	List<OrdinalBitSet> getCourseSets() {
+		return courseSets;
+	}
+
+	/* 계획(학과/학번)마다 한 번만 만든다 */
+	CourseClasses getCourseClasses(CatalogSnapshot catalog) {
+		CourseClasses classes = courseClasses;
+		if (classes == null) {
+			classes = CourseClasses.of(this, catalog);
+			courseClasses = classes;
+		}
+		return classes;
+	}
+
+	public List<RequirementDto> evaluate(Transcript transcript) {
+		EvaluationContext context = contextOf(transcript);
+		List<RequirementDto> result = new ArrayList<>(requirements.size());
+		for (RequirementPlan requirement : requirements) {
+			result.add(requirement.toDto(context));
+		}
+		return result;
+	}
+
+	/* 요건마다 측정, trace 가 null 이면 evaluate(transcript) 와 같음 */
+	public List<RequirementDto> evaluate(Transcript transcript, EvaluationTrace trace) {
+		if (trace == null) return evaluate(transcript);
+		trace.begin();
+		EvaluationContext context = contextOf(transcript);
+		trace.end(EvaluationTrace.CONTEXT, null);
+		List<RequirementDto> result = new ArrayList<>(requirements.size());
+		for (RequirementPlan requirement : requirements) {
+			trace.begin();
+			RequirementDto dto = requirement.toDto(context);
+			trace.end(requirement.getMainField(), dto);
+			result.add(dto);
+		}
+		return result;
+	}
+
+	private static void index(IntObjectHashMap<int[]> map, OrdinalBitSet courses, int value) {
+		for (int ordinal = courses.nextSetBit(0); ordinal >= 0; ordinal = courses.nextSetBit(ordinal + 1)) {
+			int[] current = map.get(ordinal);
+			map.put(ordinal, current == null ? new int[]{value} : append(current, value));
+		}
+	}
+
+	private static int[] append(int[] array, int value) {
+		int[] result = Arrays.copyOf(array, array.length + 1);
+		result[array.length] = value;
+		return result;
+	}
+}
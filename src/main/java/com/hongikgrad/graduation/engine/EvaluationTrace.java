@@ -0,0 +1,74 @@
+package com.hongikgrad.graduation.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.metrics.QueryCounter;
+import com.hongikgrad.graduation.dto.RuleTimingDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 요건 하나씩 판정 시간, SQL 횟수, 할당 바이트, 결과 직렬화 시간을 잰다.
+ * 측정할 때만 만들어 넘기고, 넘기지 않으면(null) 판정 경로는 그대로다.
+ * 한 스레드에서 begin -> end 순서로만 쓴다.
+ */
+public final class EvaluationTrace {
+
+	// 요건 판정 전 영역 학점 계산 (배타 그룹 배정 포함)
+	public static final String CONTEXT = "(영역 학점)";
+
+	private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+	private final ObjectMapper objectMapper;
+	private final List<RuleTimingDto> rules = new ArrayList<>();
+
+	private long startNanos;
+	private long startQueries;
+	private long startBytes;
+
+	public EvaluationTrace(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public void begin() {
+		startBytes = allocatedBytes();
+		startQueries = QueryCounter.current();
+		startNanos = System.nanoTime();
+	}
+
+	/* output 이 있으면 직렬화 시간도 잼 (할당량에는 넣지 않음) */
+	public void end(String name, Object output) {
+		long evaluateNanos = System.nanoTime() - startNanos;
+		long queries = QueryCounter.current() - startQueries;
+		long bytes = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+		long serializeNanos = 0;
+		if (output != null) {
+			long start = System.nanoTime();
+			try {
+				objectMapper.writeValue(OutputStream.nullOutputStream(), output);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			serializeNanos = System.nanoTime() - start;
+		}
+		rules.add(new RuleTimingDto(name, evaluateNanos, serializeNanos, queries, bytes));
+	}
+
+	public List<RuleTimingDto> getRules() {
+		return rules;
+	}
+
+	private static long allocatedBytes() {
+		return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static com.sun.management.ThreadMXBean threadMXBean() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled() ? threads : null;
+	}
+}
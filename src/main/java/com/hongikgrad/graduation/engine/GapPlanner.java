@@ -0,0 +1,386 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.GapPlanDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/*
+ * 아직 충족하지 못한 졸업요건을 가장 적은 학점으로 채우는 과목 조합을 찾는다.
+ *
+ * - 서로 바꿔도 되는 과목은 CourseClasses 로 묶어서 분류별로 몇 과목을 고를지만 탐색
+ * - 과목을 공유하지 않는 요건끼리는 따로 탐색 (드래곤볼 / MSC / 전공 ...)
+ * - 분기 한정: 지금까지 학점 + 조건별 부족 학점 하한이 최선 이상이면 가지치기
+ * - 배타 그룹 과목을 담거나 빼면 CreditAssignment 로 다시 배정한 학점으로 하한과 충족을 본다 (판정과 같은 학점)
+ * - 요소마다 먼저 탐욕해(분류 순서대로 도움이 되는 과목을 모두 담기)를 만들고, 남은 시간에 그보다 나은 조합을 탐색
+ * - 시간 예산(최대 MAX_BUDGET_NANOS)이 지나면 그때까지의 최선을 반환 (optimal = false), 남은 요소는 탐욕해만 씀
+ * - 탐욕해로도 탐색으로도 채우지 못한 요건은 unsolved 로 알려준다
+ *
+ * 전체 수강학점처럼 아무 과목이나 되는 요건은 과목을 고르지 않고 남은 학점만 알려준다.
+ */
+@Component
+public class GapPlanner {
+
+	private static final int CLOCK_CHECK_INTERVAL = 256;
+
+	// 요청 하나가 탐색에 쓰는 시간 상한, 설정값이 더 커도 이것만 씀
+	static final long MAX_BUDGET_NANOS = 80_000_000L;
+
+	public GapPlanDto plan(EvaluationPlan plan, Transcript transcript, long budgetNanos) {
+		return new Search(plan, transcript, System.nanoTime() + Math.min(budgetNanos, MAX_BUDGET_NANOS)).run();
+	}
+
+	private static final class Search {
+
+		private final EvaluationPlan plan;
+		private final Transcript transcript;
+		private final CatalogSnapshot catalog;
+		private final CourseClasses classes;
+		private final List<RequirementPlan> requirements;
+		// 모든 요소가 함께 쓰는 마감
+		private final long deadline;
+
+		private final OrdinalBitSet taken;
+		// 비트셋 과목 학점(과목을 담고 뺄 때마다 갱신) + 비트셋에 못 들어간 행 학점
+		private final int[] credits;
+		private final int[] irregularCredits;
+		private final Transcript working;
+		// 배타 그룹이 있으면 그룹 과목이 바뀔 때 다시 배정해서 판정 (EvaluationPlan.contextOf 와 같은 학점)
+		private final CreditAssignment assignment;
+		private EvaluationContext context;
+		// context 가 보는 학점, 배타 그룹이 없으면 credits 그대로
+		private int[] contextCredits;
+		private boolean assignmentStale;
+
+		// 분류별로 아직 듣지 않은 과목
+		private final int[][] available;
+
+		private long nodes;
+		private boolean timedOut;
+
+		// 탐색 중인 요소 하나의 상태
+		private int[] targets;
+		private int[] order;
+		// order 와 같은 순서, 분류가 관여하는 대상 요건
+		private int[][] classTargets;
+		private final IntStack picks = new IntStack();
+		private int best;
+		private int[] bestPicks;
+
+		private Search(EvaluationPlan plan, Transcript transcript, long deadline) {
+			this.plan = plan;
+			this.transcript = transcript;
+			this.catalog = transcript.getCatalog();
+			this.classes = plan.getCourseClasses(catalog);
+			this.requirements = plan.getRequirements();
+			this.deadline = deadline;
+
+			this.taken = transcript.getTaken().copy();
+			this.credits = new int[plan.getBuckets().size()];
+			this.irregularCredits = new int[credits.length];
+			plan.addIrregularCredits(transcript, irregularCredits);
+			for (BucketPlan bucket : plan.getBuckets()) {
+				credits[bucket.getIndex()] = bucket.credit(taken) + irregularCredits[bucket.getIndex()];
+			}
+			this.working = transcript.withTaken(taken, transcript.getTotalCredit());
+			this.assignment = plan.getCreditAssignment();
+			this.context = contextOf(working);
+
+			this.available = new int[classes.size()][];
+			for (int c = 0; c < available.length; c++) {
+				int[] members = classes.membersOf(c);
+				int[] untaken = new int[members.length];
+				int count = 0;
+				for (int ordinal : members) {
+					if (!taken.get(ordinal)) untaken[count++] = ordinal;
+				}
+				available[c] = Arrays.copyOf(untaken, count);
+			}
+		}
+
+		GapPlanDto run() {
+			Set<Integer> totalCreditRequirements = new HashSet<>();
+			for (int requirement : plan.getTotalCreditRequirements()) {
+				totalCreditRequirements.add(requirement);
+			}
+			List<Integer> unmet = new ArrayList<>();
+			for (int i = 0; i < requirements.size(); i++) {
+				if (!totalCreditRequirements.contains(i) && !isSatisfied(i)) unmet.add(i);
+			}
+
+			// 들을 수 있는 과목을 모두 들어도 안 되는 요건은 제외
+			List<String> unreachable = new ArrayList<>();
+			List<Integer> reachable = new ArrayList<>();
+			int before = picks.size;
+			for (int c = 0; c < available.length; c++) {
+				for (int ordinal : available[c]) add(ordinal);
+			}
+			for (int requirement : unmet) {
+				if (isSatisfied(requirement)) {
+					reachable.add(requirement);
+				} else {
+					unreachable.add(requirements.get(requirement).getMainField());
+				}
+			}
+			for (int c = available.length - 1; c >= 0; c--) {
+				for (int i = available[c].length - 1; i >= 0; i--) remove(available[c][i]);
+			}
+			picks.size = before;
+
+			List<Integer> planned = new ArrayList<>();
+			List<String> unsolved = new ArrayList<>();
+			for (List<Integer> component : components(reachable)) {
+				planned.addAll(solve(component, unsolved));
+			}
+			planned.sort(null);
+
+			List<CourseDto> courseList = new ArrayList<>(planned.size());
+			int plannedCredit = 0;
+			for (int ordinal : planned) {
+				CourseDto course = catalog.courseAt(ordinal);
+				courseList.add(new CourseDto(course.getName(), course.getNumber(), course.getAbeek(), course.getCredit(), course.getSemester()));
+				plannedCredit += course.getCredit();
+				add(ordinal);
+			}
+			int electiveCredit = electiveCredit(totalCreditRequirements, transcript.getTotalCredit() + plannedCredit);
+			return new GapPlanDto(courseList, plannedCredit, electiveCredit, unreachable, unsolved, !timedOut && unsolved.isEmpty());
+		}
+
+		/* 추천 과목까지 들은 뒤에도 전체 학점이 모자라면 그만큼은 아무 과목으로 채움 */
+		private int electiveCredit(Set<Integer> totalCreditRequirements, int totalCredit) {
+			EvaluationContext afterContext = contextOf(transcript.withTaken(taken, totalCredit));
+			int electiveCredit = 0;
+			for (int requirement : totalCreditRequirements) {
+				int deficit = requirements.get(requirement).getCondition().deficit(afterContext);
+				if (deficit < Condition.UNREACHABLE) {
+					electiveCredit = Math.max(electiveCredit, deficit);
+				}
+			}
+			return electiveCredit;
+		}
+
+		/* 같은 분류의 과목을 함께 쓰는 요건끼리 묶는다, 배타 그룹 과목을 쓰는 요건은 배정으로 서로 영향을 주므로 한 묶음 */
+		private Collection<List<Integer>> components(List<Integer> reachable) {
+			Map<Integer, Integer> parent = new HashMap<>();
+			for (int requirement : reachable) parent.put(requirement, requirement);
+			int grouped = -1;
+			for (int requirement : plan.getAssignmentRequirements()) {
+				if (!parent.containsKey(requirement)) continue;
+				if (grouped < 0) {
+					grouped = requirement;
+				} else {
+					parent.put(find(parent, requirement), find(parent, grouped));
+				}
+			}
+			for (int c = 0; c < classes.size(); c++) {
+				if (available[c].length == 0) continue;
+				int first = -1;
+				for (int requirement : classes.requirementsOf(c)) {
+					if (!parent.containsKey(requirement)) continue;
+					if (first < 0) {
+						first = requirement;
+					} else {
+						parent.put(find(parent, requirement), find(parent, first));
+					}
+				}
+			}
+			Map<Integer, List<Integer>> components = new TreeMap<>();
+			for (int requirement : reachable) {
+				components.computeIfAbsent(find(parent, requirement), root -> new ArrayList<>()).add(requirement);
+			}
+			return components.values();
+		}
+
+		private static int find(Map<Integer, Integer> parent, int requirement) {
+			int root = requirement;
+			while (parent.get(root) != root) root = parent.get(root);
+			return root;
+		}
+
+		private List<Integer> solve(List<Integer> component, List<String> unsolved) {
+			targets = component.stream().mapToInt(Integer::intValue).toArray();
+			Set<Integer> targetSet = new HashSet<>(component);
+
+			// 요건을 많이 건드리고 학점이 큰 분류부터
+			List<Integer> candidates = new ArrayList<>();
+			for (int c = 0; c < classes.size(); c++) {
+				if (available[c].length == 0) continue;
+				for (int requirement : classes.requirementsOf(c)) {
+					if (targetSet.contains(requirement)) {
+						candidates.add(c);
+						break;
+					}
+				}
+			}
+			candidates.sort(Comparator.comparingInt((Integer c) -> -classes.requirementsOf(c).length)
+					.thenComparingInt(c -> -classes.creditOf(c)));
+			order = candidates.stream().mapToInt(Integer::intValue).toArray();
+			classTargets = new int[order.length][];
+			for (int i = 0; i < order.length; i++) {
+				classTargets[i] = Arrays.stream(classes.requirementsOf(order[i])).filter(targetSet::contains).toArray();
+			}
+
+			best = Integer.MAX_VALUE;
+			bestPicks = null;
+			picks.size = 0;
+			greedy();
+			if (!timedOut && System.nanoTime() > deadline) timedOut = true;
+			search(0, 0);
+
+			List<Integer> result = new ArrayList<>();
+			if (bestPicks != null) {
+				for (int ordinal : bestPicks) result.add(ordinal);
+			} else {
+				for (int requirement : targets) unsolved.add(requirements.get(requirement).getMainField());
+			}
+			return result;
+		}
+
+		/* 탐색의 첫 경로와 같은 탐욕해, 시간과 상관없이 항상 만든다 */
+		private void greedy() {
+			int cost = 0;
+			for (int depth = 0; depth < order.length; depth++) {
+				for (int ordinal : available[order[depth]]) {
+					if (!canUse(classTargets[depth], ordinal)) break;
+					add(ordinal);
+					cost += classes.creditOf(order[depth]);
+				}
+			}
+			if (allSatisfied(targets)) {
+				best = cost;
+				bestPicks = picks.toArray();
+			}
+			for (int i = picks.size - 1; i >= 0; i--) remove(picks.values[i]);
+		}
+
+		private void search(int depth, int cost) {
+			if (isTimedOut()) {
+				timedOut = true;
+				return;
+			}
+			int bound = 0;
+			for (int requirement : targets) {
+				bound = Math.max(bound, requirements.get(requirement).getCondition().deficit(context()));
+			}
+			if (bound == 0 && allSatisfied(targets)) {
+				if (cost < best) {
+					best = cost;
+					bestPicks = picks.toArray();
+				}
+				return;
+			}
+			if (depth == order.length || cost + bound >= best) return;
+
+			// 더 담아도 도움이 안 될 때까지 담고, 많이 담은 쪽부터 하나씩 빼면서 탐색
+			int courseClass = order[depth];
+			int[] candidates = available[courseClass];
+			int count = 0;
+			while (count < candidates.length && canUse(classTargets[depth], candidates[count])) {
+				add(candidates[count++]);
+			}
+			int credit = classes.creditOf(courseClass);
+			for (; count >= 0; count--) {
+				search(depth + 1, cost + count * credit);
+				if (count > 0) remove(candidates[count - 1]);
+				if (timedOut) {
+					for (int i = count - 2; i >= 0; i--) remove(candidates[i]);
+					return;
+				}
+			}
+		}
+
+		private boolean isTimedOut() {
+			if (timedOut) return true;
+			return ++nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() > deadline;
+		}
+
+		private boolean canUse(int[] targets, int ordinal) {
+			for (int requirement : targets) {
+				if (requirements.get(requirement).getCondition().canUse(ordinal, plan.bucketsOf(ordinal), context())) return true;
+			}
+			return false;
+		}
+
+		private boolean allSatisfied(int[] requirements) {
+			for (int requirement : requirements) {
+				if (!isSatisfied(requirement)) return false;
+			}
+			return true;
+		}
+
+		private boolean isSatisfied(int requirement) {
+			return requirements.get(requirement).isSatisfied(context());
+		}
+
+		private EvaluationContext context() {
+			if (assignmentStale) {
+				context = contextOf(working);
+				assignmentStale = false;
+			}
+			return context;
+		}
+
+		/* 배타 그룹 영역은 배정한 학점에 비트셋에 못 들어간 행 학점을 더한다 */
+		private EvaluationContext contextOf(Transcript transcript) {
+			if (assignment == null) {
+				contextCredits = credits;
+				return new EvaluationContext(transcript, credits);
+			}
+			contextCredits = credits.clone();
+			OrdinalBitSet[] counted = assignment.assign(taken, contextCredits, catalog);
+			for (int bucket = 0; bucket < contextCredits.length; bucket++) {
+				if (counted[bucket] != null) contextCredits[bucket] += irregularCredits[bucket];
+			}
+			return new EvaluationContext(transcript, contextCredits, counted);
+		}
+
+		private void add(int ordinal) {
+			taken.set(ordinal);
+			int credit = catalog.courseAt(ordinal).getCredit();
+			for (int bucket : plan.bucketsOf(ordinal)) {
+				credits[bucket] += credit;
+			}
+			applyToContext(ordinal, credit);
+			picks.push(ordinal);
+		}
+
+		private void remove(int ordinal) {
+			taken.clear(ordinal);
+			int credit = catalog.courseAt(ordinal).getCredit();
+			for (int bucket : plan.bucketsOf(ordinal)) {
+				credits[bucket] -= credit;
+			}
+			applyToContext(ordinal, -credit);
+			picks.size--;
+		}
+
+		/* 그룹 과목이면 다시 배정하도록 표시, 아니면 그룹이 아닌 영역에만 들어가므로 context 학점에 바로 반영 */
+		private void applyToContext(int ordinal, int credit) {
+			if (contextCredits == credits) return;
+			if (assignment.getCourses().get(ordinal)) {
+				assignmentStale = true;
+				return;
+			}
+			for (int bucket : plan.bucketsOf(ordinal)) {
+				contextCredits[bucket] += credit;
+			}
+		}
+	}
+
+	private static final class IntStack {
+		private int[] values = new int[16];
+		private int size;
+
+		void push(int value) {
+			if (size == values.length) values = Arrays.copyOf(values, size * 2);
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.graduation.application.GraduationEvaluator;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.SecondaryMajorDto;
+import com.hongikgrad.major.entity.Major;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 비트셋 평가 계획으로 졸업요건을 판정한다.
+ * 계획은 (학과, 학번, 공학인증) 별로 한 번 만들어 두고, 카탈로그나 규칙 버전이 바뀌면 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraduationEngine implements GraduationEvaluator {
+
+	private final PlanCompiler planCompiler;
+
+	private final ConcurrentHashMap<Cohort, EvaluationPlan> plans = new ConcurrentHashMap<>();
+	private volatile long planCatalogVersion;
+	private volatile long planRuleVersion;
+
+	@Override
+	public List<RequirementDto> evaluate(GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet) {
+		EvaluationPlan plan = getPlan(catalog, ruleSet, request);
+		return plan.evaluate(Transcript.of(catalog, request.getCourseList()));
+	}
+
+	public List<RequirementDto> evaluate(GraduationRequestDto request, CatalogSnapshot catalog, RuleSet ruleSet, EvaluationTrace trace) {
+		EvaluationPlan plan = getPlan(catalog, ruleSet, request);
+		return plan.evaluate(Transcript.of(catalog, request.getCourseList()), trace);
+	}
+
+	/* 복수전공/부전공 포함 */
+	public EvaluationPlan getPlan(CatalogSnapshot catalog, RuleSet ruleSet, GraduationRequestDto request) {
+		List<SecondaryMajorDto> secondaryMajors = request.getSecondaryMajors() == null ? List.of() : request.getSecondaryMajors();
+		return getPlan(catalog, ruleSet, request.getMajorId(), request.getEnterYear(), request.isAbeek(), secondaryMajors);
+	}
+
+	public EvaluationPlan getPlan(CatalogSnapshot catalog, RuleSet ruleSet, Long majorId, int enterYear, boolean isAbeek) {
+		return getPlan(catalog, ruleSet, majorId, enterYear, isAbeek, List.of());
+	}
+
+	public EvaluationPlan getPlan(CatalogSnapshot catalog, RuleSet ruleSet, Long majorId, int enterYear, boolean isAbeek,
+	                              List<SecondaryMajorDto> secondaryMajors) {
+		if (planCatalogVersion != catalog.getVersion() || planRuleVersion != ruleSet.getVersion()) {
+			// 이전 버전 계획은 더 쓰지 않음
+			plans.clear();
+			planCatalogVersion = catalog.getVersion();
+			planRuleVersion = ruleSet.getVersion();
+		}
+		Cohort cohort = new Cohort(majorId, enterYear, isAbeek, secondaryMajors);
+		EvaluationPlan plan = plans.computeIfAbsent(cohort, c -> compile(catalog, ruleSet, c));
+		if (plan.getCatalogVersion() != catalog.getVersion() || plan.getRuleVersion() != ruleSet.getVersion()) {
+			// 버전이 바뀌는 사이에 다른 버전 계획이 들어간 경우
+			EvaluationPlan stale = plan;
+			plan = compile(catalog, ruleSet, cohort);
+			if (planCatalogVersion == catalog.getVersion() && planRuleVersion == ruleSet.getVersion()) {
+				plans.replace(cohort, stale, plan);
+			}
+		}
+		return plan;
+	}
+
+	private EvaluationPlan compile(CatalogSnapshot catalog, RuleSet ruleSet, Cohort cohort) {
+		Major major = catalog.findMajorById(cohort.majorId);
+		return planCompiler.compile(catalog, ruleSet, major, cohort.enterYear, cohort.isAbeek, cohort.secondaryMajors);
+	}
+
+	private static final class Cohort {
+		private final Long majorId;
+		private final int enterYear;
+		private final boolean isAbeek;
+		private final List<SecondaryMajorDto> secondaryMajors;
+		private final String secondaryKey;
+
+		private Cohort(Long majorId, int enterYear, boolean isAbeek, List<SecondaryMajorDto> secondaryMajors) {
+			this.majorId = majorId;
+			this.enterYear = enterYear;
+			this.isAbeek = isAbeek;
+			this.secondaryMajors = List.copyOf(secondaryMajors);
+			this.secondaryKey = SecondaryMajorDto.keyOf(secondaryMajors);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Cohort)) return false;
+			Cohort cohort = (Cohort) o;
+			return enterYear == cohort.enterYear && isAbeek == cohort.isAbeek && Objects.equals(majorId, cohort.majorId)
+					&& secondaryKey.equals(cohort.secondaryKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(majorId, enterYear, isAbeek, secondaryKey);
+		}
+	}
+}
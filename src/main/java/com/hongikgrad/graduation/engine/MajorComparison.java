@@ -0,0 +1,80 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.graduation.dto.MajorFitDto;
+import com.hongikgrad.major.entity.Major;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 성적표 하나를 여러 학과 계획으로 판정한다.
+ * 성적표(Transcript)는 한 번만 만들고, 학과와 상관없는 요건(드래곤볼, 글쓰기, 영어 ...)은
+ * 처음 판정한 결과를 다른 학과에서도 쓴다. 학과별 evaluate 는 여러 스레드에서 동시에 불러도 된다.
+ */
+public final class MajorComparison {
+
+	private final Transcript transcript;
+	// 규칙 -> 판정 결과
+	private final ConcurrentHashMap<Object, Outcome> shared = new ConcurrentHashMap<>();
+
+	public MajorComparison(Transcript transcript) {
+		this.transcript = transcript;
+	}
+
+	public MajorFitDto evaluate(Major major, EvaluationPlan plan) {
+		EvaluationContext context = plan.contextOf(transcript);
+		List<RequirementPlan> requirements = plan.getRequirements();
+		Outcome[] outcomes = new Outcome[requirements.size()];
+		for (int i = 0; i < outcomes.length; i++) {
+			RequirementPlan requirement = requirements.get(i);
+			Object shareKey = requirement.getShareKey();
+			outcomes[i] = shareKey == null
+					? Outcome.of(requirement, context)
+					: shared.computeIfAbsent(shareKey, key -> Outcome.of(requirement, context));
+		}
+
+		boolean[] totalCredit = new boolean[outcomes.length];
+		for (int requirement : plan.getTotalCreditRequirements()) {
+			totalCredit[requirement] = true;
+		}
+		int satisfiedCount = 0;
+		int remaining = 0;
+		int totalRemaining = 0;
+		List<String> unmet = new ArrayList<>();
+		List<String> unreachable = new ArrayList<>();
+		for (int i = 0; i < outcomes.length; i++) {
+			Outcome outcome = outcomes[i];
+			if (outcome.satisfied) {
+				satisfiedCount++;
+				continue;
+			}
+			String mainField = requirements.get(i).getMainField();
+			unmet.add(mainField);
+			if (outcome.deficit >= Condition.UNREACHABLE) {
+				unreachable.add(mainField);
+			} else if (totalCredit[i]) {
+				totalRemaining = Math.max(totalRemaining, outcome.deficit);
+			} else {
+				remaining += outcome.deficit;
+			}
+		}
+		return new MajorFitDto(major.getId(), major.getName(), major.getCollege(), Math.max(remaining, totalRemaining),
+				satisfiedCount, outcomes.length, unmet, unreachable);
+	}
+
+	private static final class Outcome {
+		private final boolean satisfied;
+		private final int deficit;
+
+		private Outcome(boolean satisfied, int deficit) {
+			this.satisfied = satisfied;
+			this.deficit = deficit;
+		}
+
+		static Outcome of(RequirementPlan requirement, EvaluationContext context) {
+			if (requirement.isSatisfied(context)) return new Outcome(true, 0);
+			return new Outcome(false, requirement.getCondition().deficit(context));
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/* 카탈로그 스냅샷 하나를 기준으로 영역 비트셋과 요건을 쌓아 EvaluationPlan 을 만든다 */
+final class PlanBuilder {
+
+	private final CatalogSnapshot catalog;
+	private final List<BucketPlan> buckets = new ArrayList<>();
+	private final List<RequirementPlan> requirements = new ArrayList<>();
+
+	PlanBuilder(CatalogSnapshot catalog) {
+		this.catalog = catalog;
+	}
+
+	CatalogSnapshot getCatalog() {
+		return catalog;
+	}
+
+	OrdinalBitSet emptyCourses() {
+		return new OrdinalBitSet(catalog.getCourseCount());
+	}
+
+	/* 카탈로그 전체를 한 번 훑어서 조건에 맞는 과목 선택, 계획 만들 때만 사용 */
+	OrdinalBitSet coursesWhere(Predicate<CourseDto> predicate) {
+		OrdinalBitSet courses = emptyCourses();
+		for (int ordinal = 0; ordinal < catalog.getCourseCount(); ordinal++) {
+			if (predicate.test(catalog.courseAt(ordinal))) {
+				courses.set(ordinal);
+			}
+		}
+		return courses;
+	}
+
+	OrdinalBitSet coursesOf(IntHashSet courseKeys) {
+		OrdinalBitSet courses = emptyCourses();
+		courseKeys.forEach(key -> {
+			int ordinal = catalog.ordinalOf(key);
+			if (ordinal >= 0) courses.set(ordinal);
+		});
+		return courses;
+	}
+
+	BucketPlan bucket(String field, String url, OrdinalBitSet courses) {
+		return bucket(field, url, courses, null, null, true, null);
+	}
+
+	BucketPlan bucket(String field, String url, OrdinalBitSet courses, OrdinalBitSet hidden, OrdinalBitSet appended,
+	                  boolean countedInTotal, String exclusiveGroup) {
+		return bucket(field, url, courses, hidden, appended, countedInTotal, exclusiveGroup, BucketPlan.Rows.ofKeys(courses));
+	}
+
+	BucketPlan bucket(String field, String url, OrdinalBitSet courses, OrdinalBitSet hidden, OrdinalBitSet appended,
+	                  boolean countedInTotal, String exclusiveGroup, BucketPlan.Rows rows) {
+		BucketPlan bucket = new BucketPlan(buckets.size(), field, url, courses, hidden, appended, countedInTotal, exclusiveGroup, rows, catalog);
+		buckets.add(bucket);
+		return bucket;
+	}
+
+	void requirement(String mainField, String briefing, RequirementPlan.Mode mode, List<BucketPlan> requirementBuckets, Condition condition) {
+		requirement(mainField, briefing, mode, requirementBuckets, condition, null);
+	}
+
+	void requirement(String mainField, String briefing, RequirementPlan.Mode mode, List<BucketPlan> requirementBuckets,
+	                 Condition condition, Object shareKey) {
+		requirements.add(new RequirementPlan(mainField, briefing, mode, requirementBuckets, condition, shareKey));
+	}
+
+	/* 과목이 하나라도 카탈로그에 없으면 충족될 수 없음 */
+	Condition allTaken(int... courseKeys) {
+		OrdinalBitSet courses = emptyCourses();
+		for (int key : courseKeys) {
+			int ordinal = catalog.ordinalOf(key);
+			if (ordinal < 0) return Conditions.never();
+			courses.set(ordinal);
+		}
+		return Conditions.allTaken(courses);
+	}
+
+	EvaluationPlan build(long ruleVersion) {
+		return new EvaluationPlan(catalog.getVersion(), ruleVersion, catalog.getCourseCount(), requirements, buckets);
+	}
+}
@@ -0,0 +1,302 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.catalog.CourseKey;
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import com.hongikgrad.graduation.dto.RuleBucketDto;
+import com.hongikgrad.graduation.dto.RuleConditionDto;
+import com.hongikgrad.graduation.dto.RuleDefinitionDto;
+import com.hongikgrad.graduation.dto.SecondaryMajorDto;
+import com.hongikgrad.graduation.engine.RequirementPlan.Mode;
+import com.hongikgrad.major.entity.Major;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/*
+ * 졸업요건 규칙(RuleSet)을 (학과, 학번, 공학인증) 별 평가 계획으로 만든다.
+ * 규칙 해석과 학과 코드 비교는 여기서 한 번만 하고, 요청 처리 중에는 만들어진 계획만 사용한다.
+ */
+@Component
+public class PlanCompiler {
+
+	// 복수전공/부전공이 있을 때 학과 과목 영역끼리 묶는 배타 그룹
+	// 기본 규칙도 이 이름으로 전공 영역과 겹치는 드래곤볼, MSC수학(수치해석), 미대 공통 전공선택 영역을 묶는다
+	static final String MAJOR_COURSES_GROUP = "MAJOR_COURSES";
+
+	public EvaluationPlan compile(CatalogSnapshot catalog, RuleSet ruleSet, Major major, int enterYear, boolean isAbeek) {
+		return compile(catalog, ruleSet, major, enterYear, isAbeek, List.of());
+	}
+
+	/*
+	 * 주전공 규칙 뒤에 복수전공/부전공 track 규칙을 이어 붙인 계획 하나.
+	 * 교양 요건은 주전공 쪽에서 한 번만 판정하고, 학과 과목 영역은 배타 그룹으로 묶어 한 과목을 한 전공에만 인정한다.
+	 */
+	public EvaluationPlan compile(CatalogSnapshot catalog, RuleSet ruleSet, Major major, int enterYear, boolean isAbeek,
+	                              List<SecondaryMajorDto> secondaryMajors) {
+		if (major == null) {
+			throw new IllegalArgumentException("존재하지 않는 학과");
+		}
+		String majorGroup = secondaryMajors.isEmpty() ? null : MAJOR_COURSES_GROUP;
+		PlanBuilder plan = new PlanBuilder(catalog);
+		for (GraduationRuleDto rule : ruleSet.select(major, enterYear, isAbeek)) {
+			compileRule(plan, rule, major, enterYear, null, majorGroup);
+		}
+		Set<Long> majorIds = new HashSet<>();
+		majorIds.add(major.getId());
+		for (SecondaryMajorDto secondary : secondaryMajors) {
+			Major secondaryMajor = catalog.findMajorById(secondary.getMajorId());
+			if (secondaryMajor == null || !majorIds.add(secondaryMajor.getId())) {
+				throw new IllegalArgumentException("존재하지 않거나 중복된 학과: " + secondary.getMajorId());
+			}
+			String prefix = trackName(secondary.getTrack()) + "(" + secondaryMajor.getName() + ") ";
+			List<GraduationRuleDto> trackRules = ruleSet.select(secondaryMajor, enterYear, isAbeek, secondary.getTrack());
+			if (trackRules.isEmpty()) {
+				// 규칙이 없으면 요건 없이 충족으로 보이므로 판정하지 않는다
+				throw new IllegalArgumentException("해당하는 " + trackName(secondary.getTrack()) + " 규칙 없음: " + secondaryMajor.getName());
+			}
+			for (GraduationRuleDto rule : trackRules) {
+				compileRule(plan, rule, secondaryMajor, enterYear, prefix, majorGroup);
+			}
+		}
+		return plan.build(ruleSet.getVersion());
+	}
+
+	/* 저장 전에 규칙이 만들어질 수 있는지 확인, 잘못되면 IllegalArgumentException */
+	public void validate(GraduationRuleDto rule) {
+		if (rule.getMainField() == null || rule.getMainField().isBlank()) {
+			throw new IllegalArgumentException("mainField 없음");
+		}
+		RuleDefinitionDto definition = rule.getDefinition();
+		if (definition == null || definition.getCondition() == null) {
+			throw new IllegalArgumentException("definition.condition 없음");
+		}
+		Mode mode = modeOf(definition);
+		Set<String> names = new HashSet<>();
+		for (RuleBucketDto bucket : buckets(definition)) {
+			if (bucket.getName() == null || !names.add(bucket.getName())) {
+				throw new IllegalArgumentException("bucket 이름 중복 또는 없음: " + bucket.getName());
+			}
+			if (bucket.getField() == null) {
+				throw new IllegalArgumentException("bucket field 없음: " + bucket.getName());
+			}
+		}
+		if (rule.getTrack() != null) {
+			trackName(rule.getTrack());
+		}
+		if (mode == Mode.FIRST_COURSE && names.size() != 1) {
+			throw new IllegalArgumentException("FIRST_COURSE 는 bucket 하나만 가능");
+		}
+		validateCondition(definition.getCondition(), names);
+	}
+
+	/* prefix 가 있으면 복수전공/부전공 규칙, 결과 mainField 앞에 붙임 */
+	private void compileRule(PlanBuilder plan, GraduationRuleDto rule, Major major, int enterYear, String prefix, String majorGroup) {
+		RuleDefinitionDto definition = rule.getDefinition();
+		Map<String, BucketPlan> buckets = new HashMap<>();
+		List<BucketPlan> subFields = new ArrayList<>();
+		for (RuleBucketDto bucket : buckets(definition)) {
+			BucketPlan compiled = compileBucket(plan, bucket, major, enterYear, majorGroup);
+			buckets.put(bucket.getName(), compiled);
+			subFields.add(compiled);
+		}
+		Condition condition = compileCondition(plan, definition.getCondition(), buckets);
+		String mainField = prefix == null ? rule.getMainField() : prefix + rule.getMainField();
+		plan.requirement(mainField, rule.getBriefing(), modeOf(definition), subFields, condition,
+				prefix == null && isMajorIndependent(definition) ? rule : null);
+	}
+
+	/* 학생 학과 과목/url 을 쓰지 않고 배타 그룹도 없으면 어느 학과 계획에서든 결과가 같음 */
+	private static boolean isMajorIndependent(RuleDefinitionDto definition) {
+		for (RuleBucketDto bucket : buckets(definition)) {
+			if (bucket.isStudentMajorCourses() || bucket.isStudentRequiredCourses() || bucket.getExclusiveGroup() != null) return false;
+			if (bucket.getUrl() != null && bucket.getUrl().contains("{majorId}")) return false;
+		}
+		return true;
+	}
+
+	private BucketPlan compileBucket(PlanBuilder plan, RuleBucketDto bucket, Major major, int enterYear, String majorGroup) {
+		CatalogSnapshot catalog = plan.getCatalog();
+		OrdinalBitSet courses = plan.emptyCourses();
+
+		IntHashSet numbers = numberSet(bucket.getNumbers());
+		List<String> abeek = bucket.getAbeek() == null ? List.of() : bucket.getAbeek();
+		if (!numbers.isEmpty() || !abeek.isEmpty()) {
+			courses.or(plan.coursesWhere(course -> numbers.contains(CourseKey.parseNumber(course.getNumber()))
+					|| (course.getAbeek() != null && abeek.contains(course.getAbeek()))));
+		}
+		// 과목 키로 고르는 과목, 비트셋에 못 들어간 행도 이 기준으로 판정
+		OrdinalBitSet keyCourses = plan.emptyCourses();
+		if (bucket.isStudentMajorCourses()) {
+			keyCourses.or(plan.coursesWhere(course -> catalog.isMajorCourse(major, enterYear, course.getKey())));
+		}
+		if (bucket.getKeys() != null) {
+			keyCourses.or(plan.coursesOf(keySet(bucket.getKeys())));
+		}
+		if (bucket.getMajorCoursesOf() != null) {
+			keyCourses.or(plan.coursesOf(catalog.getMajorCourseKeys(bucket.getMajorCoursesOf())));
+		}
+		if (bucket.isStudentRequiredCourses()) {
+			keyCourses.or(plan.coursesOf(catalog.getRequiredCourseKeys(major)));
+		}
+		courses.or(keyCourses);
+
+		OrdinalBitSet hidden = null;
+		IntHashSet hiddenNumbers = null;
+		if (bucket.getHiddenNumbers() != null) {
+			IntHashSet numbersToHide = numberSet(bucket.getHiddenNumbers());
+			hidden = plan.coursesWhere(course -> numbersToHide.contains(CourseKey.parseNumber(course.getNumber())));
+			hiddenNumbers = numbersToHide;
+		}
+		OrdinalBitSet appended = null;
+		IntHashSet appendedNumbers = null;
+		if (bucket.getAppendedNumbers() != null) {
+			IntHashSet numbersToAppend = numberSet(bucket.getAppendedNumbers());
+			appended = plan.coursesWhere(course -> numbersToAppend.contains(CourseKey.parseNumber(course.getNumber())));
+			appended.andNot(courses);
+			courses.or(appended);
+			appendedNumbers = numbersToAppend;
+		}
+		BucketPlan.Rows rows = new BucketPlan.Rows(numbers, abeek, keyCourses, hiddenNumbers, appendedNumbers);
+
+		String url = bucket.getUrl() == null
+				? "/courses?type=grad&keyword=" + bucket.getField()
+				: bucket.getUrl().replace("{majorId}", String.valueOf(major.getId())).replace("{enterYear}", String.valueOf(enterYear));
+		String exclusiveGroup = bucket.getExclusiveGroup() == null && bucket.isStudentMajorCourses() ? majorGroup : bucket.getExclusiveGroup();
+		return plan.bucket(bucket.getField(), url, courses, hidden, appended, bucket.isCountedInTotal(), exclusiveGroup, rows);
+	}
+
+	private Condition compileCondition(PlanBuilder plan, RuleConditionDto condition, Map<String, BucketPlan> buckets) {
+		switch (condition.getType()) {
+			case "CREDIT":
+				return Conditions.credit(buckets.get(condition.getBucket()).getIndex(), condition.getMin());
+			case "SUM":
+				return Conditions.sumCredit(indexes(condition.getBuckets(), buckets), condition.getMin());
+			case "COUNT":
+				return Conditions.countBuckets(indexes(condition.getBuckets(), buckets), condition.getMin(), condition.getCount());
+			case "TOTAL":
+				return Conditions.totalCredit(condition.getMin());
+			case "ANY_TAKEN":
+				return Conditions.anyTaken(buckets.get(condition.getBucket()));
+			case "ALL_TAKEN":
+				return plan.allTaken(keySet(condition.getKeys()).toSortedArray());
+			case "ALL":
+				return Conditions.allOf(compileConditions(plan, condition.getOf(), buckets));
+			case "ANY":
+				return Conditions.anyOf(compileConditions(plan, condition.getOf(), buckets));
+			case "AT_LEAST":
+				return Conditions.atLeast(condition.getCount(), compileConditions(plan, condition.getOf(), buckets));
+			case "ALWAYS":
+				return Conditions.always();
+			case "NEVER":
+				return Conditions.never();
+			default:
+				throw new IllegalArgumentException("알 수 없는 조건: " + condition.getType());
+		}
+	}
+
+	private Condition[] compileConditions(PlanBuilder plan, List<RuleConditionDto> conditions, Map<String, BucketPlan> buckets) {
+		Condition[] compiled = new Condition[conditions.size()];
+		for (int i = 0; i < compiled.length; i++) {
+			compiled[i] = compileCondition(plan, conditions.get(i), buckets);
+		}
+		return compiled;
+	}
+
+	private void validateCondition(RuleConditionDto condition, Set<String> names) {
+		String type = condition.getType();
+		if (type == null) {
+			throw new IllegalArgumentException("condition type 없음");
+		}
+		switch (type) {
+			case "CREDIT":
+			case "ANY_TAKEN":
+				requireBucket(condition.getBucket(), names);
+				if (type.equals("CREDIT")) requireValue(condition.getMin(), "min");
+				return;
+			case "SUM":
+			case "COUNT":
+				if (condition.getBuckets() == null || condition.getBuckets().isEmpty()) {
+					throw new IllegalArgumentException(type + " 에 buckets 없음");
+				}
+				condition.getBuckets().forEach(bucket -> requireBucket(bucket, names));
+				requireValue(condition.getMin(), "min");
+				if (type.equals("COUNT")) requireValue(condition.getCount(), "count");
+				return;
+			case "TOTAL":
+				requireValue(condition.getMin(), "min");
+				return;
+			case "ALL_TAKEN":
+				if (condition.getKeys() == null || condition.getKeys().isEmpty()) {
+					throw new IllegalArgumentException("ALL_TAKEN 에 keys 없음");
+				}
+				keySet(condition.getKeys());
+				return;
+			case "ALL":
+			case "ANY":
+			case "AT_LEAST":
+				if (type.equals("AT_LEAST")) requireValue(condition.getCount(), "count");
+				if (condition.getOf() == null) {
+					throw new IllegalArgumentException(type + " 에 of 없음");
+				}
+				condition.getOf().forEach(child -> validateCondition(child, names));
+				return;
+			case "ALWAYS":
+			case "NEVER":
+				return;
+			default:
+				throw new IllegalArgumentException("알 수 없는 조건: " + type);
+		}
+	}
+
+	private void requireBucket(String bucket, Set<String> names) {
+		if (!names.contains(bucket)) {
+			throw new IllegalArgumentException("없는 bucket: " + bucket);
+		}
+	}
+
+	private void requireValue(Integer value, String name) {
+		if (value == null) {
+			throw new IllegalArgumentException(name + " 없음");
+		}
+	}
+
+	private static String trackName(String track) {
+		if (RuleSet.TRACK_DOUBLE.equals(track)) return "복수전공";
+		if (RuleSet.TRACK_MINOR.equals(track)) return "부전공";
+		throw new IllegalArgumentException("알 수 없는 track: " + track);
+	}
+
+	private static Mode modeOf(RuleDefinitionDto definition) {
+		return definition.getMode() == null ? Mode.SUB_FIELDS : Mode.valueOf(definition.getMode());
+	}
+
+	private static List<RuleBucketDto> buckets(RuleDefinitionDto definition) {
+		return definition.getBuckets() == null ? List.of() : definition.getBuckets();
+	}
+
+	private static int[] indexes(List<String> names, Map<String, BucketPlan> buckets) {
+		return names.stream().mapToInt(name -> buckets.get(name).getIndex()).toArray();
+	}
+
+	private static IntHashSet numberSet(List<String> numbers) {
+		return numbers == null ? new IntHashSet(0) : CourseKey.numberSet(numbers.toArray(new String[0]));
+	}
+
+	/* "012101:3" 형식 */
+	private static IntHashSet keySet(List<String> keys) {
+		IntHashSet set = new IntHashSet(keys.size());
+		for (String key : keys) {
+			int separator = key.indexOf(':');
+			int courseKey = separator < 0 ? CourseKey.NONE
+					: CourseKey.of(key.substring(0, separator), Integer.parseInt(key.substring(separator + 1)));
+			if (courseKey == CourseKey.NONE) {
+				throw new IllegalArgumentException("과목 키 형식 오류: " + key);
+			}
+			set.add(courseKey);
+		}
+		return set;
+	}
+}
@@ -0,0 +1,51 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.RequirementStateDto;
+import com.hongikgrad.graduation.dto.TimelineEntryDto;
+
+import java.util.*;
+
+/*
+ * 학기별 누적 졸업요건 상태.
+ * 빈 성적표로 한 번 판정한 뒤 WhatIfSession 에 학기마다 그 학기 과목만 더해서,
+ * 그 학기 과목이 들어가는 요건만 다시 판정한다.
+ */
+public final class ProgressTimeline {
+
+	private ProgressTimeline() {
+	}
+
+	public static List<TimelineEntryDto> of(EvaluationPlan plan, CatalogSnapshot catalog, List<CourseDto> courseList) {
+		// 학기 모르는 과목 먼저, 나머지는 학기 순
+		Map<String, List<CourseDto>> semesters = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+		for (CourseDto course : courseList) {
+			semesters.computeIfAbsent(course.getTakenSemester(), semester -> new ArrayList<>()).add(course);
+		}
+
+		WhatIfSession session = WhatIfSession.start(plan, catalog, List.of());
+		List<TimelineEntryDto> timeline = new ArrayList<>(semesters.size());
+		for (Map.Entry<String, List<CourseDto>> semester : semesters.entrySet()) {
+			List<RequirementDto> before = session.getResult();
+			session.apply(semester.getValue(), null);
+			List<RequirementDto> after = session.getResult();
+
+			List<String> changed = new ArrayList<>();
+			List<RequirementStateDto> requirements = new ArrayList<>(after.size());
+			int satisfiedCount = 0;
+			for (int i = 0; i < after.size(); i++) {
+				RequirementDto requirement = after.get(i);
+				requirements.add(RequirementStateDto.of(requirement));
+				if (requirement.getIsSatisfied()) satisfiedCount++;
+				if (!Objects.equals(requirement.getIsSatisfied(), before.get(i).getIsSatisfied())
+						|| !Objects.equals(requirement.getTotalCredit(), before.get(i).getTotalCredit())) {
+					changed.add(requirement.getMainField());
+				}
+			}
+			timeline.add(new TimelineEntryDto(semester.getKey(), session.getTotalCredit(), satisfiedCount, changed, requirements));
+		}
+		return timeline;
+	}
+}
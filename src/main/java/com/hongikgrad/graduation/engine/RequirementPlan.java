@@ -0,0 +1,130 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.SubField;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* 졸업요건(RequirementDto) 하나의 평가 계획 */
+public final class RequirementPlan {
+
+	public enum Mode {
+		// 영역별 SubField 목록
+		SUB_FIELDS,
+		// 영역에서 처음 나온 과목 하나만 (전공기초영어)
+		FIRST_COURSE,
+		// SubField 없이 전체 학점만
+		TOTAL_CREDIT
+	}
+
+	private final String mainField;
+	private final String briefing;
+	private final Mode mode;
+	private final List<BucketPlan> buckets;
+	private final Condition condition;
+	// 학과와 상관없이 같은 결과가 나오는 요건이면 규칙, 아니면 null (여러 학과 비교 때 한 번만 판정)
+	private final Object shareKey;
+
+	RequirementPlan(String mainField, String briefing, Mode mode, List<BucketPlan> buckets, Condition condition) {
+		this(mainField, briefing, mode, buckets, condition, null);
+	}
+
+	RequirementPlan(String mainField, String briefing, Mode mode, List<BucketPlan> buckets, Condition condition, Object shareKey) {
+		this.mainField = mainField;
+		this.briefing = briefing;
+		this.mode = mode;
+		this.buckets = List.copyOf(buckets);
+		this.condition = condition;
+		this.shareKey = shareKey;
+	}
+
+	public String getMainField() {
+		return mainField;
+	}
+
+	public String getBriefing() {
+		return briefing;
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public List<BucketPlan> getBuckets() {
+		return buckets;
+	}
+
+	public Condition getCondition() {
+		return condition;
+	}
+
+	Object getShareKey() {
+		return shareKey;
+	}
+
+	public boolean isSatisfied(EvaluationContext context) {
+		return condition.test(context);
+	}
+
+	/* 목록/학점에 쓰는 영역 과목 + 조건이 읽는 과목 */
+	Dependencies dependencies(List<BucketPlan> allBuckets, int courseCount) {
+		Dependencies dependencies = new Dependencies(allBuckets, courseCount);
+		for (BucketPlan bucket : buckets) {
+			dependencies.bucket(bucket.getIndex());
+		}
+		if (mode == Mode.TOTAL_CREDIT) {
+			dependencies.totalCredit();
+		}
+		condition.collectDependencies(dependencies);
+		return dependencies;
+	}
+
+	RequirementDto toDto(EvaluationContext context) {
+		boolean isSatisfied = isSatisfied(context);
+		switch (mode) {
+			case FIRST_COURSE:
+				return firstCourse(context, isSatisfied);
+			case TOTAL_CREDIT:
+				return new RequirementDto(mainField, context.totalCredit(), briefing, isSatisfied);
+			default:
+				List<SubField> subFields = new ArrayList<>(buckets.size());
+				int totalCredit = 0;
+				for (BucketPlan bucket : buckets) {
+					subFields.add(bucket.toSubField(context));
+					if (bucket.isCountedInTotal()) totalCredit += context.credit(bucket.getIndex());
+				}
+				return new RequirementDto(mainField, totalCredit, briefing, isSatisfied, subFields);
+		}
+	}
+
+	private RequirementDto firstCourse(EvaluationContext context, boolean isSatisfied) {
+		BucketPlan bucket = buckets.get(0);
+		OrdinalBitSet counted = context.counted(bucket.getIndex());
+		Transcript transcript = context.getTranscript();
+		int[] ordinals = transcript.getOrdinals();
+		for (int i = 0; i < ordinals.length; i++) {
+			CourseDto course = transcript.getCourses().get(i);
+			boolean inBucket = ordinals[i] >= 0
+					? (counted == null ? bucket.contains(ordinals[i]) : counted.get(ordinals[i]))
+					: bucket.matches(course, transcript.getCatalog().ordinalOf(course.getKey()));
+			if (inBucket) {
+				return RequirementDto.builder()
+						.mainField(mainField)
+						.briefing(briefing)
+						.isSatisfied(isSatisfied)
+						.totalCredit(course.getCredit())
+						.subField(List.of(new SubField(bucket.getField(), List.of(course), course.getCredit(), true, bucket.getUrl())))
+						.build();
+			}
+		}
+		return RequirementDto.builder()
+				.mainField(mainField)
+				.briefing(briefing)
+				.isSatisfied(isSatisfied)
+				.totalCredit(0)
+				.build();
+	}
+}
@@ -0,0 +1,75 @@
+package com.hongikgrad.graduation.engine;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import com.hongikgrad.major.entity.Major;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/*
+ * 특정 시점의 졸업요건 규칙 전체. 규칙이 수정되면 새 RuleSet 이 만들어지고 version 이 올라간다.
+ * 학생에게 맞는 규칙 고르기는 평가 계획을 만들 때만 한다.
+ */
+public final class RuleSet {
+
+	public static final String DEFAULT_RULES = "graduation/default-rules.json";
+
+	public static final String TRACK_DOUBLE = "DOUBLE";
+	public static final String TRACK_MINOR = "MINOR";
+
+	private final long version;
+	private final List<GraduationRuleDto> rules;
+
+	public RuleSet(long version, List<GraduationRuleDto> rules) {
+		this.version = version;
+		this.rules = List.copyOf(rules);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<GraduationRuleDto> getRules() {
+		return rules;
+	}
+
+	/* 주전공 규칙 */
+	public List<GraduationRuleDto> select(Major major, int enterYear, boolean isAbeek) {
+		return select(major, enterYear, isAbeek, null);
+	}
+
+	/* track(null 이면 주전공) 규칙 중 mainField 마다 가장 우선순위가 높은 규칙 하나, sortOrder 순 */
+	public List<GraduationRuleDto> select(Major major, int enterYear, boolean isAbeek, String track) {
+		Map<String, GraduationRuleDto> selected = new HashMap<>();
+		for (GraduationRuleDto rule : rules) {
+			if (!Objects.equals(rule.getTrack(), track) || !matches(rule, major, enterYear, isAbeek)) continue;
+			GraduationRuleDto current = selected.get(rule.getMainField());
+			if (current == null || rule.getPriority() > current.getPriority()) {
+				selected.put(rule.getMainField(), rule);
+			}
+		}
+		List<GraduationRuleDto> result = new ArrayList<>(selected.values());
+		result.sort(Comparator.comparingInt(GraduationRuleDto::getSortOrder)
+				.thenComparing(GraduationRuleDto::getMainField));
+		return result;
+	}
+
+	private static boolean matches(GraduationRuleDto rule, Major major, int enterYear, boolean isAbeek) {
+		if (rule.getCollege() != null && !rule.getCollege().equals(major.getCollege())) return false;
+		if (rule.getMajorCodes() != null && !rule.getMajorCodes().isEmpty() && !rule.getMajorCodes().contains(major.getCode())) return false;
+		if (rule.getEnterYearFrom() != null && enterYear < rule.getEnterYearFrom()) return false;
+		if (rule.getEnterYearTo() != null && enterYear > rule.getEnterYearTo()) return false;
+		return rule.getAbeek() == null || rule.getAbeek() == isAbeek;
+	}
+
+	/* 기본 규칙 (기존 하드코딩 규칙과 같은 내용) */
+	public static List<GraduationRuleDto> readDefaultRules(ObjectMapper objectMapper) throws IOException {
+		try (InputStream in = RuleSet.class.getClassLoader().getResourceAsStream(DEFAULT_RULES)) {
+			if (in == null) throw new IOException(DEFAULT_RULES + " 없음");
+			return objectMapper.readValue(in, new TypeReference<List<GraduationRuleDto>>() {});
+		}
+	}
+}
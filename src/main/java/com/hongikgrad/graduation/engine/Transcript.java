@@ -0,0 +1,125 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * 요청으로 들어온 수강 과목 목록을 카탈로그 순번 비트셋으로 바꾼 것.
+ * 기존 판정기(LegacyGraduationEvaluator)처럼 요청 행을 하나하나 센다.
+ *  - 카탈로그 과목이 요청 abeek 도 카탈로그와 같으면 처음 한 번만 비트셋(taken)에 넣는다.
+ *  - 나머지 행(중복, abeek 가 다른 행, 카탈로그에 없는 행)은 따로 모아 두고 영역마다 행 단위로 판정한다. (BucketPlan.matches)
+ *  - 전체 학점은 모든 행 학점의 합
+ */
+public final class Transcript {
+
+	private static final int[] NONE = new int[0];
+
+	private final CatalogSnapshot catalog;
+	private final List<CourseDto> courses;
+	// courses 와 같은 순서, 비트셋에 들어가지 않은 행이면 -1
+	private final int[] ordinals;
+	private final OrdinalBitSet taken;
+	// ordinals 가 -1 인 행 번호
+	private final int[] irregular;
+	// irregular 행 중 카탈로그에 있는 과목, 없으면 null
+	private final OrdinalBitSet irregularCourses;
+	// 요청 과목 학점의 합 (중복, 카탈로그에 없는 과목 포함)
+	private final int totalCredit;
+
+	Transcript(CatalogSnapshot catalog, List<CourseDto> courses, int[] ordinals, OrdinalBitSet taken, int totalCredit) {
+		this.catalog = catalog;
+		this.courses = courses;
+		this.ordinals = ordinals;
+		this.taken = taken;
+		this.totalCredit = totalCredit;
+
+		int[] rows = new int[ordinals.length];
+		int count = 0;
+		OrdinalBitSet present = null;
+		for (int i = 0; i < ordinals.length; i++) {
+			if (ordinals[i] >= 0) continue;
+			rows[count++] = i;
+			int ordinal = catalog.ordinalOf(courses.get(i).getKey());
+			if (ordinal < 0) continue;
+			if (present == null) present = new OrdinalBitSet(catalog.getCourseCount());
+			present.set(ordinal);
+		}
+		this.irregular = count == 0 ? NONE : Arrays.copyOf(rows, count);
+		this.irregularCourses = present;
+	}
+
+	private Transcript(Transcript source, OrdinalBitSet taken, int totalCredit) {
+		this.catalog = source.catalog;
+		this.courses = source.courses;
+		this.ordinals = source.ordinals;
+		this.taken = taken;
+		this.irregular = source.irregular;
+		this.irregularCourses = source.irregularCourses;
+		this.totalCredit = totalCredit;
+	}
+
+	public static Transcript of(CatalogSnapshot catalog, List<CourseDto> courseList) {
+		int[] ordinals = new int[courseList.size()];
+		OrdinalBitSet taken = new OrdinalBitSet(catalog.getCourseCount());
+		int totalCredit = 0;
+		for (int i = 0; i < ordinals.length; i++) {
+			CourseDto course = courseList.get(i);
+			totalCredit += course.getCredit();
+			int ordinal = regularOrdinal(catalog, course);
+			if (ordinal >= 0 && !taken.get(ordinal)) {
+				taken.set(ordinal);
+				ordinals[i] = ordinal;
+			} else {
+				ordinals[i] = -1;
+			}
+		}
+		return new Transcript(catalog, courseList, ordinals, taken, totalCredit);
+	}
+
+	/* 카탈로그 과목이고 요청 abeek 가 카탈로그와 같으면 순번, 아니면 -1 */
+	static int regularOrdinal(CatalogSnapshot catalog, CourseDto course) {
+		int ordinal = catalog.ordinalOf(course.getKey());
+		if (ordinal < 0 || !Objects.equals(catalog.courseAt(ordinal).getAbeek(), course.getAbeek())) return -1;
+		return ordinal;
+	}
+
+	/* 행은 그대로 두고 이수 과목/전체 학점만 바꾼 성적표 (추천 탐색용) */
+	Transcript withTaken(OrdinalBitSet taken, int totalCredit) {
+		return new Transcript(this, taken, totalCredit);
+	}
+
+	public CatalogSnapshot getCatalog() {
+		return catalog;
+	}
+
+	public List<CourseDto> getCourses() {
+		return courses;
+	}
+
+	public int[] getOrdinals() {
+		return ordinals;
+	}
+
+	public OrdinalBitSet getTaken() {
+		return taken;
+	}
+
+	/* 비트셋에 들어가지 않은 행 번호 */
+	int[] getIrregular() {
+		return irregular;
+	}
+
+	/* 어느 행으로든 들은 카탈로그 과목인지 (기존 판정기의 takenCourseKeys 와 같은 기준) */
+	public boolean isPresent(int ordinal) {
+		return taken.get(ordinal) || (irregularCourses != null && irregularCourses.get(ordinal));
+	}
+
+	public int getTotalCredit() {
+		return totalCredit;
+	}
+}
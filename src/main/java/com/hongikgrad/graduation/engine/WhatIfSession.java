@@ -0,0 +1,193 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/*
+ * 성적표 하나에 과목을 더하거나 빼 보는 what-if 상태.
+ * 영역별 학점은 바뀐 과목이 들어가는 영역만 더하고 빼며,
+ * 바뀐 과목이나 전체 학점을 읽는 요건만 다시 판정한다.
+ * 비트셋에 못 들어가는 행(중복, abeek 가 다른 행, 카탈로그에 없는 행)이 바뀌면 드문 경우라 요건을 모두 다시 판정한다.
+ * 시작할 때의 카탈로그/계획을 끝까지 사용한다.
+ */
+public final class WhatIfSession {
+
+	private final EvaluationPlan plan;
+	private final CatalogSnapshot catalog;
+
+	private final List<CourseDto> courses;
+	// courses 와 같은 순서, 비트셋에 들어가지 않은 행이면 -1 (Transcript 와 같은 규칙)
+	private int[] ordinals;
+	private final OrdinalBitSet taken;
+	// 비트셋 과목만 센 영역별 학점, 나머지 행은 판정할 때 더한다
+	private final int[] credits;
+	private int totalCredit;
+	// 배타 그룹 배정 결과, 그룹 과목이 바뀌면 다시 배정
+	private OrdinalBitSet[] counted;
+	private boolean assignmentTouched;
+	private boolean irregularTouched;
+
+	private final RequirementDto[] results;
+
+	private WhatIfSession(EvaluationPlan plan, CatalogSnapshot catalog, Transcript transcript) {
+		this.plan = plan;
+		this.catalog = catalog;
+		this.courses = new ArrayList<>(transcript.getCourses());
+		this.ordinals = Arrays.copyOf(transcript.getOrdinals(), Math.max(16, courses.size() * 2));
+		this.taken = transcript.getTaken();
+		this.totalCredit = transcript.getTotalCredit();
+
+		this.credits = new int[plan.getBuckets().size()];
+		for (BucketPlan bucket : plan.getBuckets()) {
+			credits[bucket.getIndex()] = bucket.credit(taken);
+		}
+		if (plan.getCreditAssignment() != null) {
+			this.counted = plan.getCreditAssignment().assign(taken, credits, catalog);
+		}
+		List<RequirementPlan> requirements = plan.getRequirements();
+		this.results = new RequirementDto[requirements.size()];
+		EvaluationContext context = contextOf(transcript);
+		for (int i = 0; i < results.length; i++) {
+			results[i] = requirements.get(i).toDto(context);
+		}
+	}
+
+	public static WhatIfSession start(EvaluationPlan plan, CatalogSnapshot catalog, List<CourseDto> courseList) {
+		return new WhatIfSession(plan, catalog, Transcript.of(catalog, courseList));
+	}
+
+	public synchronized List<RequirementDto> getResult() {
+		return List.of(results);
+	}
+
+	/* 판정에 쓰는 전체 학점 (모든 행 학점의 합) */
+	public synchronized int getTotalCredit() {
+		return totalCredit;
+	}
+
+	public synchronized List<CourseDto> getCourses() {
+		return List.copyOf(courses);
+	}
+
+	/* 삭제 -> 추가 순서로 반영하고 다시 판정된 요건만 반환. 없는 과목 삭제는 무시 */
+	public synchronized List<RequirementDto> apply(List<CourseDto> add, List<CourseDto> remove) {
+		BitSet dirty = new BitSet(results.length);
+		int previousTotalCredit = totalCredit;
+		assignmentTouched = false;
+		irregularTouched = false;
+		if (remove != null) {
+			for (CourseDto course : remove) {
+				remove(course, dirty);
+			}
+		}
+		if (add != null) {
+			for (CourseDto course : add) {
+				add(course, dirty);
+			}
+		}
+		if (totalCredit != previousTotalCredit) {
+			for (int requirement : plan.getTotalCreditRequirements()) {
+				dirty.set(requirement);
+			}
+		}
+		if (assignmentTouched) {
+			counted = plan.getCreditAssignment().assign(taken, credits, catalog);
+			for (int requirement : plan.getAssignmentRequirements()) {
+				dirty.set(requirement);
+			}
+		}
+		if (irregularTouched) {
+			dirty.set(0, results.length);
+		}
+		if (dirty.isEmpty()) return List.of();
+
+		Transcript transcript = new Transcript(catalog, courses, Arrays.copyOf(ordinals, courses.size()), taken, totalCredit);
+		EvaluationContext context = contextOf(transcript);
+		List<RequirementPlan> requirements = plan.getRequirements();
+		List<RequirementDto> changed = new ArrayList<>(dirty.cardinality());
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+			results[i] = requirements.get(i).toDto(context);
+			changed.add(results[i]);
+		}
+		return changed;
+	}
+
+	private void add(CourseDto course, BitSet dirty) {
+		int index = courses.size();
+		if (index == ordinals.length) {
+			ordinals = Arrays.copyOf(ordinals, index * 2);
+		}
+
+		totalCredit += course.getCredit();
+		int ordinal = Transcript.regularOrdinal(catalog, course);
+		if (ordinal >= 0 && !taken.get(ordinal)) {
+			courses.add(course);
+			taken.set(ordinal);
+			ordinals[index] = ordinal;
+			addCredit(ordinal, 1);
+			markDirty(ordinal, dirty);
+		} else {
+			courses.add(course);
+			ordinals[index] = -1;
+			irregularTouched = true;
+		}
+	}
+
+	private void remove(CourseDto course, BitSet dirty) {
+		int index = courses.indexOf(course);
+		if (index < 0) return;
+		CourseDto removed = courses.remove(index);
+		totalCredit -= removed.getCredit();
+		int ordinal = ordinals[index];
+		System.arraycopy(ordinals, index + 1, ordinals, index, courses.size() - index);
+		if (ordinal < 0) {
+			irregularTouched = true;
+			return;
+		}
+
+		// 비트셋에 들어갈 수 있는 같은 과목 행이 뒤에 또 있으면 그 행이 대신 들어감
+		markDirty(ordinal, dirty);
+		for (int i = index; i < courses.size(); i++) {
+			if (ordinals[i] < 0 && Transcript.regularOrdinal(catalog, courses.get(i)) == ordinal) {
+				ordinals[i] = ordinal;
+				irregularTouched = true;
+				return;
+			}
+		}
+		taken.clear(ordinal);
+		addCredit(ordinal, -1);
+	}
+
+	private EvaluationContext contextOf(Transcript transcript) {
+		if (transcript.getIrregular().length == 0) {
+			return new EvaluationContext(transcript, credits, counted);
+		}
+		int[] contextCredits = credits.clone();
+		plan.addIrregularCredits(transcript, contextCredits);
+		return new EvaluationContext(transcript, contextCredits, counted);
+	}
+
+	private void addCredit(int ordinal, int sign) {
+		int credit = sign * catalog.courseAt(ordinal).getCredit();
+		for (int bucket : plan.bucketsOf(ordinal)) {
+			credits[bucket] += credit;
+		}
+	}
+
+	private void markDirty(int ordinal, BitSet dirty) {
+		CreditAssignment assignment = plan.getCreditAssignment();
+		if (assignment != null && assignment.getCourses().get(ordinal)) {
+			assignmentTouched = true;
+		}
+		for (int requirement : plan.requirementsOf(ordinal)) {
+			dirty.set(requirement);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.hongikgrad.graduation.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Getter
+@NoArgsConstructor
+public class GraduationRule {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "graduation_rule_id")
+	private Long id;
+
+	@Column(name = "main_field")
+	private String mainField;
+
+	@Column(name = "briefing", columnDefinition = "TEXT")
+	private String briefing;
+
+	@Column(name = "sort_order")
+	private int sortOrder;
+
+	@Column(name = "priority")
+	private int priority;
+
+	// null 이면 모든 단과대
+	@Column(name = "college")
+	private String college;
+
+	// 쉼표로 구분, null 이면 모든 학과
+	@Column(name = "major_codes")
+	private String majorCodes;
+
+	@Column(name = "enter_year_from")
+	private Integer enterYearFrom;
+
+	@Column(name = "enter_year_to")
+	private Integer enterYearTo;
+
+	@Column(name = "abeek")
+	private Boolean abeek;
+
+	// null 이면 주전공, DOUBLE | MINOR
+	@Column(name = "track")
+	private String track;
+
+	// RuleDefinitionDto JSON
+	@Column(name = "definition", columnDefinition = "TEXT")
+	private String definition;
+
+	public GraduationRule(String mainField, String briefing, int sortOrder, int priority, String college, String majorCodes,
+	                      Integer enterYearFrom, Integer enterYearTo, Boolean abeek, String track, String definition) {
+		this.mainField = mainField;
+		this.briefing = briefing;
+		this.sortOrder = sortOrder;
+		this.priority = priority;
+		this.college = college;
+		this.majorCodes = majorCodes;
+		this.enterYearFrom = enterYearFrom;
+		this.enterYearTo = enterYearTo;
+		this.abeek = abeek;
+		this.track = track;
+		this.definition = definition;
+	}
+
+	public void update(String mainField, String briefing, int sortOrder, int priority, String college, String majorCodes,
+	                   Integer enterYearFrom, Integer enterYearTo, Boolean abeek, String track, String definition) {
+		this.mainField = mainField;
+		this.briefing = briefing;
+		this.sortOrder = sortOrder;
+		this.priority = priority;
+		this.college = college;
+		this.majorCodes = majorCodes;
+		this.enterYearFrom = enterYearFrom;
+		this.enterYearTo = enterYearTo;
+		this.abeek = abeek;
+		this.track = track;
+		this.definition = definition;
+	}
+}
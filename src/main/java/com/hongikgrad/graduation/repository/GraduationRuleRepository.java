@@ -0,0 +1,12 @@
+package com.hongikgrad.graduation.repository;
+
+import com.hongikgrad.graduation.entity.GraduationRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GraduationRuleRepository extends JpaRepository<GraduationRule, Long> {
+	List<GraduationRule> findAllByOrderBySortOrderAscIdAsc();
+
+	boolean existsByTrack(String track);
+}
@@ -1,5 +1,6 @@
 package com.hongikgrad.major.application;
 
+import com.hongikgrad.common.catalog.CatalogService;
 import com.hongikgrad.course.entity.Course;
 import com.hongikgrad.major.dto.MajorDto;
 import com.hongikgrad.major.entity.Major;
@@ -20,12 +21,14 @@ public class MajorService {
 	private final MajorCourseRepository majorCourseRepository;
 	private final MajorHierarchyRepository majorHierarchyRepository;
 
+	private final CatalogService catalogService;
+
 	public List<MajorDto> getMajorDtoList() {
 		List<MajorDto> majorDtoList = majorRepository.findAllMajorDto();
 		return majorDtoList;
 	}
 
 	public List<Major> getEnableMajorList() {
-		return majorRepository.findAllByEnableTrue();
+		return catalogService.getSnapshot().getEnableMajors();
 	}
 }
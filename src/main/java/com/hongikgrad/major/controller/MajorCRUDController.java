@@ -1,6 +1,7 @@
 package com.hongikgrad.major.controller;
 
 import com.hongikgrad.authentication.application.UserService;
+import com.hongikgrad.common.catalog.CatalogService;
 import com.hongikgrad.major.application.MajorService;
 import com.hongikgrad.major.dto.MajorRequestDto;
 import com.hongikgrad.major.entity.Major;
@@ -20,6 +21,7 @@ public class MajorCRUDController {
 
 	private final UserService userService;
 	private final MajorService majorService;
+	private final CatalogService catalogService;
 
 	@GetMapping("/admin/majors")
 	public ResponseEntity majorGET(HttpServletRequest request) throws AuthenticationException {
@@ -37,6 +39,7 @@ public class MajorCRUDController {
 		try {
 			userService.authenticateAdmin(request);
 			Major savedMajor = majorRepository.save(new Major(majorRequestDto.getName(), majorRequestDto.getCode(), majorRequestDto.getCollege()));
+			catalogService.refresh();
 			return new ResponseEntity(savedMajor, HttpStatus.OK);
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -58,6 +61,7 @@ public class MajorCRUDController {
 				major.toggleEnable();
 			}
 			majorRepository.save(major);
+			catalogService.refresh();
 			return new ResponseEntity(major, HttpStatus.OK);
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -71,6 +75,7 @@ public class MajorCRUDController {
 			userService.authenticateAdmin(request);
 			Major major = majorRepository.findMajorById(majorId);
 			majorRepository.delete(major);
+			catalogService.refresh();
 			return new ResponseEntity(HttpStatus.OK);
 		} catch(Exception e) {
 			e.printStackTrace();
@@ -1,6 +1,7 @@
 package com.hongikgrad.major.controller;
 
 import com.hongikgrad.authentication.application.UserService;
+import com.hongikgrad.common.catalog.CatalogService;
 import com.hongikgrad.course.entity.Course;
 import com.hongikgrad.course.repository.CourseRepository;
 import com.hongikgrad.major.entity.Major;
@@ -23,6 +24,7 @@ public class MajorCourseCRUDController {
 	private final MajorRepository majorRepository;
 	private final CourseRepository courseRepository;
 	private final UserService userService;
+	private final CatalogService catalogService;
 
 	@GetMapping("/admin/majors/{majorId}/courses")
 	public ResponseEntity majorCourseGET(HttpServletRequest request, @PathVariable("majorId") Long majorId) throws AuthenticationException {
@@ -43,6 +45,7 @@ public class MajorCourseCRUDController {
 			Course course = courseRepository.findCourseById(courseId);
 			if (majorCourseRepository.findMajorCourseByCourseAndMajor(course, major) == null) {
 				majorCourseRepository.save(new MajorCourse(major, course));
+				catalogService.refresh();
 			}
 			return new ResponseEntity(majorCourseRepository.findCoursesByMajor(major), HttpStatus.OK);
 		} catch(Exception e) {
@@ -57,6 +60,7 @@ public class MajorCourseCRUDController {
 			MajorCourse majorCourse = majorCourseRepository.findMajorCourseByCourseIdAndMajorId(courseId, majorId);
 			majorCourse.toggleRequired();
 			majorCourseRepository.save(majorCourse);
+			catalogService.refresh();
 			return new ResponseEntity(HttpStatus.OK);
 		} catch(Exception e) {
 			return new ResponseEntity(HttpStatus.BAD_REQUEST);
@@ -71,6 +75,7 @@ public class MajorCourseCRUDController {
 			Major major = majorRepository.findMajorById(majorId);
 			Course course = courseRepository.findCourseById(courseId);
 			majorCourseRepository.delete(majorCourseRepository.findMajorCourseByCourseAndMajor(course, major));
+			catalogService.refresh();
 			return new ResponseEntity(HttpStatus.OK);
 		} catch(Exception e) {
 			return new ResponseEntity(HttpStatus.BAD_REQUEST);
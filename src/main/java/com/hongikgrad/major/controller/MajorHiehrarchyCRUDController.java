@@ -1,5 +1,6 @@
 package com.hongikgrad.major.controller;
 
+import com.hongikgrad.common.catalog.CatalogService;
 import com.hongikgrad.major.application.MajorService;
 import com.hongikgrad.major.entity.Major;
 import com.hongikgrad.major.entity.MajorHierarchy;
@@ -18,6 +19,7 @@ public class MajorHiehrarchyCRUDController {
 	private final MajorRepository majorRepository;
 
 	private final MajorService majorService;
+	private final CatalogService catalogService;
 
 	@GetMapping("/admin/majors/{majorId}/hierarchy")
 	public ResponseEntity majorsHierarchyGET(@PathVariable("majorId") Long majorId) {
@@ -31,6 +33,7 @@ public class MajorHiehrarchyCRUDController {
 			Major slave = majorRepository.findMajorById(slaveId);
 
 			MajorHierarchy saved = majorHierarchyRepository.save(new MajorHierarchy(master, slave));
+			catalogService.refresh();
 //			majorService.mergeMajor(masterId, slaveId);
 			return new ResponseEntity(saved, HttpStatus.OK);
 		} catch(Exception e) {
@@ -44,6 +47,7 @@ public class MajorHiehrarchyCRUDController {
 		try {
 			MajorHierarchy target = majorHierarchyRepository.findMajorHierarchyByMasterIdAndSlaveId(masterId, slaveId);
 			majorHierarchyRepository.delete(target);
+			catalogService.refresh();
 //			majorService.unMergeMajor(masterId, slaveId);
 			return new ResponseEntity(HttpStatus.OK);
 		} catch(Exception e) {
@@ -0,0 +1,12 @@
+package com.hongikgrad.major.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MajorCourseIdDto {
+	private Long majorId;
+	private Long courseId;
+	private boolean isRequired;
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -55,6 +56,6 @@ public class MajorCourse {
 
 	@Override
 	public int hashCode() {
-		return (this.getMajor().getName() + this.getCourse()).hashCode();
+		return 31 * Objects.hashCode(this.getMajor().getName()) + this.getCourse().hashCode();
 	}
 }
@@ -0,0 +1,32 @@
+package com.hongikgrad.major.repository;
+
+import com.hongikgrad.common.catalog.CourseKey;
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.major.entity.Major;
+
+import java.util.List;
+
+/* 학과/학번에 따라 전공 과목 목록에서 빠지는 과목들 */
+public final class MajorCourseFilter {
+
+	// 컴공 20학번 이상: 컴퓨터공학의이해, C-프로그래밍, 객체지향프로그래밍 -> MSC/교양으로 인정
+	private static final IntHashSet CS_OVER_20_EXCLUDED = CourseKey.numberSet("004174", "101810", "012305");
+	// 미술대학: 전공기초 과목은 전공 학점에서 따로 계산
+	private static final IntHashSet ART_EXCLUDED = CourseKey.numberSet("400101", "400102", "400201", "400202");
+
+	private MajorCourseFilter() {
+	}
+
+	public static void filterMajorCourse(Major studentMajor, int enterYear, List<CourseDto> majorCourseList) {
+		majorCourseList.removeIf(courseDto -> isFiltered(studentMajor, enterYear, courseDto.getKey()));
+	}
+
+	public static boolean isFiltered(Major studentMajor, int enterYear, int courseKey) {
+		int number = CourseKey.numberOf(courseKey);
+		if ("CS".equals(studentMajor.getCode()) && enterYear >= 20 && CS_OVER_20_EXCLUDED.contains(number)) {
+			return true;
+		}
+		return "미술대학".equals(studentMajor.getCollege()) && ART_EXCLUDED.contains(number);
+	}
+}
@@ -2,6 +2,7 @@ package com.hongikgrad.major.repository;
 
 import com.hongikgrad.course.dto.CourseDto;
 import com.hongikgrad.course.entity.Course;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
 import com.hongikgrad.major.entity.Major;
 
 import java.util.List;
@@ -14,4 +15,5 @@ public interface MajorCourseRepositoryCustom {
 	public List<Course> findCoursesByMajor(Major major);
 	public List<Course> findCoursesByMajorId(Long majorId);
 	public List<CourseDto> findRequiredMajorCoursesByMajorId(Long majorId);
+	public List<MajorCourseIdDto> findAllMajorCourseIds();
 }
@@ -2,6 +2,7 @@ package com.hongikgrad.major.repository;
 
 import com.hongikgrad.course.dto.CourseDto;
 import com.hongikgrad.course.entity.Course;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
 import com.hongikgrad.major.entity.Major;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -140,4 +141,17 @@ public class MajorCourseRepositoryImpl implements MajorCourseRepositoryCustom {
 				.fetch();
 	}
 
+	@Override
+	public List<MajorCourseIdDto> findAllMajorCourseIds() {
+		return queryFactory
+				.select(
+						Projections.constructor(
+								MajorCourseIdDto.class,
+								majorCourse.major.id,
+								majorCourse.course.id,
+								majorCourse.isRequired
+						))
+				.from(majorCourse)
+				.fetch();
+	}
 }
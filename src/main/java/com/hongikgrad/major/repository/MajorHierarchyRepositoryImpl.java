@@ -1,5 +1,6 @@
 package com.hongikgrad.major.repository;
 
+import com.hongikgrad.common.catalog.CourseKey;
 import com.hongikgrad.course.dto.CourseDto;
 import com.hongikgrad.graduation.dto.StudentDto;
 import com.hongikgrad.major.dto.MajorDto;
@@ -11,7 +12,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.hongikgrad.course.entity.QCourse.course;
 import static com.hongikgrad.major.entity.QMajor.*;
@@ -43,7 +43,7 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.on(majorHierarchy.master.eq(master))
 				.fetch();
 
-		return queryFactory
+		return CourseKey.distinct(queryFactory
 				.select(Projections.constructor(CourseDto.class,
 						course.name,
 						course.number,
@@ -54,7 +54,7 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.from(majorCourse)
 				.join(majorCourse.major, major).on(eqAnyMajor(master, slaveList))
 				.join(majorCourse.course, course).on(majorCourse.course.eq(course))
-				.fetch().stream().distinct().collect(Collectors.toList());
+				.fetch());
 	}
 
 
@@ -80,7 +80,7 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.join(majorCourse.major, major).on(eqAnyMajor(majorCode, slaveList))
 				.join(majorCourse.course, course).on(majorCourse.course.eq(course))
 				.fetch();
-		return majorCourseList.stream().distinct().collect(Collectors.toList());
+		return CourseKey.distinct(majorCourseList);
 	}
 
 	@Override
@@ -105,7 +105,7 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.join(majorCourse.course, course).on(majorCourse.course.eq(course))
 				.fetch();
 
-		return majorCourseList.stream().distinct().collect(Collectors.toList());
+		return CourseKey.distinct(majorCourseList);
 	}
 
 	@Override
@@ -130,34 +130,14 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.from(majorCourse)
 				.join(majorCourse.major, major).on(eqAnyMajor(studentMajor, slaveList))
 				.join(majorCourse.course, course).on(majorCourse.course.eq(course))
-				.fetch().stream().distinct().collect(Collectors.toList());
+				.fetch();
+		majorCourseList = CourseKey.distinct(majorCourseList);
 
-		filterMajorCourse(studentMajor, student.getEnterYear(), majorCourseList);
+		MajorCourseFilter.filterMajorCourse(studentMajor, student.getEnterYear(), majorCourseList);
 
 		return majorCourseList;
 	}
 
-	private void filterMajorCourse(Major studentMajor, int enterYear, List<CourseDto> majorCourseList) {
-		String majorCode = studentMajor.getCode();
-		String college = studentMajor.getCollege();
-		if(majorCode.equals("CS") && enterYear >= 20) {
-			majorCourseList.removeIf(courseDto -> {
-				String courseNumber = courseDto.getNumber();
-				return courseNumber.equals("004174")
-						|| courseNumber.equals("101810")
-						|| courseNumber.equals("012305");
-			});
-		}
-
-		if (college.equals("미술대학")) {
-			majorCourseList.removeIf(courseDto -> courseDto.getNumber().equals("400101")
-					|| courseDto.getNumber().equals("400102")
-					|| courseDto.getNumber().equals("400201")
-					|| courseDto.getNumber().equals("400202")
-			);
-		}
-	}
-
 	private BooleanExpression eqAnyMajor(Long masterId, List<Major> slaveList) {
 		// 최소 1개 보장
 		BooleanExpression ret = major.id.eq(masterId);
@@ -206,9 +186,10 @@ public class MajorHierarchyRepositoryImpl implements MajorHierarchyRepositoryCus
 				.from(majorCourse)
 				.join(majorCourse.major, major).on(eqAnyMajor(studentMajor, slaveList))
 				.join(majorCourse.course, course).on(majorCourse.course.eq(course))
-				.fetch().stream().distinct().collect(Collectors.toList());
+				.fetch();
+		majorCourseList = CourseKey.distinct(majorCourseList);
 
-		filterMajorCourse(studentMajor, enterYear, majorCourseList);
+		MajorCourseFilter.filterMajorCourse(studentMajor, enterYear, majorCourseList);
 
 		return majorCourseList;
 	}
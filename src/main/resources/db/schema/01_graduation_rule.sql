@@ -0,0 +1,15 @@
+-- 졸업요건 규칙 (GraduationRule). prod 는 ddl-auto: validate 라서 애플리케이션 시작 전에 이 스크립트로 만든다.
+create table if not exists graduation_rule (
+    graduation_rule_id bigint not null auto_increment,
+    main_field varchar(255),
+    briefing text,
+    sort_order integer not null,
+    priority integer not null,
+    college varchar(255),
+    major_codes varchar(255),
+    enter_year_from integer,
+    enter_year_to integer,
+    abeek bit,
+    definition text,
+    primary key (graduation_rule_id)
+) engine=InnoDB;
@@ -0,0 +1,6 @@
+-- 복수전공/부전공 규칙 구분 (GraduationRule.track). MySQL 은 add column if not exists 가 없어서 없을 때만 추가.
+set @track_exists = (select count(*) from information_schema.columns where table_schema = database() and table_name = 'graduation_rule' and column_name = 'track');
+set @track_ddl = if(@track_exists = 0, 'alter table graduation_rule add column track varchar(255)', 'select 1');
+prepare track_statement from @track_ddl;
+execute track_statement;
+deallocate prepare track_statement;
@@ -0,0 +1,11 @@
+-- 시간표 페이지 지문 (CrawlPage). 크롤링마다 전체를 읽으므로 ddl-auto: validate 에서도 있어야 한다.
+create table if not exists crawl_page (
+    crawl_page_id bigint not null auto_increment,
+    page_key varchar(255) not null,
+    fingerprint varchar(64),
+    etag varchar(255),
+    last_modified varchar(255),
+    changed_at bigint,
+    primary key (crawl_page_id),
+    unique key uk_crawl_page_page_key (page_key)
+) engine=InnoDB;
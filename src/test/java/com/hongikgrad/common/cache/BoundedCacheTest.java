@@ -0,0 +1,39 @@
+package com.hongikgrad.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+	@Test
+	public void 크기를_넘으면_오래_안쓴_것부터_제거() {
+		// 세그먼트당 1개
+		BoundedCache<Integer, String> cache = new BoundedCache<>(16, 60_000);
+		cache.put(0, "a");
+		cache.put(16, "b");
+
+		assertThat(cache.get(0)).isNull();
+		assertThat(cache.get(16)).isEqualTo("b");
+		assertThat(cache.stats().getEvictions()).isEqualTo(1);
+		assertThat(cache.stats().getHits()).isEqualTo(1);
+		assertThat(cache.stats().getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void TTL이_지나면_만료() {
+		AtomicLong now = new AtomicLong();
+		BoundedCache<String, String> cache = new BoundedCache<>(100, 1_000, now::get);
+		cache.put("key", "value");
+
+		now.addAndGet(999_000_000L);
+		assertThat(cache.get("key")).isEqualTo("value");
+
+		now.addAndGet(2_000_000L);
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.stats().getExpirations()).isEqualTo(1);
+		assertThat(cache.size()).isZero();
+	}
+}
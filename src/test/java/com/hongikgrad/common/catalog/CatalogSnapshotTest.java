@@ -0,0 +1,82 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+	private CatalogSnapshot snapshot() {
+		return snapshot(1);
+	}
+
+	private CatalogSnapshot snapshot(long version) {
+		List<CourseDto> courses = List.of(
+				course(1L, "자료구조", "101809", 3),
+				course(2L, "C-프로그래밍", "101810", 3),
+				course(3L, "회로이론", "012401", 3),
+				course(4L, "공학수학", "012201", 3)
+		);
+		List<Major> majors = List.of(
+				new Major(10L, "컴퓨터공학과", "CS", "공과대학", true),
+				new Major(11L, "공과대학", "ENG", "공과대학", false)
+		);
+		List<MajorCourseIdDto> majorCourses = List.of(
+				new MajorCourseIdDto(10L, 1L, true),
+				new MajorCourseIdDto(10L, 2L, false),
+				new MajorCourseIdDto(11L, 4L, false),
+				new MajorCourseIdDto(11L, 1L, false)
+		);
+		return new CatalogSnapshot(version, courses, majors, majorCourses, Map.of(10L, List.of(11L)));
+	}
+
+	private CourseDto course(Long id, String name, String number, int credit) {
+		return new CourseDto(id, name, number, "전선", credit, false, "20221");
+	}
+
+	@Test
+	public void 하위학과_전공과목_합치고_중복제거() {
+		CatalogSnapshot catalog = snapshot();
+		Major cs = catalog.findMajorByCode("CS");
+
+		List<CourseDto> under19 = catalog.findAllMajorCoursesByMaster(cs, 19);
+		assertThat(under19).extracting(CourseDto::getNumber).containsExactly("101809", "101810", "012201");
+
+		List<CourseDto> over20 = catalog.findAllMajorCoursesByMaster(cs, 20);
+		assertThat(over20).extracting(CourseDto::getNumber).containsExactly("101809", "012201");
+	}
+
+	@Test
+	public void 전공필수와_활성학과() {
+		CatalogSnapshot catalog = snapshot();
+		Major cs = catalog.findMajorById(10L);
+
+		assertThat(catalog.findRequiredCoursesByMajor(cs)).extracting(CourseDto::getNumber).containsExactly("101809");
+		assertThat(catalog.findCourseDtosByMajorId(10L)).extracting(CourseDto::isRequired).containsExactly(true, false);
+		assertThat(catalog.getEnableMajors()).extracting(Major::getCode).containsExactly("CS");
+	}
+
+	@Test
+	public void 순위_검색_인기도는_카탈로그_버전마다_고정() {
+		CoursePopularity popularity = new CoursePopularity();
+		CatalogSnapshot catalog = snapshot(1);
+		int dataStructure = CourseKey.of("101809", 3);
+		popularity.record(dataStructure);
+
+		long[] first = popularity.snapshotOf(catalog);
+		assertThat(first).containsExactly(1, 0, 0, 0);
+
+		// 커서로 다음 페이지를 받는 사이에 늘어난 인기도는 같은 버전에서 보이지 않음
+		popularity.record(dataStructure);
+		popularity.record(CourseKey.of("012401", 3));
+		assertThat(popularity.snapshotOf(catalog)).isSameAs(first).containsExactly(1, 0, 0, 0);
+
+		assertThat(popularity.snapshotOf(snapshot(2))).containsExactly(2, 0, 1, 0);
+	}
+}
@@ -0,0 +1,53 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.course.dto.CourseQueryDto;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.hongikgrad.common.catalog.CourseFacetIndexTest.ABEEKS;
+import static com.hongikgrad.common.catalog.CourseFacetIndexTest.SEMESTERS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 과목 3000개에서 영역 + 학과 + 학점 + 학기 조건 조회 한 번에 걸리는 시간.
+ * ./gradlew benchmark 로만 실행
+ */
+@Tag("benchmark")
+class CourseFacetIndexBenchmark {
+
+	private static final int WARMUP = 1_000;
+	private static final int ITERATIONS = 1_000;
+
+	@Test
+	public void 조건_조회_속도(TestReporter reporter) {
+		Random random = new Random(31);
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < 3_000; i++) {
+			courses.add(new CourseDto((long) i + 1, "과목" + i, String.valueOf(100000 + i), ABEEKS.get(random.nextInt(ABEEKS.size())),
+					1 + random.nextInt(3), false, SEMESTERS.get(random.nextInt(SEMESTERS.size()))));
+		}
+		List<MajorCourseIdDto> majorCourses = new ArrayList<>();
+		for (int i = 0; i < 3_000; i += 1 + random.nextInt(5)) {
+			majorCourses.add(new MajorCourseIdDto(random.nextBoolean() ? 10L : 11L, (long) i + 1, random.nextInt(4) == 0));
+		}
+		List<Major> majors = List.of(new Major(10L, "컴퓨터공학과", "CS", "공과대학", true), new Major(11L, "공과대학", "ENG", "공과대학", false));
+		CatalogSnapshot catalog = new CatalogSnapshot(1, courses, majors, majorCourses, Map.of(10L, List.of(11L)));
+		CourseQueryDto query = CourseFacetIndexTest.query(List.of("MSC과학", "MSC수학"), 10L, List.of(3), List.of("20221"), null);
+
+		for (int i = 0; i < WARMUP; i++) catalog.getFacetIndex().query(query, null);
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) catalog.getFacetIndex().query(query, null);
+		long micros = (System.nanoTime() - start) / 1_000 / ITERATIONS;
+		reporter.publishEntry("us per facet query", String.valueOf(micros));
+		assertThat(micros).isLessThan(1_000);
+	}
+}
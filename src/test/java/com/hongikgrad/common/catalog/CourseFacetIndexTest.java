@@ -0,0 +1,71 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.course.dto.CourseQueryDto;
+import com.hongikgrad.course.dto.CourseQueryResultDto;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseFacetIndexTest {
+
+	static final List<String> ABEEKS = List.of("교양필수", "MSC과학", "MSC수학", "전공", "전공기초");
+	static final List<String> SEMESTERS = List.of("20212", "20221", "20222");
+
+	@Test
+	public void 조건_조회는_전체_탐색과_같고_조건별_개수를_센다() {
+		Random random = new Random(31);
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < 3_000; i++) {
+			courses.add(new CourseDto((long) i + 1, "과목" + i, String.valueOf(100000 + i), ABEEKS.get(random.nextInt(ABEEKS.size())),
+					1 + random.nextInt(3), false, SEMESTERS.get(random.nextInt(SEMESTERS.size()))));
+		}
+		List<MajorCourseIdDto> majorCourses = new ArrayList<>();
+		for (int i = 0; i < 3_000; i += 1 + random.nextInt(5)) {
+			majorCourses.add(new MajorCourseIdDto(random.nextBoolean() ? 10L : 11L, (long) i + 1, random.nextInt(4) == 0));
+		}
+		List<Major> majors = List.of(new Major(10L, "컴퓨터공학과", "CS", "공과대학", true), new Major(11L, "공과대학", "ENG", "공과대학", false));
+		CatalogSnapshot catalog = new CatalogSnapshot(1, courses, majors, majorCourses, Map.of(10L, List.of(11L)));
+		Set<Long> csCourses = new HashSet<>();
+		Set<Long> csRequired = new HashSet<>();
+		for (MajorCourseIdDto row : majorCourses) {
+			csCourses.add(row.getCourseId());
+			if (row.getMajorId() == 10L && row.isRequired()) csRequired.add(row.getCourseId());
+		}
+
+		CourseQueryDto query = query(List.of("MSC과학", "MSC수학"), 10L, List.of(3), List.of("20221"), null);
+		Predicate<CourseDto> expected = course -> List.of("MSC과학", "MSC수학").contains(course.getAbeek()) && csCourses.contains(course.getId())
+				&& course.getCredit() == 3 && "20221".equals(course.getSemester());
+		CourseQueryResultDto result = catalog.getFacetIndex().query(query, null);
+		assertThat(result.getTotalCount()).isEqualTo((int) courses.stream().filter(expected).count());
+		assertThat(result.getCourses()).allMatch(expected);
+		// 영역 개수는 영역 조건만 빼고 센다
+		long science = courses.stream().filter(course -> "MSC과학".equals(course.getAbeek()) && csCourses.contains(course.getId())
+				&& course.getCredit() == 3 && "20221".equals(course.getSemester())).count();
+		assertThat(result.getFacets().get(CourseFacetIndex.ABEEK).get("MSC과학")).isEqualTo((int) science);
+		assertThat(result.getFacets().get(CourseFacetIndex.ABEEK)).containsKey("교양필수");
+
+		CourseQueryDto required = query(null, 10L, null, null, true);
+		CourseQueryResultDto requiredResult = catalog.getFacetIndex().query(required, null);
+		assertThat(requiredResult.getTotalCount()).isEqualTo(csRequired.size());
+		assertThat(requiredResult.getFacets().get(CourseFacetIndex.REQUIRED))
+				.containsEntry("true", csRequired.size()).containsEntry("false", csCourses.size() - csRequired.size());
+	}
+
+	static CourseQueryDto query(List<String> abeek, Long majorId, List<Integer> credit, List<String> semester, Boolean required) {
+		CourseQueryDto query = new CourseQueryDto();
+		ReflectionTestUtils.setField(query, "abeek", abeek);
+		ReflectionTestUtils.setField(query, "majorId", majorId);
+		ReflectionTestUtils.setField(query, "credit", credit);
+		ReflectionTestUtils.setField(query, "semester", semester);
+		ReflectionTestUtils.setField(query, "required", required);
+		ReflectionTestUtils.setField(query, "size", 10_000);
+		return query;
+	}
+}
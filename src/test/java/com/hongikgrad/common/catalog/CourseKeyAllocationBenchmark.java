@@ -0,0 +1,157 @@
+package com.hongikgrad.common.catalog;
+
+import com.hongikgrad.common.collection.IntHashSet;
+import com.hongikgrad.course.dto.CourseDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * 졸업요건 계산 한 번에 해당하는 과목 중복 제거 + 포함 여부 확인의 할당량과 시간 비교.
+ * before: 변경 전 hashCode (학수번호 + 학점 문자열) 로 distinct(), HashSet 만들기, contains
+ * after : CourseKey.distinct, CourseKey.keySet (IntHashSet), contains
+ * 양쪽 모두 전공 과목 중복 제거, 성적표 집합 만들기, 전공/전공필수/물리 확인을 평가마다 한다.
+ * ./gradlew benchmark 로만 실행 (com.sun.management.ThreadMXBean 이 없는 JVM 이면 건너뜀)
+ */
+@Tag("benchmark")
+class CourseKeyAllocationBenchmark {
+
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 20_000;
+
+	private final List<CourseDto> transcript = new ArrayList<>();
+	private final List<CourseDto> majorCourses = new ArrayList<>();
+	private final List<CourseDto> requiredCourses = new ArrayList<>();
+
+	private final List<StringKeyCourse> stringTranscript = new ArrayList<>();
+	private final List<StringKeyCourse> stringMajorCourses = new ArrayList<>();
+	private final List<StringKeyCourse> stringRequiredCourses = new ArrayList<>();
+
+	CourseKeyAllocationBenchmark() {
+		for (int i = 0; i < 150; i++) {
+			majorCourses.add(new CourseDto(String.format("%06d", 101000 + i), 3));
+		}
+		// 전공 목록은 여러 학과/학년 조회를 합친 것이라 중복이 섞여 있음
+		for (int i = 0; i < 30; i++) {
+			majorCourses.add(new CourseDto(String.format("%06d", 101000 + i * 5), 3));
+		}
+		for (int i = 0; i < 12; i++) {
+			requiredCourses.add(majorCourses.get(i * 7));
+		}
+		for (int i = 0; i < 50; i++) {
+			transcript.add(new CourseDto(String.format("%06d", 101000 + i * 3), 3));
+		}
+		transcript.add(new CourseDto("012101", 3));
+		transcript.add(new CourseDto("012103", 1));
+
+		copy(majorCourses, stringMajorCourses);
+		copy(requiredCourses, stringRequiredCourses);
+		copy(transcript, stringTranscript);
+	}
+
+	@Test
+	public void 평가당_할당량(TestReporter reporter) {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		assertThat(keyEvaluation()).isEqualTo(stringEvaluation());
+
+		for (int i = 0; i < WARMUP; i++) {
+			stringEvaluation();
+			keyEvaluation();
+		}
+
+		long before = measure(this::stringEvaluation);
+		long after = measure(this::keyEvaluation);
+
+		long beforeNanos = time(this::stringEvaluation);
+		long afterNanos = time(this::keyEvaluation);
+
+		reporter.publishEntry("allocated bytes per evaluation", "before = " + before + ", after = " + after);
+		reporter.publishEntry("ns per evaluation", "before = " + beforeNanos + ", after = " + afterNanos);
+		assertThat(after).isLessThan(before);
+	}
+
+	/* 변경 전: distinct() 와 HashSet 이 hashCode 마다 문자열을 만든다, 물리/화학은 new CourseDto(..) 로 확인 */
+	private int stringEvaluation() {
+		List<StringKeyCourse> majors = stringMajorCourses.stream().distinct().collect(Collectors.toList());
+		Set<StringKeyCourse> majorSet = new HashSet<>(majors);
+		Set<StringKeyCourse> requiredSet = new HashSet<>(stringRequiredCourses);
+		Set<StringKeyCourse> taken = new HashSet<>(stringTranscript);
+		int hit = majors.size();
+		for (StringKeyCourse course : stringTranscript) {
+			if (majorSet.contains(course)) hit++;
+			if (requiredSet.contains(course)) hit++;
+		}
+		if (taken.contains(new StringKeyCourse("012101", 3)) && taken.contains(new StringKeyCourse("012103", 1))) hit++;
+		return hit;
+	}
+
+	private int keyEvaluation() {
+		List<CourseDto> majors = CourseKey.distinct(majorCourses);
+		IntHashSet majorSet = CourseKey.keySet(majors);
+		IntHashSet requiredSet = CourseKey.keySet(requiredCourses);
+		IntHashSet taken = CourseKey.keySet(transcript);
+		int hit = majors.size();
+		for (CourseDto course : transcript) {
+			int key = course.getKey();
+			if (majorSet.contains(key)) hit++;
+			if (requiredSet.contains(key)) hit++;
+		}
+		if (taken.contains(CourseKey.of("012101", 3)) && taken.contains(CourseKey.of("012103", 1))) hit++;
+		return hit;
+	}
+
+	private static void copy(List<CourseDto> courses, List<StringKeyCourse> target) {
+		for (CourseDto course : courses) {
+			target.add(new StringKeyCourse(course.getNumber(), course.getCredit()));
+		}
+	}
+
+	private long measure(Runnable evaluation) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long start = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			evaluation.run();
+		}
+		return (threads.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+	}
+
+	private long time(Runnable evaluation) {
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			evaluation.run();
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	/* 변경 전 CourseDto/Course 의 equals/hashCode 그대로 */
+	private static final class StringKeyCourse {
+		private final String number;
+		private final int credit;
+
+		StringKeyCourse(String number, int credit) {
+			this.number = number;
+			this.credit = credit;
+		}
+
+		@Override
+		public boolean equals(Object a) {
+			return (a instanceof StringKeyCourse) && ((StringKeyCourse) a).number.equals(this.number) && ((StringKeyCourse) a).credit == this.credit;
+		}
+
+		@Override
+		public int hashCode() {
+			return (this.number + this.credit).hashCode();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.hongikgrad.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntHashSetTest {
+
+	@Test
+	public void 추가_삭제_후에도_HashSet과_같은_결과() {
+		Random random = new Random(42);
+		IntHashSet set = new IntHashSet(4);
+		Set<Integer> expected = new HashSet<>();
+		for (int i = 0; i < 20000; i++) {
+			int value = random.nextInt(2000) - 10;
+			if (random.nextBoolean()) {
+				assertThat(set.add(value)).isEqualTo(expected.add(value));
+			} else {
+				assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+			}
+			assertThat(set.size()).isEqualTo(expected.size());
+		}
+		for (int value = -10; value < 1990; value++) {
+			assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+		}
+	}
+
+	@Test
+	public void 정렬된_배열() {
+		IntHashSet set = IntHashSet.of(5, 0, 3, 1000000);
+		assertThat(set.toSortedArray()).containsExactly(0, 3, 5, 1000000);
+	}
+}
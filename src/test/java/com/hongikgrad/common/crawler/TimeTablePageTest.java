@@ -0,0 +1,33 @@
+package com.hongikgrad.common.crawler;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeTablePageTest {
+
+	@Test
+	public void 공백과_속성이_달라도_같은_지문() {
+		String a = fingerprint("<table id=\"select_list\"><tr><td>학수 번호</td><td>과목명</td></tr><tr><td>101810</td><td>자료구조</td></tr></table>");
+		String b = fingerprint("<table id=\"select_list\" class=\"x\">\n  <tr>\n    <td style=\"a\"> 학수 번호 </td><td>과목명</td>\n  </tr>\n  <tr><td>101810</td><td>자료구조  </td></tr>\n</table>");
+		String changed = fingerprint("<table id=\"select_list\"><tr><td>학수 번호</td><td>과목명</td></tr><tr><td>101810</td><td>자료구조론</td></tr></table>");
+
+		assertThat(a).hasSize(64).isEqualTo(b);
+		assertThat(changed).isNotEqualTo(a);
+	}
+
+	@Test
+	public void 셀_경계가_다르면_다른_지문() {
+		String a = fingerprint("<table id=\"select_list\"><tr><td>ab</td><td>c</td></tr></table>");
+		String b = fingerprint("<table id=\"select_list\"><tr><td>a</td><td>bc</td></tr></table>");
+
+		assertThat(a).isNotEqualTo(b);
+	}
+
+	private String fingerprint(String html) {
+		Element table = Jsoup.parse("<html><body>" + html + "</body></html>").getElementById("select_list");
+		return TimeTablePage.fingerprint(table);
+	}
+}
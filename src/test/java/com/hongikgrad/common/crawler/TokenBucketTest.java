@@ -0,0 +1,66 @@
+package com.hongikgrad.common.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	@Test
+	public void 처음엔_capacity_만큼_바로_쓰고_이후엔_초당_rate_개씩_채워진다() {
+		AtomicLong now = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(50, 5, now::get);
+
+		for (int i = 0; i < 5; i++) assertThat(bucket.tryAcquire()).isZero();
+		// 초당 50개 -> 20ms 마다 하나
+		assertThat(bucket.tryAcquire()).isEqualTo(20 * MILLIS);
+		now.addAndGet(10 * MILLIS);
+		assertThat(bucket.tryAcquire()).isEqualTo(10 * MILLIS);
+		now.addAndGet(10 * MILLIS);
+		assertThat(bucket.tryAcquire()).isZero();
+		assertThat(bucket.tryAcquire()).isEqualTo(20 * MILLIS);
+	}
+
+	@Test
+	public void 오래_쉬어도_capacity_까지만_쌓인다() {
+		AtomicLong now = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(50, 5, now::get);
+		for (int i = 0; i < 5; i++) bucket.tryAcquire();
+
+		now.addAndGet(10_000 * MILLIS);
+		for (int i = 0; i < 5; i++) assertThat(bucket.tryAcquire()).isZero();
+		assertThat(bucket.tryAcquire()).isEqualTo(20 * MILLIS);
+	}
+
+	@Test
+	public void 여러_스레드가_나눠_써도_채워진_토큰보다_많이_가져가지_않는다() throws Exception {
+		AtomicLong now = new AtomicLong();
+		TokenBucket bucket = new TokenBucket(50, 5, now::get);
+		AtomicInteger acquired = new AtomicInteger();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 6; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 1_000; i++) {
+					if (bucket.tryAcquire() == 0) acquired.incrementAndGet();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) thread.join();
+		assertThat(acquired.get()).isEqualTo(5);
+
+		// 500ms 뒤에는 25개가 채워지지만 capacity 5 까지만
+		now.addAndGet(500 * MILLIS);
+		int refilled = 0;
+		while (bucket.tryAcquire() == 0) refilled++;
+		assertThat(refilled).isEqualTo(5);
+	}
+}
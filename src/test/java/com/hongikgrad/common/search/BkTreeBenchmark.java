@@ -0,0 +1,34 @@
+package com.hongikgrad.common.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 과목 5000개에서 오타 검색(거리 이내 BK-tree 탐색) 한 번에 걸리는 시간.
+ * ./gradlew benchmark 로만 실행
+ */
+@Tag("benchmark")
+class BkTreeBenchmark {
+
+	@Test
+	public void 오타_검색_속도(TestReporter reporter) {
+		Random random = new Random(17);
+		CourseSearchIndex index = new CourseSearchIndex(BkTreeTest.courses(random), null);
+
+		List<String> queries = new ArrayList<>();
+		for (int i = 0; i < 200; i++) queries.add(BkTreeTest.randomText(random, 3 + random.nextInt(6)));
+		for (String query : queries) index.searchFuzzy(query, 10);
+		long start = System.nanoTime();
+		for (String query : queries) index.searchFuzzy(query, 10);
+		long micros = (System.nanoTime() - start) / 1_000 / queries.size();
+		reporter.publishEntry("us per fuzzy search", String.valueOf(micros));
+		assertThat(micros).isLessThan(5_000);
+	}
+}
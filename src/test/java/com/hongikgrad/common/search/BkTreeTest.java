@@ -0,0 +1,78 @@
+package com.hongikgrad.common.search;
+
+import com.hongikgrad.course.dto.CourseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+	private static final String SYLLABLES = "자료구조알고리즘운영체제데이터베이스컴퓨터네트워크공학수학미적분선형대수객지향";
+
+	@Test
+	public void 편집_거리() {
+		assertThat(BkTree.distance("kitten", "sitting", 10)).isEqualTo(3);
+		assertThat(BkTree.distance("kitten", "sitting", 1)).isEqualTo(2);
+		assertThat(BkTree.distance(Hangul.toJamo("자료구죠"), Hangul.toJamo("자료구조"), 5)).isEqualTo(1);
+	}
+
+	@Test
+	public void 거리_이내_검색은_전체_탐색과_같다() {
+		Random random = new Random(13);
+		List<String> keys = new ArrayList<>();
+		BkTree tree = new BkTree();
+		for (int i = 0; i < 3_000; i++) {
+			String key = Hangul.toJamo(randomText(random, 2 + random.nextInt(6)));
+			keys.add(key);
+			tree.insert(key, i);
+		}
+		for (int q = 0; q < 200; q++) {
+			String query = Hangul.toJamo(randomText(random, 2 + random.nextInt(6)));
+			int maxDistance = 1 + random.nextInt(3);
+			List<int[]> expected = new ArrayList<>();
+			for (int i = 0; i < keys.size(); i++) {
+				int distance = BkTree.distance(query, keys.get(i), Integer.MAX_VALUE);
+				if (distance <= maxDistance) expected.add(new int[]{distance, i});
+			}
+			List<int[]> actual = tree.search(query, maxDistance);
+			Comparator<int[]> byDocument = Comparator.comparingInt(match -> match[1]);
+			expected.sort(byDocument);
+			actual.sort(byDocument);
+			assertThat(actual).usingElementComparator(Comparator.<int[]>comparingInt(m -> m[0]).thenComparingInt(m -> m[1]))
+					.containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	public void 오타와_띄어쓰기가_달라도_찾는다() {
+		CourseSearchIndex index = new CourseSearchIndex(courses(new Random(17)), null);
+
+		assertThat(index.toCourses(index.searchFuzzy("자료구죠", 5))).extracting(CourseDto::getName).first().isEqualTo("자료구조");
+		assertThat(index.toCourses(index.searchFuzzy("객체 지행 프로그래밍", 5))).extracting(CourseDto::getName).first().isEqualTo("객체지향프로그래밍");
+		assertThat(index.searchFuzzy("자", 5)).isEmpty();
+	}
+
+	/* 자료구조, 객체지향프로그래밍 + 무작위 이름 4998개 */
+	static List<CourseDto> courses(Random random) {
+		List<CourseDto> courses = new ArrayList<>();
+		courses.add(new CourseDto(1L, "자료구조", "101809", "전필", 3, false, "20221"));
+		courses.add(new CourseDto(2L, "객체지향프로그래밍", "101810", "전선", 3, false, "20221"));
+		for (int i = 3; i < 5_000; i++) {
+			courses.add(new CourseDto((long) i, randomText(random, 3 + random.nextInt(8)), String.valueOf(200000 + i), "전선", 3, false, "20221"));
+		}
+		return courses;
+	}
+
+	static String randomText(Random random, int length) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			builder.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,145 @@
+package com.hongikgrad.common.search;
+
+import com.hongikgrad.course.dto.CourseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CourseSearchIndexTest {
+
+	private CourseSearchIndex index(List<CourseDto> courses) {
+		return new CourseSearchIndex(courses, null);
+	}
+
+	private CourseDto course(long id, String name, String semester) {
+		return new CourseDto(id, name, String.valueOf(100000 + id), "전선", 3, false, semester);
+	}
+
+	private List<String> complete(CourseSearchIndex index, List<CourseDto> courses, String keyword) {
+		List<String> names = new ArrayList<>();
+		for (int ordinal : index.complete(keyword, 10)) names.add(courses.get(ordinal).getName());
+		return names;
+	}
+
+	@Test
+	public void 초성과_입력_중인_음절로_자동완성() {
+		List<CourseDto> courses = List.of(
+				course(1, "자료구조", "20221"),
+				course(2, "자료구조및프로그래밍", "20212"),
+				course(3, "닭갈비의이해", "20221"),
+				course(4, "웹 프로그래밍", "20221"),
+				course(5, "과학과기술", "20221")
+		);
+		CourseSearchIndex index = index(courses);
+
+		assertThat(complete(index, courses, "ㅈㄹㄱㅈ")).containsExactly("자료구조", "자료구조및프로그래밍");
+		assertThat(complete(index, courses, "자료구ㅈ")).containsExactly("자료구조", "자료구조및프로그래밍");
+		// "자료구" 를 치는 중에 보이는 "자룍" 도 접두어
+		assertThat(complete(index, courses, "자룍")).containsExactly("자료구조", "자료구조및프로그래밍");
+		assertThat(complete(index, courses, "자룩")).isEmpty();
+		assertThat(complete(index, courses, "달")).containsExactly("닭갈비의이해");
+		assertThat(complete(index, courses, "고")).containsExactly("과학과기술");
+		// 단어 시작에서도, 최근 개설 학기 먼저
+		assertThat(complete(index, courses, "프로")).containsExactly("웹 프로그래밍");
+		assertThat(complete(index, courses, "ㅍㄹㄱ")).containsExactly("웹 프로그래밍");
+		assertThat(complete(index, courses, "")).isEmpty();
+	}
+
+	@Test
+	public void 상위_k개는_전체를_정렬한_결과와_같다() {
+		Random random = new Random(9);
+		String syllables = "가각간자잘장조좌구국";
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			StringBuilder name = new StringBuilder();
+			for (int j = 1 + random.nextInt(4); j > 0; j--) name.append(syllables.charAt(random.nextInt(syllables.length())));
+			courses.add(course(i, name.toString(), "20" + (16 + random.nextInt(7)) + (1 + random.nextInt(2))));
+		}
+		CourseSearchIndex index = index(courses);
+
+		for (String keyword : List.of("가", "ㄱ", "ㅈㄱ", "좌", "조ㅏ", "작", "자ㄱ", "구구")) {
+			String prefix = Hangul.toJamo(TextNormalizer.normalize(keyword));
+			boolean choseong = Hangul.isChoseongOnly(keyword);
+			List<CourseDto> expected = new ArrayList<>();
+			for (CourseDto course : courses) {
+				String key = choseong ? Hangul.toChoseong(course.getName()) : Hangul.toJamo(course.getName());
+				if (key.startsWith(choseong ? Hangul.toChoseong(keyword) : prefix)) expected.add(course);
+			}
+			expected.sort((a, b) -> {
+				int semester = b.getSemester().compareTo(a.getSemester());
+				if (semester != 0) return semester;
+				int length = Integer.compare(a.getName().length(), b.getName().length());
+				return length != 0 ? length : Long.compare(a.getId(), b.getId());
+			});
+			List<CourseDto> top = expected.subList(0, Math.min(10, expected.size()));
+			assertThat(index.toCourses(index.complete(keyword, 10))).as(keyword).containsExactlyElementsOf(top);
+		}
+	}
+
+	@Test
+	public void 순위_검색은_전체_정렬과_같고_커서로_이어진다() {
+		Random random = new Random(21);
+		String syllables = "자료구조알고리즘프로그래밍";
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			StringBuilder name = new StringBuilder();
+			for (int j = 2 + random.nextInt(8); j > 0; j--) name.append(syllables.charAt(random.nextInt(syllables.length())));
+			courses.add(course(i, name.toString(), "20" + (16 + random.nextInt(7)) + (1 + random.nextInt(2))));
+		}
+		CourseSearchIndex index = index(courses);
+		long[] popularity = new long[courses.size()];
+		for (int ordinal = 0; ordinal < popularity.length; ordinal++) popularity[ordinal] = Math.floorMod(courses.get(ordinal).getKey(), 7);
+
+		for (String keyword : List.of("자료", "구조 프로", "밍", "없는")) {
+			List<CourseDto> pages = new ArrayList<>();
+			String cursor = null;
+			do {
+				SearchPage page = index.searchRanked(keyword, popularity, 1, cursor, 13);
+				assertThat(page.getDocuments().length).isLessThanOrEqualTo(13);
+				pages.addAll(index.toCourses(page.getDocuments()));
+				cursor = page.getNextCursor();
+			} while (cursor != null);
+
+			// 한 번에 전부 받은 결과와 같은 순서, 빠짐/중복 없음
+			SearchPage all = index.searchRanked(keyword, popularity, 1, null, courses.size());
+			assertThat(pages).containsExactlyElementsOf(index.toCourses(all.getDocuments()));
+			assertThat(all.getNextCursor()).isNull();
+			int matched = 0;
+			for (CourseDto course : courses) {
+				for (String term : keyword.split(" ")) {
+					if (course.getName().contains(term)) {
+						matched++;
+						break;
+					}
+				}
+			}
+			assertThat(pages).hasSize(matched);
+		}
+
+		// 짧은 이름, 최근 학기가 앞
+		List<CourseDto> ranked = new ArrayList<>(List.of(course(1, "자료구조및알고리즘실습", "20221"), course(2, "자료구조", "20221"), course(3, "자료구조", "20161")));
+		for (int i = 4; i < 24; i++) ranked.add(course(i, "회로이론" + i, "20221"));
+		CourseSearchIndex small = index(ranked);
+		assertThat(small.toCourses(small.searchRanked("자료구조", new long[ranked.size()], 1, null, 10).getDocuments()))
+				.extracting(CourseDto::getId).containsExactly(2L, 3L, 1L);
+	}
+
+	@Test
+	public void 인기도_버전이_바뀌면_이전_커서는_받지_않는다() {
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 1; i <= 30; i++) courses.add(course(i, "자료구조" + i, "20221"));
+		CourseSearchIndex index = index(courses);
+		long[] popularity = new long[courses.size()];
+
+		String cursor = index.searchRanked("자료구조", popularity, 1, null, 10).getNextCursor();
+		assertThat(cursor).startsWith("1.");
+		assertThat(index.searchRanked("자료구조", popularity, 1, cursor, 10).getDocuments()).hasSize(10);
+		assertThatThrownBy(() -> index.searchRanked("자료구조", popularity, 2, cursor, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,56 @@
+package com.hongikgrad.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+	private static final String SYLLABLES = "자료구조알고리즘운영체제데이터베이스컴퓨터네트워크공학수학미적분선형대수 ";
+
+	@Test
+	public void 부분_문자열_검색은_전체_탐색과_같다() {
+		Random random = new Random(3);
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			names.add(randomText(random, 2 + random.nextInt(10)));
+		}
+		names.add("C-Programming 실습");
+		NgramIndex index = new NgramIndex(names);
+
+		List<String> queries = new ArrayList<>(List.of("", "자", "구조", "자료 구조", "c-pro", "ＰＲＯＧ", "없는과목명"));
+		for (int i = 0; i < 500; i++) {
+			queries.add(randomText(random, 1 + random.nextInt(4)));
+		}
+		for (String query : queries) {
+			assertThat(index.search(query)).as(query).containsExactly(scan(names, query));
+		}
+	}
+
+	@Test
+	public void 교집합() {
+		assertThat(NgramIndex.intersect(new int[]{1, 5, 9, 40}, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 40, 41})).containsExactly(1, 5, 40);
+		assertThat(NgramIndex.intersect(new int[]{}, new int[]{1})).isEmpty();
+	}
+
+	private int[] scan(List<String> names, String query) {
+		String normalized = TextNormalizer.normalize(query);
+		List<Integer> result = new ArrayList<>();
+		for (int i = 0; i < names.size(); i++) {
+			if (TextNormalizer.normalize(names.get(i)).contains(normalized)) result.add(i);
+		}
+		return result.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private String randomText(Random random, int length) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			builder.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+		}
+		return builder.toString();
+	}
+}
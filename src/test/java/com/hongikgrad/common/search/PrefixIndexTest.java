@@ -0,0 +1,42 @@
+package com.hongikgrad.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+	@Test
+	public void 접두어_구간과_대역별_개수는_전체_탐색과_같다() {
+		Random random = new Random(41);
+		List<String> numbers = new ArrayList<>();
+		for (int i = 0; i < 5_000; i++) {
+			numbers.add(String.format("%06d", random.nextInt(20_000)));
+		}
+		numbers.add("12");
+		PrefixIndex index = new PrefixIndex(numbers);
+
+		for (String prefix : List.of("", "0", "01", "012", "0121", "012101", "1", "12", "9", "0199999")) {
+			List<String> expected = new ArrayList<>();
+			Map<String, Integer> expectedGroups = new TreeMap<>();
+			for (String number : numbers) {
+				if (!number.startsWith(prefix)) continue;
+				expected.add(number);
+				expectedGroups.merge(number.substring(0, Math.min(4, number.length())), 1, Integer::sum);
+			}
+			expected.sort(null);
+
+			List<String> actual = new ArrayList<>();
+			for (int document : index.search(prefix)) actual.add(numbers.get(document));
+			assertThat(actual).as(prefix).containsExactlyElementsOf(expected);
+			assertThat(index.count(prefix)).isEqualTo(expected.size());
+			assertThat(index.countGroups(prefix, 4)).as(prefix).containsExactlyEntriesOf(expectedGroups);
+		}
+	}
+}
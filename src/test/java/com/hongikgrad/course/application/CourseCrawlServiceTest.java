@@ -0,0 +1,23 @@
+package com.hongikgrad.course.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCrawlServiceTest {
+
+	@Test
+	public void 이번_학기와_다음_학기() {
+		assertThat(CourseCrawlService.semesterOf(LocalDate.of(2022, 2, 28))).isEqualTo("20212");
+		assertThat(CourseCrawlService.semesterOf(LocalDate.of(2022, 3, 1))).isEqualTo("20221");
+		assertThat(CourseCrawlService.semesterOf(LocalDate.of(2022, 9, 1))).isEqualTo("20222");
+
+		List<String[]> spring = CourseCrawlService.semestersUntilNext(LocalDate.of(2017, 4, 1));
+		assertThat(spring).extracting(semester -> semester[0] + semester[1]).containsExactly("20161", "20162", "20171", "20172");
+		List<String[]> winter = CourseCrawlService.semestersUntilNext(LocalDate.of(2017, 1, 10));
+		assertThat(winter).extracting(semester -> semester[0] + semester[1]).containsExactly("20161", "20162", "20171");
+	}
+}
@@ -0,0 +1,107 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlJobDto;
+import com.hongikgrad.course.dto.CrawlingCourseDto;
+import com.hongikgrad.course.dto.CrawlingCourseListDto;
+import com.hongikgrad.course.repository.CourseIngestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 크롤링 저장 단계를 실제 SQL 로 (H2, course/major/major_course 는 엔티티 매핑과 같은 컬럼과 유니크 키) */
+class CourseIngestServiceTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private CourseIngestService ingestService;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("create table major (major_id bigint auto_increment primary key, major_name varchar(255) unique,"
+				+ " major_code varchar(255), college varchar(255), enable boolean default false)");
+		jdbcTemplate.execute("create table course (course_id bigint auto_increment primary key, course_name varchar(255) not null,"
+				+ " course_credit integer not null, course_number varchar(255) not null, course_abeek varchar(255), latest_semester varchar(255),"
+				+ " unique (course_number, course_credit))");
+		jdbcTemplate.execute("create table major_course (id bigint auto_increment primary key, major_id bigint, course_id bigint,"
+				+ " is_required boolean default false, unique (course_id, major_id, is_required))");
+		ingestService = new CourseIngestService(new CourseIngestRepository(jdbcTemplate), null, new DataSourceTransactionManager(database));
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	public void 겹치는_두_크롤링은_새_행만_넣고_학기는_내리지_않는다() {
+		CrawledCourses first = new CrawledCourses();
+		first.add("20212", page(course("자료구조", "101810", "전필", "컴퓨터공학과"), course("글쓰기", "001001", "교양필수", "교양")));
+		CrawlJobDto firstJob = ingest(first);
+		assertThat(firstJob.getInsertedMajors()).isEqualTo(2);
+		assertThat(firstJob.getInsertedCourses()).isEqualTo(2);
+		assertThat(firstJob.getUpdatedCourses()).isEqualTo(0);
+		assertThat(firstJob.getInsertedMajorCourses()).isEqualTo(1);
+
+		// 자료구조는 더 최근 학기, 글쓰기는 더 예전 학기에만 보임
+		CrawledCourses second = new CrawledCourses();
+		second.add("20221", page(course("자료구조", "101810", "전필", "컴퓨터공학과"), course("알고리즘", "101811", "전선", "컴퓨터공학과")));
+		second.add("20172", page(course("글쓰기", "001001", "교양필수", "교양"), course("자료구조", "101810", "전선", "전자전기공학부")));
+		CrawlJobDto secondJob = ingest(second);
+		assertThat(secondJob.getInsertedMajors()).isEqualTo(1);
+		assertThat(secondJob.getInsertedCourses()).isEqualTo(1);
+		assertThat(secondJob.getUpdatedCourses()).isEqualTo(1);
+		assertThat(secondJob.getInsertedMajorCourses()).isEqualTo(2);
+
+		assertThat(semesters()).containsExactly(
+				Map.entry("001001", "20212"),
+				Map.entry("101810", "20221"),
+				Map.entry("101811", "20221"));
+		assertThat(jdbcTemplate.queryForObject("select count(*) from major_course", Integer.class)).isEqualTo(3);
+		assertThat(jdbcTemplate.queryForList("select major_id, course_id from major_course group by major_id, course_id having count(*) > 1")).isEmpty();
+
+		// 같은 결과를 다시 저장하면 쓰는 것이 없음
+		CrawlJobDto again = ingest(second);
+		assertThat(again.getInsertedMajors() + again.getInsertedCourses() + again.getUpdatedCourses() + again.getInsertedMajorCourses()).isEqualTo(0);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from major_course", Integer.class)).isEqualTo(3);
+	}
+
+	private CrawlJobDto ingest(CrawledCourses crawled) {
+		CrawlJob job = new CrawlJob("test", List.of(), false);
+		ingestService.ingest(crawled, job);
+		return job.toDto();
+	}
+
+	private Map<String, String> semesters() {
+		Map<String, String> semesters = new TreeMap<>();
+		jdbcTemplate.query("select course_number, latest_semester from course", rs -> {
+			semesters.put(rs.getString(1), rs.getString(2));
+		});
+		return semesters;
+	}
+
+	private CrawlingCourseListDto page(CrawlingCourseDto... courses) {
+		Set<CrawlingCourseDto> courseSet = new LinkedHashSet<>(List.of(courses));
+		Set<String> majors = new LinkedHashSet<>();
+		for (CrawlingCourseDto course : courses) majors.add(course.getMadeBy());
+		return new CrawlingCourseListDto(courseSet, majors);
+	}
+
+	private CrawlingCourseDto course(String name, String number, String abeek, String madeBy) {
+		return new CrawlingCourseDto(name, 3, number, abeek, madeBy, madeBy, 1);
+	}
+}
@@ -0,0 +1,55 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlJobDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlJobTest {
+
+	@Test
+	public void 진행_상황() {
+		CrawlJob job = new CrawlJob("job", List.<String[]>of(new String[]{"2022", "1"}), false);
+		assertThat(job.start()).isTrue();
+		job.crawlStarted(3);
+		job.pageDone(100);
+		job.pageFailed(20, "A000: timeout");
+		job.pageUnchanged(50);
+
+		CrawlJobDto dto = job.toDto();
+		assertThat(dto.getStatus()).isEqualTo("CRAWLING");
+		assertThat(dto.getSemesters()).containsExactly("20221");
+		assertThat(dto.getDonePages()).isEqualTo(3);
+		assertThat(dto.getFailedPages()).isEqualTo(1);
+		assertThat(dto.getUnchangedPages()).isEqualTo(1);
+		assertThat(dto.getBytesFetched()).isEqualTo(170);
+		assertThat(dto.getErrors()).containsExactly("A000: timeout");
+		assertThat(job.hasWrites()).isFalse();
+	}
+
+	@Test
+	public void 건너뛴_페이지는_속도에_넣지_않음() {
+		CrawlJob job = new CrawlJob("job", List.<String[]>of(new String[]{"2022", "1"}), false);
+		assertThat(job.start()).isTrue();
+		job.crawlStarted(100);
+		for (int i = 0; i < 100; i++) job.pageSkipped();
+		job.crawlFinished(0, 0);
+
+		CrawlJobDto dto = job.toDto();
+		assertThat(dto.getDonePages()).isEqualTo(100);
+		assertThat(dto.getSkippedPages()).isEqualTo(100);
+		assertThat(dto.getPagesPerSecond()).isZero();
+	}
+
+	@Test
+	public void 시작_전에_취소하면_실행하지_않음() {
+		CrawlJob job = new CrawlJob("job", List.<String[]>of(new String[]{"2022", "1"}), false);
+		job.cancel();
+
+		assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.CANCELLED);
+		assertThat(job.start()).isFalse();
+		assertThat(job.toDto().getFinishedAt()).isPositive();
+	}
+}
@@ -0,0 +1,45 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.course.dto.CrawlingCourseDto;
+import com.hongikgrad.course.dto.CrawlingCourseListDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawledCoursesTest {
+
+	@Test
+	public void 여러_페이지의_같은_과목은_최근_학기_하나로() {
+		CrawledCourses crawled = new CrawledCourses();
+		crawled.add("20221", page(course("자료구조", "101810", "전필", "컴퓨터공학과")));
+		crawled.add("20172", page(course("자료구조(구)", "101810", "전필", "컴퓨터공학과"), course("글쓰기", "001001", "교양필수", "교양")));
+		crawled.add("20212", page(course("자료구조", "101810", "전선", "전자전기공학부")));
+
+		assertThat(crawled.getRows()).isEqualTo(4);
+		assertThat(crawled.getCourses()).hasSize(2);
+		CrawledCourses.Entry entry = crawled.getCourses().iterator().next();
+		assertThat(entry.getSemester()).isEqualTo("20221");
+		assertThat(entry.getCourse().getName()).isEqualTo("자료구조");
+
+		// 교양 과목은 전공 관계 없음, 같은 (학과, 과목) 은 하나
+		assertThat(crawled.getMajorCourses()).hasSize(2);
+		assertThat(crawled.getMajorCourses().get(new CrawledCourses.MajorCourseKey("컴퓨터공학과", "101810:3"))).isTrue();
+		assertThat(crawled.getMajorCourses().get(new CrawledCourses.MajorCourseKey("전자전기공학부", "101810:3"))).isFalse();
+		assertThat(crawled.getMajorNames()).containsExactly("컴퓨터공학과", "교양", "전자전기공학부");
+	}
+
+	private CrawlingCourseListDto page(CrawlingCourseDto... courses) {
+		Set<CrawlingCourseDto> courseSet = new LinkedHashSet<>(List.of(courses));
+		Set<String> majors = new LinkedHashSet<>();
+		for (CrawlingCourseDto course : courses) majors.add(course.getMadeBy());
+		return new CrawlingCourseListDto(courseSet, majors);
+	}
+
+	private CrawlingCourseDto course(String name, String number, String abeek, String madeBy) {
+		return new CrawlingCourseDto(name, 3, number, abeek, madeBy, madeBy, 1);
+	}
+}
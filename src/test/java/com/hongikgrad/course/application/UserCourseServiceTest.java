@@ -0,0 +1,62 @@
+package com.hongikgrad.course.application;
+
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.course.dto.CourseDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserCourseServiceTest {
+
+	@Test
+	public void 학기_제목에서_학기_코드() {
+		assertThat(UserCourseService.parseSemester("2021학년도 1학기")).isEqualTo("20211");
+		assertThat(UserCourseService.parseSemester("2021 학년도 2학기 성적")).isEqualTo("20212");
+		assertThat(UserCourseService.parseSemester("2022년 하계계절학기")).isEqualTo("20221S");
+		assertThat(UserCourseService.parseSemester("2022년 여름학기")).isEqualTo("20221S");
+		assertThat(UserCourseService.parseSemester("2021학년도 동계계절학기")).isEqualTo("20212W");
+		assertThat(UserCourseService.parseSemester("2021년 겨울학기")).isEqualTo("20212W");
+		assertThat(UserCourseService.parseSemester("수강과목")).isNull();
+	}
+
+	@Test
+	public void 클래스넷_테이블의_caption_과_앞_제목으로_수강_학기() throws Exception {
+		CatalogSnapshot catalog = new CatalogSnapshot(1, List.of(
+				course(1L, "자료구조", "101810"),
+				course(2L, "C-프로그래밍", "101809"),
+				course(3L, "회로이론", "012401"),
+				course(4L, "공학수학", "012201"),
+				course(5L, "글쓰기", "001001")
+		), List.of(), List.of(), Map.of());
+		CatalogService catalogService = mock(CatalogService.class);
+		when(catalogService.getSnapshot()).thenReturn(catalog);
+		UserCourseService userCourseService = new UserCourseService(null, null, catalogService);
+
+		Document document;
+		try (InputStream html = getClass().getResourceAsStream("/classnet/taken-courses.html")) {
+			document = Jsoup.parse(html, "UTF-8", "https://cn.hongik.ac.kr/");
+		}
+		List<CourseDto> courses = userCourseService.extractClassnetCourses(document);
+
+		// F 와 재수강 행, 카탈로그에 없는 과목은 빠지고, 학기를 못 읽은 테이블은 학기 없음
+		assertThat(courses).extracting(CourseDto::getNumber, CourseDto::getTakenSemester).containsExactly(
+				tuple("101810", "20211"),
+				tuple("001001", "20211"),
+				tuple("012201", "20212W"),
+				tuple("101809", null));
+	}
+
+	private CourseDto course(Long id, String name, String number) {
+		return new CourseDto(id, name, number, "전선", 3, false, "20221");
+	}
+}
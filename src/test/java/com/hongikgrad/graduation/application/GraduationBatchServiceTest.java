@@ -0,0 +1,69 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.catalog.CatalogService;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GraduationBatchServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void 모든_요청을_한_줄씩_응답() throws Exception {
+		GraduationService graduationService = mock(GraduationService.class);
+		when(graduationService.getGraduationRequirementResult(any(), any(), any()))
+				.thenReturn(List.of(new RequirementDto("전체 수강학점", 3, "", false)));
+		when(graduationService.getGraduationRequirementResult(argThat(request -> request != null && request.getMajorId() == 7L), any(), any()))
+				.thenThrow(new IllegalArgumentException("존재하지 않는 학과"));
+
+		GraduationBatchService batchService = new GraduationBatchService(
+				graduationService, mock(CatalogService.class), mock(GraduationRuleService.class), objectMapper);
+		ReflectionTestUtils.setField(batchService, "parallelism", 4);
+		ReflectionTestUtils.setField(batchService, "maxInFlight", 8);
+		batchService.init();
+
+		StringBuilder body = new StringBuilder("[");
+		int count = 300;
+		for (int i = 0; i < count; i++) {
+			if (i > 0) body.append(',');
+			body.append("{\"majorId\":").append(i == 42 ? 7 : 10).append(",\"enterYear\":20,\"courseList\":[]}");
+		}
+		body.append(']');
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int processed = batchService.evaluate(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), out);
+		batchService.destroy();
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(processed).isEqualTo(count);
+		assertThat(lines).hasSize(count);
+
+		Set<Integer> indexes = new TreeSet<>();
+		for (String line : lines) {
+			JsonNode node = objectMapper.readTree(line);
+			indexes.add(node.get("index").asInt());
+			if (node.get("index").asInt() == 42) {
+				assertThat(node.get("error").asText()).isEqualTo("존재하지 않는 학과");
+			} else {
+				assertThat(node.get("result").get(0).get("mainField").asText()).isEqualTo("전체 수강학점");
+			}
+		}
+		assertThat(indexes).hasSize(count);
+	}
+}
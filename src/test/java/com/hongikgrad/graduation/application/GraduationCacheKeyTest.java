@@ -0,0 +1,39 @@
+package com.hongikgrad.graduation.application;
+
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraduationCacheKeyTest {
+
+	private static final CourseDto DATA_STRUCTURE = new CourseDto("자료구조", "101809", "전공", 3, "20221");
+	private static final CourseDto PHYSICS = new CourseDto("대학물리(1)", "012101", "MSC과학", 3, "20221");
+
+	@Test
+	public void 같은_행이_같은_순서면_같은_키() {
+		assertThat(key(List.of(DATA_STRUCTURE, PHYSICS))).isEqualTo(key(List.of(DATA_STRUCTURE, PHYSICS)));
+		assertThat(key(List.of(DATA_STRUCTURE, PHYSICS)).hashCode()).isEqualTo(key(List.of(DATA_STRUCTURE, PHYSICS)).hashCode());
+	}
+
+	@Test
+	public void 결과에_나가는_값이_다르면_다른_키() {
+		// 순서가 다르면 SubField 목록 순서가 다름
+		assertThat(key(List.of(DATA_STRUCTURE, PHYSICS))).isNotEqualTo(key(List.of(PHYSICS, DATA_STRUCTURE)));
+		// 수강 학기, abeek 가 다르면 목록의 과목이 다름
+		assertThat(key(List.of(DATA_STRUCTURE))).isNotEqualTo(key(List.of(DATA_STRUCTURE.withTakenSemester("20211"))));
+		assertThat(key(List.of(DATA_STRUCTURE))).isNotEqualTo(key(List.of(DATA_STRUCTURE.withAbeek("역사와문화"))));
+	}
+
+	private GraduationCacheKey key(List<CourseDto> courses) {
+		GraduationRequestDto request = new GraduationRequestDto();
+		ReflectionTestUtils.setField(request, "majorId", 10L);
+		ReflectionTestUtils.setField(request, "enterYear", 20);
+		ReflectionTestUtils.setField(request, "courseList", courses);
+		return GraduationCacheKey.of(request, GraduationCacheKey.keysOf(courses), 1, 1);
+	}
+}
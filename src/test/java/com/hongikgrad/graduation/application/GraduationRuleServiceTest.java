@@ -0,0 +1,85 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import com.hongikgrad.graduation.engine.PlanCompiler;
+import com.hongikgrad.graduation.engine.RuleSet;
+import com.hongikgrad.graduation.entity.GraduationRule;
+import com.hongikgrad.graduation.repository.GraduationRuleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GraduationRuleServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final GraduationRuleRepository repository = mock(GraduationRuleRepository.class);
+
+	@AfterEach
+	public void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void 커밋된_뒤에만_새_규칙으로_교체() throws Exception {
+		GraduationRuleService service = new GraduationRuleService(repository, new PlanCompiler(), objectMapper);
+		when(repository.count()).thenReturn(1L);
+		when(repository.findAllByOrderBySortOrderAscIdAsc()).thenReturn(List.of());
+		when(repository.save(any(GraduationRule.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		service.init();
+		GraduationRuleDto rule = RuleSet.readDefaultRules(objectMapper).get(0);
+
+		// 롤백: 그대로
+		TransactionSynchronizationManager.initSynchronization();
+		service.createRule(rule);
+		assertThat(service.getRuleSet().getVersion()).isEqualTo(1);
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		assertThat(service.getRuleSet().getVersion()).isEqualTo(1);
+
+		// 커밋: 그때 교체
+		TransactionSynchronizationManager.initSynchronization();
+		service.createRule(rule);
+		assertThat(service.getRuleSet().getVersion()).isEqualTo(1);
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCommit();
+		}
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+		assertThat(service.getRuleSet().getVersion()).isEqualTo(2);
+	}
+
+	@Test
+	public void track_이전_DB_에는_없는_track_기본_규칙만_추가() throws Exception {
+		GraduationRuleService service = new GraduationRuleService(repository, new PlanCompiler(), objectMapper);
+		when(repository.count()).thenReturn(30L);
+		when(repository.existsByTrack(RuleSet.TRACK_DOUBLE)).thenReturn(false);
+		when(repository.existsByTrack(RuleSet.TRACK_MINOR)).thenReturn(true);
+		when(repository.findAllByOrderBySortOrderAscIdAsc()).thenReturn(List.of());
+
+		service.init();
+
+		ArgumentCaptor<GraduationRule> saved = ArgumentCaptor.forClass(GraduationRule.class);
+		verify(repository, atLeastOnce()).save(saved.capture());
+		assertThat(saved.getAllValues()).extracting(GraduationRule::getTrack).containsOnly(RuleSet.TRACK_DOUBLE);
+	}
+
+	private void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		for (TransactionSynchronization synchronization : synchronizations) {
+			synchronization.afterCompletion(status);
+		}
+	}
+}
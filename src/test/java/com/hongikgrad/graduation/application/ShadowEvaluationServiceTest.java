@@ -0,0 +1,82 @@
+package com.hongikgrad.graduation.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.ShadowStatsDto;
+import com.hongikgrad.graduation.engine.GraduationEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShadowEvaluationServiceTest {
+
+	private final GraduationEngine engine = mock(GraduationEngine.class);
+	private final LegacyGraduationEvaluator legacy = mock(LegacyGraduationEvaluator.class);
+
+	private ShadowEvaluationService service(int queueSize) {
+		ShadowEvaluationService service = new ShadowEvaluationService(engine, legacy, new ObjectMapper());
+		ReflectionTestUtils.setField(service, "sampleRate", 1.0);
+		ReflectionTestUtils.setField(service, "threads", 1);
+		ReflectionTestUtils.setField(service, "queueSize", queueSize);
+		ReflectionTestUtils.setField(service, "maxDiffs", 10);
+		service.init();
+		return service;
+	}
+
+	@Test
+	public void 결과가_다르면_경로별_차이를_남긴다() throws Exception {
+		when(legacy.evaluate(any(), any(), any())).thenReturn(List.of(new RequirementDto("전체 수강학점", 6, "", false)));
+		ShadowEvaluationService service = service(10);
+
+		List<RequirementDto> primary = List.of(new RequirementDto("전체 수강학점", 3, "", false));
+		service.submit(new GraduationRequestDto(), null, null, engine, primary, 1_000_000);
+		ShadowStatsDto stats = waitForCompared(service, 1);
+		service.destroy();
+
+		assertThat(stats.getMismatched()).isEqualTo(1);
+		assertThat(stats.getRecentDiffs().get(0).getShadow()).isEqualTo("legacy");
+		assertThat(stats.getRecentDiffs().get(0).getDifferences()).containsExactly("[0].totalCredit: 3 != 6");
+		assertThat(stats.getPrimaryLatency().getMaxMicros()).isEqualTo(1_000);
+	}
+
+	@Test
+	public void 큐가_차면_기다리지_않고_버린다() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		when(legacy.evaluate(any(), any(), any())).thenAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			return List.of();
+		});
+		ShadowEvaluationService service = service(1);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 10; i++) {
+			service.submit(new GraduationRequestDto(), null, null, engine, List.of(), 0);
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		release.countDown();
+
+		// 실행 중 1건 + 큐 1건
+		assertThat(service.getStats().getDropped()).isGreaterThanOrEqualTo(8);
+		assertThat(elapsedMillis).isLessThan(1_000);
+		waitForCompared(service, 10 - service.getStats().getDropped());
+		service.destroy();
+	}
+
+	private ShadowStatsDto waitForCompared(ShadowEvaluationService service, long count) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			ShadowStatsDto stats = service.getStats();
+			if (stats.getCompared() >= count) return stats;
+			Thread.sleep(10);
+		}
+		throw new AssertionError("섀도 판정이 끝나지 않음");
+	}
+}
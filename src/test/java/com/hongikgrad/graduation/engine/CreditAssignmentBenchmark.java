@@ -0,0 +1,70 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 배타 그룹 배정 시간: 영역 20개 하나의 그룹, 과목 300개(1~3 학점) 중 60과목 수강.
+ * 상태가 EXACT_LIMIT 를 넘는 크기라 휴리스틱(최대 유량) 경로를 잰다.
+ * ./gradlew benchmark 로만 실행
+ */
+@Tag("benchmark")
+class CreditAssignmentBenchmark {
+
+	private static final int WARMUP = 2_000;
+	private static final int ITERATIONS = 5_000;
+
+	@Test
+	public void 배정_속도(TestReporter reporter) {
+		Random random = new Random(11);
+		CatalogSnapshot catalog = catalog(300);
+		PlanBuilder builder = new PlanBuilder(catalog);
+		for (int b = 0; b < 20; b++) {
+			OrdinalBitSet courses = builder.emptyCourses();
+			for (int c = 0; c < 300; c++) {
+				if (random.nextInt(5) == 0) courses.set(c);
+			}
+			BucketPlan bucket = builder.bucket("B" + b, "", courses, null, null, true, "core");
+			builder.requirement("B" + b, "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucket), Conditions.credit(bucket.getIndex(), 9));
+		}
+		EvaluationPlan plan = builder.build(1);
+		List<Transcript> transcripts = new ArrayList<>();
+		for (int t = 0; t < 100; t++) {
+			List<CourseDto> courseList = new ArrayList<>();
+			for (int i = 0; i < 60; i++) {
+				courseList.add(catalog.courseAt(random.nextInt(300)));
+			}
+			transcripts.add(Transcript.of(catalog, courseList));
+		}
+
+		for (int i = 0; i < WARMUP; i++) {
+			plan.contextOf(transcripts.get(i % transcripts.size()));
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			plan.contextOf(transcripts.get(i % transcripts.size()));
+		}
+		long micros = (System.nanoTime() - start) / 1_000 / ITERATIONS;
+		reporter.publishEntry("us per assignment", String.valueOf(micros));
+		assertThat(micros).isLessThan(2_000);
+	}
+
+	private CatalogSnapshot catalog(int count) {
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			courses.add(new CourseDto((long) i + 1, "과목" + i, String.valueOf(100000 + i), "", 1 + i % 3, false, "20221"));
+		}
+		return new CatalogSnapshot(1, courses, List.of(), List.of(), Map.of());
+	}
+}
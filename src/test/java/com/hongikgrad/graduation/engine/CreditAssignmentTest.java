@@ -0,0 +1,186 @@
+package com.hongikgrad.graduation.engine;
+
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.common.graph.MaxFlow;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreditAssignmentTest {
+
+	@Test
+	public void 최대_유량() {
+		// 0 -> {2,3} -> 1, 가운데 교차 간선
+		MaxFlow flow = new MaxFlow(4, 5);
+		flow.addEdge(0, 2, 3);
+		flow.addEdge(0, 3, 2);
+		int cross = flow.addEdge(2, 3, 1);
+		flow.addEdge(2, 1, 2);
+		flow.addEdge(3, 1, 3);
+		assertThat(flow.maxFlow(0, 1)).isEqualTo(5);
+		assertThat(flow.flow(cross)).isEqualTo(1);
+	}
+
+	@Test
+	public void 두_영역에_다_들어가는_과목은_한_영역에만_배정() {
+		// A 는 X, Y 모두 / B 는 X 만. 앞 영역부터 채우면 A -> X 가 되어 Y 가 모자람
+		CatalogSnapshot catalog = catalog(2, 3);
+		PlanBuilder builder = new PlanBuilder(catalog);
+		OrdinalBitSet x = builder.emptyCourses();
+		x.set(0);
+		x.set(1);
+		OrdinalBitSet y = builder.emptyCourses();
+		y.set(0);
+		BucketPlan bucketX = builder.bucket("X", "", x, null, null, true, "core");
+		BucketPlan bucketY = builder.bucket("Y", "", y, null, null, true, "core");
+		builder.requirement("X", "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucketX), Conditions.credit(bucketX.getIndex(), 3));
+		builder.requirement("Y", "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucketY), Conditions.credit(bucketY.getIndex(), 3));
+		EvaluationPlan plan = builder.build(1);
+
+		List<RequirementDto> result = plan.evaluate(Transcript.of(catalog, catalog.getCourses()));
+
+		assertThat(result).allMatch(RequirementDto::getIsSatisfied);
+		assertThat(result.get(0).getSubField().get(0).getCourseList()).extracting(CourseDto::getNumber).containsExactly("100001");
+		assertThat(result.get(1).getSubField().get(0).getCourseList()).extracting(CourseDto::getNumber).containsExactly("100000");
+		assertThat(result.get(0).getSubField().get(0).getTotalCredit()).isEqualTo(3);
+	}
+
+	@Test
+	public void 학점이_같으면_완전탐색과_같은_학점을_채운다() {
+		Random random = new Random(7);
+		for (int round = 0; round < 300; round++) {
+			int courseCount = 1 + random.nextInt(7);
+			int bucketCount = 1 + random.nextInt(3);
+			CatalogSnapshot catalog = catalog(courseCount, 3);
+			int[][] members = new int[bucketCount][courseCount];
+			int[] needs = new int[bucketCount];
+			PlanBuilder builder = new PlanBuilder(catalog);
+			for (int b = 0; b < bucketCount; b++) {
+				OrdinalBitSet courses = builder.emptyCourses();
+				for (int c = 0; c < courseCount; c++) {
+					if (random.nextInt(2) == 0) {
+						courses.set(c);
+						members[b][c] = 1;
+					}
+				}
+				needs[b] = 3 * (1 + random.nextInt(3));
+				BucketPlan bucket = builder.bucket("B" + b, "", courses, null, null, true, "core");
+				builder.requirement("B" + b, "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucket), Conditions.credit(bucket.getIndex(), needs[b]));
+			}
+			EvaluationPlan plan = builder.build(1);
+
+			EvaluationContext context = plan.contextOf(Transcript.of(catalog, catalog.getCourses()));
+			int covered = 0;
+			for (int b = 0; b < bucketCount; b++) {
+				covered += Math.min(context.credit(b), needs[b]);
+			}
+			assertThat(covered).isEqualTo(bestCovered(members, needs, 3));
+		}
+	}
+
+	@Test
+	public void 학점이_섞여도_완전탐색과_같은_충족_영역_수와_학점() {
+		Random random = new Random(17);
+		for (int round = 0; round < 2_000; round++) {
+			int courseCount = 1 + random.nextInt(7);
+			int bucketCount = 1 + random.nextInt(3);
+			CatalogSnapshot catalog = catalog(courseCount, 0);
+			int[] courseCredits = new int[courseCount];
+			for (int c = 0; c < courseCount; c++) courseCredits[c] = catalog.courseAt(c).getCredit();
+			int[][] members = new int[bucketCount][courseCount];
+			int[] needs = new int[bucketCount];
+			PlanBuilder builder = new PlanBuilder(catalog);
+			for (int b = 0; b < bucketCount; b++) {
+				OrdinalBitSet courses = builder.emptyCourses();
+				for (int c = 0; c < courseCount; c++) {
+					if (random.nextInt(2) == 0) {
+						courses.set(c);
+						members[b][c] = 1;
+					}
+				}
+				needs[b] = 1 + random.nextInt(8);
+				BucketPlan bucket = builder.bucket("B" + b, "", courses, null, null, true, "core");
+				builder.requirement("B" + b, "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucket), Conditions.credit(bucket.getIndex(), needs[b]));
+			}
+			EvaluationPlan plan = builder.build(1);
+
+			EvaluationContext context = plan.contextOf(Transcript.of(catalog, catalog.getCourses()));
+			int[] credits = new int[bucketCount];
+			for (int b = 0; b < bucketCount; b++) credits[b] = context.credit(b);
+			assertThat(score(credits, needs)).isEqualTo(bestScore(members, needs, courseCredits));
+		}
+	}
+
+	/* 과목마다 (배정 안 함 + 영역 수) 경우를 모두 본다 */
+	private int bestCovered(int[][] members, int[] needs, int credit) {
+		int courseCount = members[0].length;
+		int[] choice = new int[courseCount];
+		int best = 0;
+		while (true) {
+			int[] credits = new int[needs.length];
+			boolean valid = true;
+			for (int c = 0; c < courseCount && valid; c++) {
+				if (choice[c] == 0) continue;
+				if (members[choice[c] - 1][c] == 0) valid = false;
+				else credits[choice[c] - 1] += credit;
+			}
+			if (valid) {
+				int covered = 0;
+				for (int b = 0; b < needs.length; b++) covered += Math.min(credits[b], needs[b]);
+				best = Math.max(best, covered);
+			}
+			int c = 0;
+			while (c < courseCount && ++choice[c] > needs.length) choice[c++] = 0;
+			if (c == courseCount) return best;
+		}
+	}
+
+	/* 과목마다 (배정 안 함 + 영역 수) 경우를 모두 보고 score 의 최대 */
+	private int bestScore(int[][] members, int[] needs, int[] courseCredits) {
+		int courseCount = courseCredits.length;
+		int[] choice = new int[courseCount];
+		int best = 0;
+		while (true) {
+			int[] credits = new int[needs.length];
+			boolean valid = true;
+			for (int c = 0; c < courseCount && valid; c++) {
+				if (choice[c] == 0) continue;
+				if (members[choice[c] - 1][c] == 0) valid = false;
+				else credits[choice[c] - 1] += courseCredits[c];
+			}
+			if (valid) best = Math.max(best, score(credits, needs));
+			int c = 0;
+			while (c < courseCount && ++choice[c] > needs.length) choice[c++] = 0;
+			if (c == courseCount) return best;
+		}
+	}
+
+	/* 충족 영역 수가 먼저, 같으면 필요 학점까지 채운 학점 */
+	private int score(int[] credits, int[] needs) {
+		int satisfied = 0;
+		int covered = 0;
+		for (int b = 0; b < needs.length; b++) {
+			if (credits[b] >= needs[b]) satisfied++;
+			covered += Math.min(credits[b], needs[b]);
+		}
+		return satisfied * 1000 + covered;
+	}
+
+	/* credit 이 0 이면 1~3 학점 섞어서 */
+	private CatalogSnapshot catalog(int count, int credit) {
+		List<CourseDto> courses = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			int courseCredit = credit > 0 ? credit : 1 + i % 3;
+			courses.add(new CourseDto((long) i + 1, "과목" + i, String.valueOf(100000 + i), "", courseCredit, false, "20221"));
+		}
+		return new CatalogSnapshot(1, courses, List.of(), List.of(), Map.of());
+	}
+}
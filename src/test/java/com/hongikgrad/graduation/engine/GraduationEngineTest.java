@@ -0,0 +1,507 @@
+package com.hongikgrad.graduation.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hongikgrad.common.catalog.CatalogSnapshot;
+import com.hongikgrad.common.collection.OrdinalBitSet;
+import com.hongikgrad.course.dto.CourseDto;
+import com.hongikgrad.graduation.application.LegacyGraduationEvaluator;
+import com.hongikgrad.graduation.dto.GapPlanDto;
+import com.hongikgrad.graduation.dto.GraduationRequestDto;
+import com.hongikgrad.graduation.dto.GraduationRuleDto;
+import com.hongikgrad.graduation.dto.RequirementDto;
+import com.hongikgrad.graduation.dto.RequirementStateDto;
+import com.hongikgrad.graduation.dto.SecondaryMajorDto;
+import com.hongikgrad.graduation.dto.SubField;
+import com.hongikgrad.graduation.dto.TimelineEntryDto;
+import com.hongikgrad.major.dto.MajorCourseIdDto;
+import com.hongikgrad.major.entity.Major;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraduationEngineTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private RuleSet defaultRules() throws Exception {
+		return new RuleSet(1, RuleSet.readDefaultRules(objectMapper));
+	}
+
+	/* 기존 판정기에는 배타 그룹이 없어 겹치는 과목을 모든 영역에 센다, 계획이 섞이지 않게 버전을 달리 함 */
+	private RuleSet defaultRulesWithoutExclusiveGroups() throws Exception {
+		List<GraduationRuleDto> rules = RuleSet.readDefaultRules(objectMapper);
+		for (GraduationRuleDto rule : rules) {
+			if (rule.getDefinition().getBuckets() == null) continue;
+			rule.getDefinition().getBuckets().forEach(bucket -> ReflectionTestUtils.setField(bucket, "exclusiveGroup", null));
+		}
+		return new RuleSet(2, rules);
+	}
+
+	private CatalogSnapshot catalog() {
+		List<CourseDto> courses = new ArrayList<>();
+		long id = 1;
+		String[][] rows = {
+				{"전공기초영어1", "007114", "교양필수", "2"},
+				{"전공기초영어2", "007115", "교양필수", "2"},
+				{"글쓰기", "001011", "교양필수", "3"},
+				{"영어", "001009", "교양필수", "3"},
+				{"역사", "003001", "역사와문화", "3"},
+				{"철학", "003002", "언어와철학", "3"},
+				{"경제", "003003", "사회와경제", "3"},
+				{"법", "003004", "법과생활", "3"},
+				{"컴퓨터개론", "004174", "공학의이해", "3"},
+				{"공학", "004175", "공학의이해", "2"},
+				{"일본어", "003005", "제2외국어와한문", "2"},
+				{"디자인", "003006", "예술과디자인", "3"},
+				{"미적분", "012201", "MSC수학", "3"},
+				{"선형대수", "012202", "MSC수학", "3"},
+				{"확률", "012203", "MSC수학", "3"},
+				{"수치해석", "012308", "전공", "3"},
+				{"대학물리1", "012101", "MSC과학", "3"},
+				{"대학물리실험1", "012103", "MSC과학", "1"},
+				{"대학물리2", "012104", "MSC과학", "3"},
+				{"대학물리실험2", "012106", "MSC과학", "1"},
+				{"대학화학1", "012107", "MSC과학", "3"},
+				{"대학화학실험1", "012109", "MSC과학", "1"},
+				{"대학화학2", "012110", "MSC과학", "3"},
+				{"대학화학실험2", "012113", "MSC과학", "1"},
+				{"웹프로그래밍", "012306", "MSC전산", "3"},
+				{"정보시스템개론", "012304", "MSC전산", "3"},
+				{"객체지향", "012305", "MSC전산", "3"},
+				{"C", "101810", "MSC전산", "3"},
+				{"디자인씽킹", "008751", "특성화교양", "2"},
+				{"자료구조", "101809", "전공", "3"},
+				{"알고리즘", "101811", "전공", "3"},
+				{"운영체제", "101812", "전공", "3"},
+				{"기초평면1", "400101", "전공기초", "3"},
+				{"기초입체1", "400102", "전공기초", "3"},
+				{"미대공통", "400301", "전공", "2"},
+				{"회화", "401001", "전공", "3"},
+		};
+		for (String[] row : rows) {
+			courses.add(new CourseDto(id++, row[0], row[1], row[2], Integer.parseInt(row[3]), false, "20221"));
+		}
+		List<Major> majors = List.of(
+				new Major(10L, "컴퓨터공학과", "CS", "공과대학", true),
+				new Major(11L, "전자전기공학부", "EE", "공과대학", true),
+				new Major(12L, "회화과", "HOIHWA", "미술대학", true),
+				new Major(13L, "경영학부", "BM", "경영대학", true),
+				new Major(14L, "산업공학과", "IE", "공과대학", true),
+				new Major(25L, "미술대학 공통", "ART", "미술대학", false)
+		);
+		List<MajorCourseIdDto> majorCourses = List.of(
+				new MajorCourseIdDto(10L, 30L, true),
+				new MajorCourseIdDto(10L, 31L, false),
+				new MajorCourseIdDto(10L, 32L, false),
+				new MajorCourseIdDto(10L, 16L, false),
+				new MajorCourseIdDto(11L, 32L, true),
+				new MajorCourseIdDto(12L, 36L, true),
+				new MajorCourseIdDto(12L, 33L, false),
+				new MajorCourseIdDto(14L, 31L, false),
+				new MajorCourseIdDto(25L, 35L, false)
+		);
+		return new CatalogSnapshot(1, courses, majors, majorCourses, Map.of());
+	}
+
+	private GraduationRequestDto request(Long majorId, int enterYear, boolean isAbeek, List<CourseDto> courses) {
+		GraduationRequestDto request = new GraduationRequestDto();
+		ReflectionTestUtils.setField(request, "majorId", majorId);
+		ReflectionTestUtils.setField(request, "enterYear", enterYear);
+		ReflectionTestUtils.setField(request, "isAbeek", isAbeek);
+		ReflectionTestUtils.setField(request, "courseList", courses);
+		return request;
+	}
+
+	@Test
+	public void 기존_판정과_같은_결과() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		LegacyGraduationEvaluator legacy = new LegacyGraduationEvaluator();
+		legacy.init();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRulesWithoutExclusiveGroups();
+
+		Random random = new Random(42);
+		List<CourseDto> all = catalog.getCourses();
+		for (int i = 0; i < 2000; i++) {
+			List<CourseDto> taken = new ArrayList<>(all);
+			Collections.shuffle(taken, random);
+			taken = new ArrayList<>(taken.subList(0, random.nextInt(all.size() + 1)));
+			addIrregularRows(taken, all, random);
+			Long majorId = List.of(10L, 11L, 12L, 13L, 14L).get(random.nextInt(5));
+			int enterYear = 17 + random.nextInt(6);
+			boolean isAbeek = random.nextBoolean();
+
+			// 중복, 카탈로그에 없는 과목, 영역이 다른 행이 섞인 같은 요청으로 비교
+			GraduationRequestDto request = request(majorId, enterYear, isAbeek, taken);
+			String expected = objectMapper.writeValueAsString(legacy.evaluate(request, catalog, rules));
+			String actual = objectMapper.writeValueAsString(engine.evaluate(request, catalog, rules));
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	/* 재수강 등 중복 행, 카탈로그에 없는 행, 요청 쪽 영역이 카탈로그와 다른 행 */
+	private void addIrregularRows(List<CourseDto> taken, List<CourseDto> all, Random random) {
+		for (int j = random.nextInt(4); j > 0 && !taken.isEmpty(); j--) {
+			taken.add(random.nextInt(taken.size() + 1), taken.get(random.nextInt(taken.size())));
+		}
+		if (random.nextInt(3) == 0) {
+			taken.add(random.nextInt(taken.size() + 1), new CourseDto("교환학생", "999999", "전공", 3, "20221"));
+		}
+		if (random.nextInt(3) == 0) {
+			CourseDto course = all.get(random.nextInt(all.size()));
+			String[] abeeks = {"교양필수", "예술과디자인", "MSC수학", "전공", ""};
+			taken.add(random.nextInt(taken.size() + 1),
+					new CourseDto(course.getName(), course.getNumber(), abeeks[random.nextInt(abeeks.length)], course.getCredit(), "20221"));
+		}
+	}
+
+	@Test
+	public void 측정하면서_판정해도_결과가_같고_요건마다_측정값이_있다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+		GraduationRequestDto request = request(10L, 19, true, catalog.getCourses());
+
+		EvaluationTrace trace = new EvaluationTrace(objectMapper);
+		List<RequirementDto> traced = engine.evaluate(request, catalog, rules, trace);
+		List<RequirementDto> plain = engine.evaluate(request, catalog, rules);
+
+		assertThat(objectMapper.writeValueAsString(traced)).isEqualTo(objectMapper.writeValueAsString(plain));
+		assertThat(trace.getRules()).hasSize(plain.size() + 1);
+		assertThat(trace.getRules().get(0).getMainField()).isEqualTo(EvaluationTrace.CONTEXT);
+		for (int i = 0; i < plain.size(); i++) {
+			assertThat(trace.getRules().get(i + 1).getMainField()).isEqualTo(plain.get(i).getMainField());
+			assertThat(trace.getRules().get(i + 1).getQueries()).isZero();
+		}
+	}
+
+	@Test
+	public void what_if_결과는_전체_재판정과_같다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+
+		Random random = new Random(7);
+		List<CourseDto> pool = new ArrayList<>(catalog.getCourses());
+		// 카탈로그에 없는 과목
+		pool.add(new CourseDto("교환학생", "999999", "", 3, "20221"));
+		// 요청 쪽 영역이 카탈로그와 다른 행
+		pool.add(new CourseDto("자료구조", "101809", "역사와문화", 3, "20221"));
+		pool.add(new CourseDto("수치해석", "012308", "MSC수학", 3, "20221"));
+		for (int i = 0; i < 200; i++) {
+			Long majorId = List.of(10L, 11L, 12L, 13L, 14L).get(random.nextInt(5));
+			EvaluationPlan plan = engine.getPlan(catalog, rules, majorId, 17 + random.nextInt(6), random.nextBoolean());
+			List<CourseDto> taken = new ArrayList<>();
+			for (int j = random.nextInt(20); j > 0; j--) {
+				taken.add(pool.get(random.nextInt(pool.size())));
+			}
+			WhatIfSession session = WhatIfSession.start(plan, catalog, taken);
+
+			for (int step = 0; step < 30; step++) {
+				List<CourseDto> before = session.getCourses();
+				List<CourseDto> add = new ArrayList<>();
+				List<CourseDto> remove = new ArrayList<>();
+				for (int j = random.nextInt(3); j > 0; j--) add.add(pool.get(random.nextInt(pool.size())));
+				for (int j = random.nextInt(3); j > 0 && !before.isEmpty(); j--) remove.add(before.get(random.nextInt(before.size())));
+
+				String previous = objectMapper.writeValueAsString(session.getResult());
+				List<RequirementDto> changed = session.apply(add, remove);
+
+				List<RequirementDto> expected = plan.evaluate(Transcript.of(catalog, session.getCourses()));
+				assertThat(objectMapper.writeValueAsString(session.getResult())).isEqualTo(objectMapper.writeValueAsString(expected));
+				if (changed.isEmpty()) {
+					assertThat(objectMapper.writeValueAsString(session.getResult())).isEqualTo(previous);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void 학기별_타임라인은_학기까지_누적_판정과_같다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+		EvaluationPlan plan = engine.getPlan(catalog, rules, 10L, 19, true);
+
+		Random random = new Random(3);
+		List<String> semesters = Arrays.asList(null, "20191", "20191S", "20192", "20201", "20202W");
+		List<CourseDto> taken = new ArrayList<>();
+		for (CourseDto course : catalog.getCourses()) {
+			if (random.nextInt(3) > 0) {
+				taken.add(course.withTakenSemester(semesters.get(random.nextInt(semesters.size()))));
+			}
+		}
+
+		List<TimelineEntryDto> timeline = ProgressTimeline.of(plan, catalog, taken);
+
+		List<CourseDto> cumulative = new ArrayList<>();
+		int entry = 0;
+		for (String semester : semesters) {
+			for (CourseDto course : taken) {
+				if (Objects.equals(course.getTakenSemester(), semester)) cumulative.add(course);
+			}
+			if (timeline.size() <= entry || !Objects.equals(timeline.get(entry).getSemester(), semester)) continue;
+			List<RequirementDto> expected = plan.evaluate(Transcript.of(catalog, cumulative));
+			assertThat(timeline.get(entry).getTotalCredit()).isEqualTo(Transcript.of(catalog, cumulative).getTotalCredit());
+			List<RequirementStateDto> actual = timeline.get(entry++).getRequirements();
+			for (int i = 0; i < expected.size(); i++) {
+				assertThat(actual.get(i).getIsSatisfied()).isEqualTo(expected.get(i).getIsSatisfied());
+				assertThat(actual.get(i).getTotalCredit()).isEqualTo(expected.get(i).getTotalCredit());
+			}
+		}
+		assertThat(entry).isEqualTo(timeline.size());
+	}
+
+	@Test
+	public void 복수전공은_교양을_한_번만_판정하고_겹치는_과목은_한_전공에만_인정() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+		List<CourseDto> taken = catalog.getCourses();
+
+		List<RequirementDto> single = engine.evaluate(request(10L, 20, false, taken), catalog, rules);
+		GraduationRequestDto request = request(10L, 20, false, taken);
+		ReflectionTestUtils.setField(request, "secondaryMajors", List.of(new SecondaryMajorDto(11L, RuleSet.TRACK_DOUBLE)));
+		List<RequirementDto> combined = engine.evaluate(request, catalog, rules);
+
+		assertThat(combined).hasSize(single.size() + 1);
+		assertThat(combined.get(single.size()).getMainField()).isEqualTo("복수전공(전자전기공학부) 전공");
+		RequirementDto primaryMajor = null;
+		for (int i = 0; i < single.size(); i++) {
+			assertThat(combined.get(i).getMainField()).isEqualTo(single.get(i).getMainField());
+			if (single.get(i).getMainField().equals("전공")) {
+				primaryMajor = combined.get(i);
+			} else {
+				assertThat(objectMapper.writeValueAsString(combined.get(i))).isEqualTo(objectMapper.writeValueAsString(single.get(i)));
+			}
+		}
+
+		// 운영체제는 두 학과 과목, 한쪽에만 들어감
+		List<CourseDto> primaryCourses = primaryMajor.getSubField().get(0).getCourseList();
+		List<CourseDto> secondaryCourses = combined.get(single.size()).getSubField().get(0).getCourseList();
+		assertThat(Collections.disjoint(
+				primaryCourses.stream().map(CourseDto::getNumber).collect(Collectors.toList()),
+				secondaryCourses.stream().map(CourseDto::getNumber).collect(Collectors.toList()))).isTrue();
+		assertThat(primaryCourses.size() + secondaryCourses.size()).isEqualTo(4);
+		assertThat(primaryMajor.getSubField().get(0).getTotalCredit() + combined.get(single.size()).getSubField().get(0).getTotalCredit())
+				.isEqualTo(12);
+	}
+
+	@Test
+	public void 기본_규칙은_MSC수학과_전공에_겹치는_수치해석을_한_영역에만_인정() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		List<CourseDto> taken = List.of(
+				catalog.findCourse("012201", 3), catalog.findCourse("012202", 3), catalog.findCourse("012308", 3),
+				catalog.findCourse("101809", 3));
+
+		List<RequirementDto> grouped = engine.evaluate(request(10L, 20, false, taken), catalog, defaultRules());
+		List<RequirementDto> overlapped = engine.evaluate(request(10L, 20, false, taken), catalog, defaultRulesWithoutExclusiveGroups());
+
+		// 겹쳐 세면 두 영역 모두, 그룹이면 수학 9학점을 채우는 쪽에만
+		assertThat(subField(overlapped, "MSC", "MSC수학").getTotalCredit()).isEqualTo(9);
+		assertThat(subField(overlapped, "전공", "전공").getTotalCredit()).isEqualTo(6);
+		assertThat(subField(grouped, "MSC", "MSC수학").getTotalCredit()).isEqualTo(9);
+		assertThat(subField(grouped, "MSC", "MSC수학").getCourseList()).extracting(CourseDto::getNumber).contains("012308");
+		assertThat(subField(grouped, "전공", "전공").getTotalCredit()).isEqualTo(3);
+		assertThat(subField(grouped, "전공", "전공").getCourseList()).extracting(CourseDto::getNumber).containsExactly("101809");
+	}
+
+	private SubField subField(List<RequirementDto> result, String mainField, String field) {
+		return result.stream().filter(requirement -> requirement.getMainField().equals(mainField)).findFirst().orElseThrow()
+				.getSubField().stream().filter(subField -> subField.getField().equals(field)).findFirst().orElseThrow();
+	}
+
+	@Test
+	public void 복수전공_규칙이_없으면_충족으로_보지_않고_거절() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+		List<GraduationRuleDto> primaryOnly = new ArrayList<>();
+		for (GraduationRuleDto rule : rules.getRules()) {
+			if (rule.getTrack() == null) primaryOnly.add(rule);
+		}
+		GraduationRequestDto request = request(10L, 20, false, catalog.getCourses());
+		ReflectionTestUtils.setField(request, "secondaryMajors", List.of(new SecondaryMajorDto(11L, RuleSet.TRACK_DOUBLE)));
+
+		assertThatThrownBy(() -> engine.evaluate(request, catalog, new RuleSet(2, primaryOnly)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void 학과_비교는_학과별_판정과_같다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		RuleSet rules = defaultRules();
+
+		Random random = new Random(5);
+		List<CourseDto> pool = catalog.getCourses();
+		for (int i = 0; i < 100; i++) {
+			List<CourseDto> taken = new ArrayList<>();
+			for (int j = random.nextInt(25); j > 0; j--) {
+				taken.add(pool.get(random.nextInt(pool.size())));
+			}
+			int enterYear = 17 + random.nextInt(6);
+			boolean isAbeek = random.nextBoolean();
+			MajorComparison comparison = new MajorComparison(Transcript.of(catalog, taken));
+			List<Major> majors = new ArrayList<>(catalog.getEnableMajors());
+			Collections.shuffle(majors, random);
+
+			for (Major major : majors) {
+				EvaluationPlan plan = engine.getPlan(catalog, rules, major.getId(), enterYear, isAbeek);
+				List<String> expected = new ArrayList<>();
+				for (RequirementDto requirement : plan.evaluate(Transcript.of(catalog, taken))) {
+					if (!requirement.getIsSatisfied()) expected.add(requirement.getMainField());
+				}
+				assertThat(comparison.evaluate(major, plan).getUnmet()).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	public void 플래너_추천_과목을_들으면_남은_요건을_모두_충족하고_최소_학점이다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		GapPlanner planner = new GapPlanner();
+		RuleSet rules = defaultRules();
+
+		Random random = new Random(11);
+		List<CourseDto> all = catalog.getCourses();
+		for (int i = 0; i < 300; i++) {
+			Long majorId = List.of(10L, 11L, 12L, 13L, 14L).get(random.nextInt(5));
+			EvaluationPlan plan = engine.getPlan(catalog, rules, majorId, 17 + random.nextInt(6), random.nextBoolean());
+			List<CourseDto> taken = new ArrayList<>(all);
+			Collections.shuffle(taken, random);
+			// 빠진 과목이 적어야 전수 조사로 최적인지 확인 가능
+			List<CourseDto> missing = new ArrayList<>(taken.subList(0, random.nextInt(11)));
+			taken = new ArrayList<>(taken.subList(missing.size(), taken.size()));
+
+			Transcript transcript = Transcript.of(catalog, taken);
+			GapPlanDto result = planner.plan(plan, transcript, 1_000_000_000L);
+			assertThat(result.isOptimal()).isTrue();
+
+			List<CourseDto> after = new ArrayList<>(taken);
+			after.addAll(result.getCourseList());
+			List<RequirementDto> evaluated = plan.evaluate(Transcript.of(catalog, after));
+			for (RequirementDto requirement : evaluated) {
+				if (!requirement.getMainField().equals("전체 수강학점") && !result.getUnreachable().contains(requirement.getMainField())) {
+					assertThat(requirement.getIsSatisfied()).as(requirement.getMainField()).isTrue();
+				}
+			}
+
+			int optimal = Integer.MAX_VALUE;
+			for (int mask = 0; mask < 1 << missing.size(); mask++) {
+				List<CourseDto> candidate = new ArrayList<>(taken);
+				int credit = 0;
+				for (int j = 0; j < missing.size(); j++) {
+					if ((mask & 1 << j) != 0) {
+						candidate.add(missing.get(j));
+						credit += missing.get(j).getCredit();
+					}
+				}
+				if (credit >= optimal) continue;
+				List<RequirementDto> candidateResult = plan.evaluate(Transcript.of(catalog, candidate));
+				boolean satisfied = true;
+				for (RequirementDto requirement : candidateResult) {
+					if (!requirement.getMainField().equals("전체 수강학점") && !result.getUnreachable().contains(requirement.getMainField())) {
+						satisfied &= requirement.getIsSatisfied();
+					}
+				}
+				if (satisfied) optimal = credit;
+			}
+			assertThat(result.getTotalCredit()).isEqualTo(optimal);
+		}
+	}
+
+	@Test
+	public void 플래너는_배타_그룹_과목을_한_영역에만_센다() {
+		// A 는 X, Y 모두 / B 는 X 만 / C 는 Y 만. 겹쳐 세면 A 하나로 둘 다 충족으로 보임
+		List<CourseDto> courses = List.of(
+				new CourseDto(1L, "A", "100000", "", 3, false, "20221"),
+				new CourseDto(2L, "B", "100001", "", 3, false, "20221"),
+				new CourseDto(3L, "C", "100002", "", 3, false, "20221"));
+		CatalogSnapshot catalog = new CatalogSnapshot(1, courses, List.of(), List.of(), Map.of());
+		PlanBuilder builder = new PlanBuilder(catalog);
+		OrdinalBitSet x = builder.emptyCourses();
+		x.set(0);
+		x.set(1);
+		OrdinalBitSet y = builder.emptyCourses();
+		y.set(0);
+		y.set(2);
+		BucketPlan bucketX = builder.bucket("X", "", x, null, null, true, "core");
+		BucketPlan bucketY = builder.bucket("Y", "", y, null, null, true, "core");
+		builder.requirement("X", "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucketX), Conditions.credit(bucketX.getIndex(), 3));
+		builder.requirement("Y", "", RequirementPlan.Mode.SUB_FIELDS, List.of(bucketY), Conditions.credit(bucketY.getIndex(), 3));
+		EvaluationPlan plan = builder.build(1);
+
+		GapPlanDto result = new GapPlanner().plan(plan, Transcript.of(catalog, List.of()), 1_000_000_000L);
+
+		assertThat(result.isOptimal()).isTrue();
+		assertThat(result.getTotalCredit()).isEqualTo(6);
+		assertThat(plan.evaluate(Transcript.of(catalog, result.getCourseList()))).allMatch(RequirementDto::getIsSatisfied);
+	}
+
+	@Test
+	public void 플래너_시간이_없어도_요소마다_탐욕해를_낸다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+		GapPlanner planner = new GapPlanner();
+		RuleSet rules = defaultRules();
+
+		Random random = new Random(13);
+		List<CourseDto> all = catalog.getCourses();
+		for (int i = 0; i < 100; i++) {
+			Long majorId = List.of(10L, 11L, 12L, 13L, 14L).get(random.nextInt(5));
+			EvaluationPlan plan = engine.getPlan(catalog, rules, majorId, 17 + random.nextInt(6), random.nextBoolean());
+			List<CourseDto> taken = new ArrayList<>(all);
+			Collections.shuffle(taken, random);
+			taken = new ArrayList<>(taken.subList(0, random.nextInt(taken.size())));
+
+			Transcript transcript = Transcript.of(catalog, taken);
+			GapPlanDto result = planner.plan(plan, transcript, 0L);
+
+			List<CourseDto> after = new ArrayList<>(taken);
+			after.addAll(result.getCourseList());
+			for (RequirementDto requirement : plan.evaluate(Transcript.of(catalog, after))) {
+				String mainField = requirement.getMainField();
+				if (mainField.equals("전체 수강학점") || result.getUnreachable().contains(mainField) || result.getUnsolved().contains(mainField)) continue;
+				assertThat(requirement.getIsSatisfied()).as(mainField).isTrue();
+			}
+		}
+	}
+
+	@Test
+	public void 기본_규칙은_모두_유효() throws Exception {
+		PlanCompiler compiler = new PlanCompiler();
+		defaultRules().getRules().forEach(compiler::validate);
+
+		String atLeast = "{\"mainField\": \"교양\", \"definition\": {\"buckets\": [{\"name\": \"a\", \"field\": \"교양\", \"numbers\": [\"001001\"]}],"
+				+ " \"condition\": {\"type\": \"AT_LEAST\", %s \"of\": [{\"type\": \"ANY_TAKEN\", \"bucket\": \"a\"}]}}}";
+		compiler.validate(objectMapper.readValue(String.format(atLeast, "\"count\": 1,"), GraduationRuleDto.class));
+		assertThatThrownBy(() -> compiler.validate(objectMapper.readValue(String.format(atLeast, ""), GraduationRuleDto.class)))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("count");
+	}
+
+	@Test
+	public void 카탈로그나_규칙_버전이_바뀌면_계획을_다시_만든다() throws Exception {
+		CatalogSnapshot catalog = catalog();
+		RuleSet rules = defaultRules();
+		GraduationEngine engine = new GraduationEngine(new PlanCompiler());
+
+		EvaluationPlan plan = engine.getPlan(catalog, rules, 10L, 20, true);
+		assertThat(engine.getPlan(catalog, rules, 10L, 20, true)).isSameAs(plan);
+
+		CatalogSnapshot next = new CatalogSnapshot(2, catalog.getCourses(), List.of(new Major(10L, "컴퓨터공학과", "CS", "공과대학", true)), List.of(), Map.of());
+		assertThat(engine.getPlan(next, rules, 10L, 20, true).getCatalogVersion()).isEqualTo(2);
+
+		RuleSet edited = new RuleSet(2, rules.getRules().subList(0, 1));
+		EvaluationPlan editedPlan = engine.getPlan(next, edited, 10L, 20, true);
+		assertThat(editedPlan.getRuleVersion()).isEqualTo(2);
+		assertThat(editedPlan.getRequirements()).extracting(RequirementPlan::getMainField).containsExactly("전공기초영어");
+	}
+}